@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -21,10 +22,16 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.UserPrefs.AddressBookFormat;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogEntry;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SectionedAddressBookStorage;
+import seedu.address.storage.SegmentedAuditLogStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,16 +64,34 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        SegmentedAuditLogStorage auditLogStorage = new SegmentedAuditLogStorage(
+                SegmentedAuditLogStorage.getAuditLogDirectoryPath(userPrefs.getAddressBookFilePath()));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, auditLogStorage,
+                config.getSaveMode(), config.getSaveIntervalMillis());
 
         model = initModelManager(storage, userPrefs);
+        initAuditLog(storage, model.getAuditLog());
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY) {
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+        if (userPrefs.getAddressBookFormat() == AddressBookFormat.SECTIONED) {
+            return new SectionedAddressBookStorage(userPrefs.getAddressBookFilePath(), config.isCompactDataFile());
+        }
+        return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, config.isCompactDataFile());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -93,6 +118,26 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Attaches the audit log history in {@code storage} to {@code auditLog}, so only its newest page stays in memory.
+     * If the history is empty, it is first filled with the entries loaded from the data file, which held the whole
+     * audit log before the history was kept separately.
+     */
+    private void initAuditLog(Storage storage, AuditLog auditLog) {
+        try {
+            if (storage.getEntryCount() == 0) {
+                List<AuditLogEntry> entries = auditLog.getEntries();
+                for (int i = entries.size() - 1; i >= 0; i--) {
+                    storage.appendAuditEntry(entries.get(i));
+                }
+            }
+            auditLog.setHistory(storage);
+        } catch (IOException | DataLoadingException e) {
+            logger.warning("Audit log history could not be opened, only the entries in the data file will be shown: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +222,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -14,9 +14,24 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * When changes to the address book are written to disk.
+     */
+    public enum SaveMode {
+        /** Every command waits for its changes to be written. */
+        SYNC,
+        /** Changes are written in the background, at most once every {@code saveIntervalMillis}. */
+        INTERVAL,
+        /** Changes are only written when the app exits. */
+        ON_EXIT
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private SaveMode saveMode = SaveMode.SYNC;
+    private long saveIntervalMillis = 1000;
+    private boolean isCompactDataFile = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +49,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public SaveMode getSaveMode() {
+        return saveMode;
+    }
+
+    public void setSaveMode(SaveMode saveMode) {
+        this.saveMode = saveMode;
+    }
+
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
+    public boolean isCompactDataFile() {
+        return isCompactDataFile;
+    }
+
+    public void setCompactDataFile(boolean isCompactDataFile) {
+        this.isCompactDataFile = isCompactDataFile;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +86,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveMode == otherConfig.saveMode
+                && saveIntervalMillis == otherConfig.saveIntervalMillis
+                && isCompactDataFile == otherConfig.isCompactDataFile;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveMode, saveIntervalMillis, isCompactDataFile);
     }
 
     @Override
@@ -60,6 +102,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveMode", saveMode)
+                .add("saveIntervalMillis", saveIntervalMillis)
+                .add("isCompactDataFile", isCompactDataFile)
                 .toString();
     }
 
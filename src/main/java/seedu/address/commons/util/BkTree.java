@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A set of words that can be searched for the words within a given {@link StringUtil#editDistance edit distance}
+ * of a query (a Burkhard-Keller tree).
+ * <p>
+ * Each child of a node is filed under its distance to that node. Since the edit distance is a metric, a word within
+ * {@code d} of the query can only lie under children whose distance to a node is within {@code d} of the query's own
+ * distance to that node, so a search with a small {@code d} looks at only a small part of the tree.
+ * <p>
+ * Words cannot be removed; callers that need removal should skip words that are no longer wanted and rebuild the tree
+ * when too many have accumulated.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the set.
+     *
+     * @return true if the set did not already contain {@code word}.
+     */
+    public boolean add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(node.word, word);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.childAt(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of words in the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Calls {@code action} with every word within {@code maxDistance} of {@code query}, and its distance.
+     */
+    public void search(String query, int maxDistance, ObjIntConsumer<String> action) {
+        requireNonNull(query);
+        requireNonNull(action);
+        if (root == null) {
+            return;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = StringUtil.editDistance(node.word, query);
+            if (distance <= maxDistance) {
+                action.accept(node.word, distance);
+            }
+            int to = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int i = Math.max(distance - maxDistance, 1); i <= to; i++) {
+                if (node.children[i] != null) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String word;
+        /** Child filed under each distance, or null; index 0 is never used. */
+        private Node[] children = NO_CHILDREN;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node childAt(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative ints stored as a compressed bitmap.
+ * <p>
+ * The ints are split into chunks of 2<sup>16</sup> by their high 16 bits. A chunk with few ints keeps them as a sorted
+ * array of their low 16 bits; a chunk with many keeps a plain bitmap of 2<sup>16</sup> bits. Sparse and dense sets both
+ * stay small, and intersections, unions and differences work a chunk at a time.
+ */
+public class CompressedBitmap {
+
+    /** Largest number of ints a chunk keeps as a sorted array; a bitmap chunk takes the same space. */
+    private static final int MAX_ARRAY_SIZE = 4096;
+    private static final int BITMAP_WORDS = (1 << 16) / Long.SIZE;
+
+    /** High 16 bits of each chunk, in increasing order. */
+    private char[] keys = new char[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int size;
+
+    /**
+     * Adds {@code value} to the set.
+     */
+    public void add(int value) {
+        checkValue(value);
+        char key = highBits(value);
+        int i = Arrays.binarySearch(keys, 0, size, key);
+        if (i >= 0) {
+            chunks[i] = chunks[i].add(lowBits(value));
+            return;
+        }
+        insertChunk(-i - 1, key, new ArrayChunk().add(lowBits(value)));
+    }
+
+    /**
+     * Removes {@code value} from the set, if present.
+     */
+    public void remove(int value) {
+        checkValue(value);
+        int i = Arrays.binarySearch(keys, 0, size, highBits(value));
+        if (i < 0) {
+            return;
+        }
+        chunks[i] = chunks[i].remove(lowBits(value));
+        if (chunks[i].cardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(chunks, i + 1, chunks, i, size - i - 1);
+            size--;
+            chunks[size] = null;
+        }
+    }
+
+    /**
+     * Returns true if {@code value} is in the set.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int i = Arrays.binarySearch(keys, 0, size, highBits(value));
+        return i >= 0 && chunks[i].contains(lowBits(value));
+    }
+
+    /**
+     * Returns the number of ints in the set.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += chunks[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Calls {@code action} with every int in the set, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns a new set of the ints in both this set and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].and(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the ints in this set, {@code other} or both.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], chunks[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the ints in this set but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.appendChunk(keys[i], chunks[i].andNot(other.chunks[j]));
+            } else {
+                result.appendChunk(keys[i], chunks[i].copy());
+            }
+        }
+        return result;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Bitmap values must not be negative");
+        }
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    private void insertChunk(int i, char key, Chunk chunk) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(chunks, i, chunks, i + 1, size - i);
+        keys[i] = key;
+        chunks[i] = chunk;
+        size++;
+    }
+
+    /**
+     * Appends {@code chunk}, whose key must be greater than all keys so far, unless it is empty.
+     */
+    private void appendChunk(char key, Chunk chunk) {
+        if (chunk.cardinality() > 0) {
+            insertChunk(size, key, chunk);
+        }
+    }
+
+    /**
+     * The low 16 bits of the ints in one chunk of the set.
+     * Operations that change a chunk return the chunk to use from then on, which may have another representation.
+     */
+    private interface Chunk {
+        boolean contains(char value);
+
+        Chunk add(char value);
+
+        Chunk remove(char value);
+
+        int cardinality();
+
+        void forEach(int base, IntConsumer action);
+
+        Chunk copy();
+
+        Chunk and(Chunk other);
+
+        Chunk or(Chunk other);
+
+        Chunk andNot(Chunk other);
+    }
+
+    /**
+     * A chunk of at most {@code MAX_ARRAY_SIZE} ints, kept as a sorted array.
+     */
+    private static final class ArrayChunk implements Chunk {
+        private char[] values;
+        private int cardinality;
+
+        ArrayChunk() {
+            this(new char[4], 0);
+        }
+
+        ArrayChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public Chunk add(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_SIZE) {
+                return toBitmap().add(value);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Chunk remove(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        public Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        public Chunk and(Chunk other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        public Chunk or(Chunk other) {
+            if (other instanceof BitmapChunk) {
+                return other.or(this);
+            }
+            ArrayChunk otherArray = (ArrayChunk) other;
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || (i < cardinality && values[i] < otherArray.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[count++] = otherArray.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayChunk union = new ArrayChunk(result, count);
+            return count > MAX_ARRAY_SIZE ? union.toBitmap() : union;
+        }
+
+        @Override
+        public Chunk andNot(Chunk other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        private BitmapChunk toBitmap() {
+            BitmapChunk bitmap = new BitmapChunk();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * A chunk of more than {@code MAX_ARRAY_SIZE} ints, kept as a bitmap of all 2<sup>16</sup> low values.
+     */
+    private static final class BitmapChunk implements Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapChunk() {
+            this(new long[BITMAP_WORDS]);
+        }
+
+        BitmapChunk(long[] words) {
+            this.words = words;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Chunk add(char value) {
+            set(value);
+            return this;
+        }
+
+        @Override
+        public Chunk remove(char value) {
+            if (contains(value)) {
+                words[value >>> 6] &= ~(1L << value);
+                cardinality--;
+            }
+            return cardinality > MAX_ARRAY_SIZE ? this : toArray();
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer action) {
+            for (int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public Chunk copy() {
+            return new BitmapChunk(words.clone());
+        }
+
+        @Override
+        public Chunk and(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapChunk) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                result[w] = words[w] & otherWords[w];
+            }
+            return shrink(new BitmapChunk(result));
+        }
+
+        @Override
+        public Chunk or(Chunk other) {
+            BitmapChunk result = new BitmapChunk(words.clone());
+            if (other instanceof ArrayChunk otherArray) {
+                for (int i = 0; i < otherArray.cardinality; i++) {
+                    result.set(otherArray.values[i]);
+                }
+                return result;
+            }
+            long[] otherWords = ((BitmapChunk) other).words;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                result.words[w] |= otherWords[w];
+            }
+            return new BitmapChunk(result.words);
+        }
+
+        @Override
+        public Chunk andNot(Chunk other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayChunk otherArray) {
+                for (int i = 0; i < otherArray.cardinality; i++) {
+                    char value = otherArray.values[i];
+                    result[value >>> 6] &= ~(1L << value);
+                }
+            } else {
+                long[] otherWords = ((BitmapChunk) other).words;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result[w] &= ~otherWords[w];
+                }
+            }
+            return shrink(new BitmapChunk(result));
+        }
+
+        private void set(char value) {
+            if (!contains(value)) {
+                words[value >>> 6] |= 1L << value;
+                cardinality++;
+            }
+        }
+
+        private ArrayChunk toArray() {
+            char[] values = new char[cardinality];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayChunk(values, cardinality);
+        }
+
+        private static Chunk shrink(BitmapChunk chunk) {
+            return chunk.cardinality > MAX_ARRAY_SIZE ? chunk : chunk.toArray();
+        }
+    }
+}
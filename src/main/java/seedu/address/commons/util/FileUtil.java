@@ -1,10 +1,19 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 
 /**
  * Writes and reads files
@@ -12,6 +21,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 1 << 16;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +86,108 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced by a rename, so it is never seen half written, but it is not synced to disk; use
+     * {@link #writeAtomically(Path, ContentWriter)} for files whose contents must survive a crash.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        replace(file, out -> out.write(bytes), false);
+    }
+
+    /**
+     * Writes the contents produced by {@code writer} to {@code file} so that the file is never left half written.
+     * The contents go to a temporary file in the same directory, which is synced to disk and then renamed over
+     * {@code file}; after a crash, {@code file} holds either its old or its new contents.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * An existing file keeps its permissions.
+     *
+     * @throws IOException if the contents could not be written, in which case {@code file} is left untouched.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        replace(file, writer, true);
+    }
+
+    /**
+     * Appends {@code bytes} to the end of {@code file} and syncs the file to disk before returning.
+     * A crash during the append may leave a prefix of {@code bytes} at the end of the file.
+     *
+     * @throws IOException if the file does not exist or could not be written.
+     */
+    public static void appendDurably(Path file, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static void replace(Path file, ContentWriter writer, boolean isSynced) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        createParentDirsOfFile(file.toAbsolutePath());
+        Path tempFile = Files.createTempFile(dir, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            copyPermissions(file, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                writer.writeTo(out);
+                out.flush();
+                if (isSynced) {
+                    channel.force(true);
+                }
+            }
+            moveReplacing(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        if (isSynced) {
+            syncDirectory(dir);
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions of {@code source}, if {@code source} exists and the platform has POSIX
+     * permissions; temporary files are otherwise readable by their owner only.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView == null || !Files.exists(source)) {
+            return;
+        }
+        Files.getFileAttributeView(target, PosixFileAttributeView.class)
+                .setPermissions(sourceView.readAttributes().permissions());
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Makes the rename of a file in {@code dir} durable, on platforms that allow directories to be synced.
+     */
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened or synced on some platforms, e.g. Windows
+        }
+    }
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}. The stream is closed by the caller.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
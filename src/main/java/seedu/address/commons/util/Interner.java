@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes equal immutable values to a single shared instance, so that values repeated across many records,
+ * such as tag names or team ids, are held in memory once.
+ * <p>
+ * Values are held weakly: a canonical instance is forgotten once nothing else refers to it, so values that are no
+ * longer in use do not accumulate. The table is split into stripes with their own locks, so that persons converted
+ * in parallel rarely wait on each other.
+ *
+ * @param <T> the type of the values, which must be immutable and have value-based {@code equals}
+ */
+public class Interner<T> {
+
+    private static final int STRIPE_COUNT = 16;
+
+    private final Map<T, WeakReference<T>>[] stripes;
+
+    /**
+     * Creates an interner that holds no values.
+     */
+    @SuppressWarnings("unchecked")
+    public Interner() {
+        stripes = new Map[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if no equal value is
+     * currently interned.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        int hash = value.hashCode();
+        Map<T, WeakReference<T>> stripe = stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+        synchronized (stripe) {
+            WeakReference<T> reference = stripe.get(value);
+            T canonical = reference == null ? null : reference.get();
+            if (canonical == null) {
+                stripe.put(value, new WeakReference<>(value));
+                canonical = value;
+            }
+            return canonical;
+        }
+    }
+}
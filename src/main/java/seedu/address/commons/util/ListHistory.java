@@ -0,0 +1,252 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The recent versions of a list, each a {@link PersistentList}, together with the changes that lead from one version
+ * to the next.
+ * <p>
+ * A list that makes every change through its history can return to any recent version, or come back from it, by
+ * undoing or redoing only the changes in between, each in a single step on the list and whatever it indexes.
+ * Changing the list after returning to an older version forgets the versions that were ahead of it. Only the newest
+ * changes are kept; a version older than those can no longer be reached change by change.
+ * <p>
+ * The changes between two kept versions can also be read without moving to either, e.g. to save just those changes.
+ * All methods synchronize on the history, so it may be read from another thread while the list is being changed.
+ *
+ * @param <E> the type of the elements, which should themselves be immutable
+ */
+public final class ListHistory<E> {
+
+    /** Number of changes kept by default. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * A list that the changes between two versions are applied to, one at a time.
+     */
+    public interface Target<E> {
+        /** Replaces the element at {@code index} with {@code element}. */
+        void set(int index, E element);
+
+        /** Inserts {@code element} at {@code index}. */
+        void add(int index, E element);
+
+        /** Removes the element at {@code index}. */
+        void remove(int index);
+
+        /** Replaces all the elements with {@code elements}. */
+        void setAll(PersistentList<E> elements);
+    }
+
+    /**
+     * One change between two versions, as returned by {@link #changesBetween}: {@code before} is null for an insertion
+     * at {@code index}, {@code after} is null for a removal, and neither is null for a replacement.
+     */
+    public record Edit<E>(int index, E before, E after) {}
+
+    private final int capacity;
+    /** Changes kept, oldest first; the first {@code position} of them are in effect. */
+    private final List<Change<E>> changes = new ArrayList<>();
+    /** The version before the oldest change kept. */
+    private PersistentList<E> base;
+    private int position;
+
+    /**
+     * Creates a history of an empty list that keeps {@link #DEFAULT_CAPACITY} changes.
+     */
+    public ListHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a history of an empty list that keeps the newest {@code capacity} changes.
+     */
+    public ListHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.base = PersistentList.empty();
+    }
+
+    /**
+     * Returns the current version of the list. Takes constant time.
+     */
+    public synchronized PersistentList<E> current() {
+        return versionAt(position);
+    }
+
+    /**
+     * Records that the element at {@code index} was replaced by {@code element}.
+     */
+    public synchronized void set(int index, E element) {
+        PersistentList<E> current = current();
+        record(new Change<>(Kind.SET, index, current.get(index), element, current.set(index, element)));
+    }
+
+    /**
+     * Records that {@code element} was inserted at {@code index}.
+     */
+    public synchronized void add(int index, E element) {
+        record(new Change<>(Kind.ADD, index, null, element, current().add(index, element)));
+    }
+
+    /**
+     * Records that the element at {@code index} was removed.
+     */
+    public synchronized void remove(int index) {
+        PersistentList<E> current = current();
+        record(new Change<>(Kind.REMOVE, index, current.get(index), null, current.remove(index)));
+    }
+
+    /**
+     * Records that all the elements were replaced by {@code elements}.
+     */
+    public synchronized void setAll(PersistentList<E> elements) {
+        requireNonNull(elements);
+        record(new Change<>(Kind.SET_ALL, 0, null, null, elements));
+    }
+
+    /**
+     * Forgets all versions, making {@code version} the current and only one.
+     */
+    public synchronized void restart(PersistentList<E> version) {
+        requireNonNull(version);
+        changes.clear();
+        base = version;
+        position = 0;
+    }
+
+    /**
+     * Applies to {@code target}, which must hold the current version, the changes that turn it into {@code version},
+     * and makes {@code version} current. The search for {@code version} takes time proportional to the number of
+     * changes between the two versions.
+     *
+     * @return false if {@code version} is not one of the versions kept, in which case nothing is applied.
+     */
+    public synchronized boolean moveTo(PersistentList<E> version, Target<E> target) {
+        requireNonNull(version);
+        requireNonNull(target);
+        int destination = find(version);
+        if (destination == -1) {
+            return false;
+        }
+        while (position > destination) {
+            position--;
+            undo(changes.get(position), target);
+        }
+        while (position < destination) {
+            redo(changes.get(position), target);
+            position++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns, in order, the changes that turn version {@code from} of the list into version {@code to}, undoing
+     * changes if {@code to} is the older one. Neither version becomes current. The search for the versions takes time
+     * proportional to the number of changes between them and the current version.
+     *
+     * @return null if either version is not one of the versions kept, or if all the elements were replaced in between.
+     */
+    public synchronized List<Edit<E>> changesBetween(PersistentList<E> from, PersistentList<E> to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int start = find(from);
+        int end = find(to);
+        if (start == -1 || end == -1) {
+            return null;
+        }
+        List<Edit<E>> edits = new ArrayList<>(Math.abs(end - start));
+        for (int i = start; i < end; i++) {
+            Change<E> change = changes.get(i);
+            if (change.kind() == Kind.SET_ALL) {
+                return null;
+            }
+            edits.add(new Edit<>(change.index(), change.before(), change.after()));
+        }
+        for (int i = start - 1; i >= end; i--) {
+            Change<E> change = changes.get(i);
+            if (change.kind() == Kind.SET_ALL) {
+                return null;
+            }
+            edits.add(new Edit<>(change.index(), change.after(), change.before()));
+        }
+        return edits;
+    }
+
+    /**
+     * Returns the number of changes in effect at which the list was {@code version}, looking outwards from the
+     * current position, or -1 if there is none.
+     */
+    private int find(PersistentList<E> version) {
+        for (int distance = 0; position - distance >= 0 || position + distance <= changes.size(); distance++) {
+            if (position - distance >= 0 && versionAt(position - distance) == version) {
+                return position - distance;
+            }
+            if (position + distance <= changes.size() && versionAt(position + distance) == version) {
+                return position + distance;
+            }
+        }
+        return -1;
+    }
+
+    private PersistentList<E> versionAt(int changeCount) {
+        return changeCount == 0 ? base : changes.get(changeCount - 1).result();
+    }
+
+    private void record(Change<E> change) {
+        changes.subList(position, changes.size()).clear();
+        changes.add(change);
+        position++;
+        if (changes.size() > capacity) {
+            // Drop the oldest half at once, so that dropping costs constant time per change.
+            int dropped = changes.size() / 2;
+            base = versionAt(dropped);
+            changes.subList(0, dropped).clear();
+            position -= dropped;
+        }
+    }
+
+    private void undo(Change<E> change, Target<E> target) {
+        switch (change.kind()) {
+        case SET:
+            target.set(change.index(), change.before());
+            break;
+        case ADD:
+            target.remove(change.index());
+            break;
+        case REMOVE:
+            target.add(change.index(), change.before());
+            break;
+        default:
+            target.setAll(versionAt(position));
+        }
+    }
+
+    private void redo(Change<E> change, Target<E> target) {
+        switch (change.kind()) {
+        case SET:
+            target.set(change.index(), change.after());
+            break;
+        case ADD:
+            target.add(change.index(), change.after());
+            break;
+        case REMOVE:
+            target.remove(change.index());
+            break;
+        default:
+            target.setAll(change.result());
+        }
+    }
+
+    private enum Kind { SET, ADD, REMOVE, SET_ALL }
+
+    /**
+     * One change to the list, with the elements it replaced and put in, and the version it led to.
+     */
+    private record Change<E>(Kind kind, int index, E before, E after, PersistentList<E> result) {}
+}
@@ -0,0 +1,119 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The position of each element of a list by its key, for a list whose elements all have different keys.
+ * <p>
+ * The list tells the index about each change right after making it. Replacing an element updates its position at
+ * once, but an insertion or removal shifts every element from it on, so those positions are only marked stale and
+ * updated together the next time one of them is looked up. A run of changes thus costs one pass over the shifted
+ * positions, rather than one pass per change.
+ *
+ * @param <E> the type of the elements
+ */
+public final class PositionIndex<E> {
+
+    private final List<E> list;
+    private final Function<? super E, String> keyOf;
+    /** Position of each element by key; those from {@code staleFrom} may be stale. */
+    private final Map<String, Integer> positions = new HashMap<>();
+    /** First position that insertions, removals or reordering may have shifted since it was last updated. */
+    private int staleFrom;
+
+    /**
+     * Creates an index of the positions of the elements of {@code list}.
+     *
+     * @param keyOf returns the key of an element
+     */
+    public PositionIndex(List<E> list, Function<? super E, String> keyOf) {
+        requireNonNull(list);
+        requireNonNull(keyOf);
+        this.list = list;
+        this.keyOf = keyOf;
+        rebuild();
+    }
+
+    /**
+     * Returns true if the list holds an element with the given {@code key}.
+     */
+    public boolean contains(String key) {
+        return positions.containsKey(key);
+    }
+
+    /**
+     * Returns the keys of the elements in the list.
+     */
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(positions.keySet());
+    }
+
+    /**
+     * Returns the position of the element with the given {@code key}, or -1 if there is none.
+     */
+    public int positionOf(String key) {
+        Integer position = positions.get(key);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= staleFrom) {
+            refresh();
+            position = positions.get(key);
+        }
+        return position;
+    }
+
+    /**
+     * Records that {@code element} was inserted at {@code index}, shifting the elements from there on.
+     */
+    public void added(int index, E element) {
+        positions.put(keyOf.apply(element), index);
+        staleFrom = Math.min(staleFrom, index);
+    }
+
+    /**
+     * Records that the element at {@code index} was replaced, from {@code before} to {@code after}.
+     */
+    public void replaced(int index, E before, E after) {
+        positions.remove(keyOf.apply(before));
+        positions.put(keyOf.apply(after), index);
+    }
+
+    /**
+     * Records that {@code element} was removed from {@code index}, shifting the elements after it.
+     */
+    public void removed(int index, E element) {
+        positions.remove(keyOf.apply(element));
+        staleFrom = Math.min(staleFrom, index);
+    }
+
+    /**
+     * Records that the elements of the list were reordered, but not added or removed.
+     */
+    public void reordered() {
+        staleFrom = 0;
+    }
+
+    /**
+     * Indexes the positions of all the elements of the list again, e.g. after they were all replaced.
+     */
+    public void rebuild() {
+        positions.clear();
+        staleFrom = 0;
+        refresh();
+    }
+
+    private void refresh() {
+        for (int i = staleFrom; i < list.size(); i++) {
+            positions.put(keyOf.apply(list.get(i)), i);
+        }
+        staleFrom = list.size();
+    }
+}
@@ -12,6 +12,16 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    private static final Interner<String> STRINGS = new Interner<>();
+
+    /**
+     * Returns the canonical instance of {@code s}, shared by every caller that interns an equal string.
+     * Unlike {@link String#intern()}, strings that are no longer referenced elsewhere can be reclaimed.
+     */
+    public static String intern(String s) {
+        return STRINGS.intern(s);
+    }
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -65,4 +75,29 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of single character
+     * insertions, deletions and substitutions that turn one into the other.
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
 }
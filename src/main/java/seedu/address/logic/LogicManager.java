@@ -4,22 +4,22 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.Command.Capability;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.CreateTeamCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.audit.AuditLogEntry;
 import seedu.address.model.person.Person;
-import seedu.address.model.team.Team;
 import seedu.address.storage.Storage;
 
 /**
@@ -31,13 +31,6 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
-    private static final String AUDIT_ACTION = "AUDIT";
-    private static final String EXIT_ACTION = "EXIT";
-    private static final String HELP_ACTION = "HELP";
-    private static final String LIST_ACTION = "LIST";
-    private static final String VIEW_ACTION = "VIEW";
-    private static final String FIND_ACTION = "FIND";
-
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -51,42 +44,30 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
-
-        // Initialize team and person ID counter
-        List<Team> teams = model.getAddressBook().getTeamList();
-
-        if (!teams.isEmpty()) {
-            long maxTeamId = teams.stream()
-                    .map(Team::getId)
-                    .filter(id -> id.startsWith("T"))
-                    .mapToLong(id -> Long.parseLong(id.substring(1)))
-                    .max()
-                    .orElse(0);
-            CreateTeamCommand.setNextId(maxTeamId + 1);
-        }
-
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        ReadOnlyAddressBook backupAddressBook = model.getAddressBook();
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        AddressBook.Snapshot snapshot = model.snapshotAddressBook();
 
         try {
             commandResult = command.execute(model);
-            storage.saveAddressBook(model.getAddressBook());
-            if (shouldLogCommand(command)) {
-                String action = extractAction(command);
-                String details = generateDetails(commandResult);
-                model.getAuditLog().addEntry(action, details, LocalDateTime.now());
+            if (!command.isReadOnly()) {
+                auditAndSave(command, commandResult);
+                model.commitAddressBook(snapshot);
             }
+        } catch (CommandException e) {
+            // A command may fail after changing part of the address book.
+            model.restoreAddressBook(snapshot);
+            throw e;
         } catch (AccessDeniedException e) {
-            model.setAddressBook(backupAddressBook);
+            model.restoreAddressBook(snapshot);
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            model.setAddressBook(backupAddressBook);
+            model.restoreAddressBook(snapshot);
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
@@ -119,20 +100,34 @@ public class LogicManager implements Logic {
     }
 
     /**
-     * Extracts the action type from the given command.
-     *
-     * @param command The command executed.
-     * @return The action type as a string.
+     * Records {@code command} in the audit log if it declares {@link Capability#WRITES_AUDIT} and saves the address
+     * book, so the entry is saved together with the change it describes. The entry is appended to the stored audit
+     * history only once the save succeeds, and is taken back out of the audit log if it fails.
      */
-    private String extractAction(Command command) {
+    private void auditAndSave(Command command, CommandResult result) throws IOException {
+        AuditLogEntry entry = null;
+        if (command.getCapabilities().contains(Capability.WRITES_AUDIT)) {
+            String action = command.getCommandWord().toUpperCase();
+            String details = generateDetails(result);
+            entry = new AuditLogEntry(LocalDateTime.now(), action, details);
+            model.getAuditLog().addEntry(entry);
+        }
         try {
-            java.lang.reflect.Field field = command.getClass().getField("COMMAND_WORD");
-            return ((String) field.get(null)).toUpperCase();
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            // Fallback to class name if COMMAND_WORD field doesn't exist
-            logger.warning("Could not access COMMAND_WORD for " + command.getClass().getSimpleName());
-            String className = command.getClass().getSimpleName();
-            return className.replace("Command", "").toUpperCase();
+            storage.saveAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            if (entry != null) {
+                model.getAuditLog().removeNewestEntry(entry);
+            }
+            throw e;
+        }
+        if (entry == null) {
+            return;
+        }
+        // The change is saved by now, so failing to record it in the history must not undo it.
+        try {
+            storage.appendAuditEntry(entry);
+        } catch (IOException e) {
+            logger.warning("Could not append to the audit history: " + e);
         }
     }
 
@@ -145,24 +140,6 @@ public class LogicManager implements Logic {
         return result.getFeedbackToUser();
     }
 
-    /**
-     * Determines if a command should be logged in the audit log.
-     * Only commands that modify state are logged.
-     *
-     * @param command The command to check.
-     * @return true if the command should be logged, false otherwise.
-     */
-    private boolean shouldLogCommand(Command command) {
-        String action = extractAction(command);
-        // Exclude read-only commands
-        return !action.equals(AUDIT_ACTION)
-                && !action.equals(EXIT_ACTION)
-                && !action.equals(HELP_ACTION)
-                && !action.equals(LIST_ACTION)
-                && !action.equals(VIEW_ACTION)
-                && !action.equals(FIND_ACTION);
-    }
-
     @Override
     public String getOrganizationHierarchyString() {
         return model.getOrganizationHierarchyString();
@@ -52,8 +52,8 @@ public class Messages {
         if (!Objects.equals(person.gitHubUsername().value(), "")) {
             builder.append("\t- GitHub Username: ").append(person.gitHubUsername().value()).append("\n");
         }
-        if (person.salary().toDouble() != 0.0) {
-            builder.append("\t- Salary: ").append(String.valueOf(person.salary().toDouble())).append("\n");
+        if (person.salary().inCents() != 0) {
+            builder.append("\t- Salary: ").append(String.valueOf(person.salary().value())).append("\n");
         }
         if (!person.tags().isEmpty()) {
             builder.append("\t- Tags: ");
@@ -8,7 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -39,6 +38,7 @@ public class AddCommand extends Command {
 
 
     public static final String MESSAGE_SUCCESS = "New person added:\n%1$s";
+    public static final String MESSAGE_NO_FREE_ID = "There are no more employee ids to give to new persons";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book";
 
     private final Person toAdd;
@@ -51,6 +51,16 @@ public class AddCommand extends Command {
         toAdd = person;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -58,25 +68,16 @@ public class AddCommand extends Command {
         if (model.hasPerson(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
-        Set<Long> usedIds = model.getAddressBook().getPersonList().stream().map(Person::id)
-                .map(id -> Long.parseLong(id.substring(1))).collect(Collectors.toSet());
-
-        long newId = findNextAvailableId(usedIds);
-        Person personWithId = new Person(String.format("E%04d", newId), toAdd.name(), toAdd.phone(),
+        String id = model.nextPersonId();
+        if (!Person.isValidId(id)) {
+            throw new CommandException(MESSAGE_NO_FREE_ID);
+        }
+        Person personWithId = new Person(id, toAdd.name(), toAdd.phone(),
                 toAdd.email(), toAdd.address(), toAdd.gitHubUsername(), toAdd.tags());
         model.addPerson(personWithId);
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
-    /**
-     * Finds the next available ID that doesn't exist in the addressbook.
-     * Scans sequentially from 1 until a gap is found.
-     */
-    public static long findNextAvailableId(Set<Long> usedIds) {
-        return java.util.stream.LongStream.iterate(1, id -> id + 1)
-                .filter(id -> !usedIds.contains(id)).findFirst().getAsLong();
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,35 +3,88 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.audit.AuditLog;
 import seedu.address.model.audit.AuditLogEntry;
 
 /**
- * Displays the audit log of all past actions.
+ * Displays one page of the audit log of past actions, newest first.
  */
 public class AuditCommand extends Command {
 
     public static final String COMMAND_WORD = "audit";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows a page of the audit log, newest actions first.\n"
+            + "Parameters: [PAGE] (must be a positive integer, 1 by default)\n"
+            + "Example: " + COMMAND_WORD + " 2";
+
     public static final String MESSAGE_SUCCESS = "Audit Log:\n%s";
+    public static final String MESSAGE_PAGE_FOOTER = "Page %1$d of %2$d";
+    public static final String MESSAGE_PAGE_OUT_OF_RANGE = "Page %1$d does not exist; the audit log has %2$d page(s).";
+    public static final String MESSAGE_READ_FAILED = "Could not read the audit log: %1$s";
+
+    private final int page;
+
+    /**
+     * Creates an AuditCommand showing the newest page of the audit log.
+     */
+    public AuditCommand() {
+        this(1);
+    }
+
+    /**
+     * Creates an AuditCommand showing the given 1-based {@code page} of the audit log.
+     */
+    public AuditCommand(int page) {
+        if (page < 1) {
+            throw new IllegalArgumentException("Page must be positive");
+        }
+        this.page = page;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
 
     @Override
-    public CommandResult execute(Model model) {
+    public Set<Capability> getCapabilities() {
+        return Set.of();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
         AuditLog auditLog = model.getAuditLog();
-        List<AuditLogEntry> entries = auditLog.getEntries();
-
-        if (entries.isEmpty()) {
+        int pageCount = auditLog.getPageCount();
+        if (pageCount == 0) {
             return new CommandResult("No audit log entries found.");
         }
+        if (page > pageCount) {
+            throw new CommandException(String.format(MESSAGE_PAGE_OUT_OF_RANGE, page, pageCount));
+        }
+
+        List<AuditLogEntry> entries;
+        try {
+            entries = auditLog.getPage(page);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, e.getMessage()), e);
+        }
 
         StringBuilder result = new StringBuilder("Audit Log:\n");
         for (AuditLogEntry entry : entries) {
             result.append(entry.toString()).append("\n");
         }
+        if (pageCount > 1) {
+            result.append(String.format(MESSAGE_PAGE_FOOTER, page, pageCount)).append("\n");
+        }
 
         return new CommandResult(result.toString());
     }
@@ -43,12 +96,18 @@ public class AuditCommand extends Command {
         }
 
         // instanceof handles nulls
-        return other instanceof AuditCommand;
+        if (!(other instanceof AuditCommand)) {
+            return false;
+        }
+
+        AuditCommand otherAuditCommand = (AuditCommand) other;
+        return page == otherAuditCommand.page;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
+                .add("page", page)
                 .toString();
     }
 }
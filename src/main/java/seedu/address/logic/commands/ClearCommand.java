@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.audit.AuditLog;
@@ -15,6 +17,16 @@ public class ClearCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Address book has been cleared!";
 
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
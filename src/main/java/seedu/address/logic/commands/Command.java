@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import java.util.Set;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -8,6 +10,17 @@ import seedu.address.model.Model;
  */
 public abstract class Command {
 
+    /**
+     * The ways a command can change the address book.
+     * A command with none of them is read-only: it only changes what is shown to the user.
+     */
+    public enum Capability {
+        /** Adds, edits or removes persons or teams, so the address book has to be saved after it. */
+        MUTATES_ADDRESS_BOOK,
+        /** Is recorded in the audit log when it succeeds. */
+        WRITES_AUDIT
+    }
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,4 +30,21 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the word that invokes this command, e.g. {@code "add"}.
+     */
+    public abstract String getCommandWord();
+
+    /**
+     * Returns the ways this command can change the address book.
+     */
+    public abstract Set<Capability> getCapabilities();
+
+    /**
+     * Returns true if this command never changes the address book, so nothing has to be saved or audited after it.
+     */
+    public boolean isReadOnly() {
+        return getCapabilities().isEmpty();
+    }
+
 }
@@ -2,13 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -29,11 +28,7 @@ public class CreateTeamCommand extends Command {
     public static final String MESSAGE_SUCCESS = "New team created: %1$s";
     public static final String MESSAGE_DUPLICATE_TEAM = "This team already exists in the address book";
     public static final String MESSAGE_LEADER_NOT_FOUND = "No person with ID %1$s found";
-
-    /**
-     * Static id generator starting at 1 so first id is T0001.
-     */
-    private static long nextId = 1;
+    public static final String MESSAGE_NO_FREE_ID = "There are no more team ids to give to new teams";
 
     private final String teamName;
     private final String leaderPersonId;
@@ -52,6 +47,16 @@ public class CreateTeamCommand extends Command {
         this.leaderPersonId = leaderPersonId;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -62,15 +67,15 @@ public class CreateTeamCommand extends Command {
             throw new CommandException(e.getMessage());
         }
 
-        List<Person> persons = model.getFilteredPersonList();
-        Optional<Person> leaderOpt = persons.stream()
-                .filter(p -> leaderPersonId.equals(p.id()))
-                .findFirst();
+        Optional<Person> leaderOpt = Optional.ofNullable(model.findShownById(leaderPersonId));
         if (leaderOpt.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_LEADER_NOT_FOUND, leaderPersonId));
         }
 
-        String id = String.format("T%04d", nextId++);
+        String id = model.nextTeamId();
+        if (!Team.isValidId(id)) {
+            throw new CommandException(MESSAGE_NO_FREE_ID);
+        }
         Team toAdd = new Team(id, validatedName);
 
         Person leader = leaderOpt.get();
@@ -78,18 +83,7 @@ public class CreateTeamCommand extends Command {
         updateLeaderPersonDetails(model, leaderOpt, id);
 
 
-        if (model.hasTeam(toAdd)) {
-            // revert id increment
-            nextId--;
-            throw new CommandException(MESSAGE_DUPLICATE_TEAM);
-        }
-
-        ReadOnlyAddressBook ab = model.getAddressBook();
-        boolean nameDuplicate = ab.getTeamList().stream()
-                .anyMatch(t -> t.getTeamName().equals(toAdd.getTeamName()));
-        if (nameDuplicate) {
-            // revert id increment
-            nextId--;
+        if (model.hasTeam(toAdd) || model.hasTeamName(toAdd.getTeamName())) {
             throw new CommandException(MESSAGE_DUPLICATE_TEAM);
         }
 
@@ -109,14 +103,6 @@ public class CreateTeamCommand extends Command {
         }
     }
 
-    /**
-     * Sets the next ID based on the highest existing ID in the team list.
-     * Should be called when the application starts.
-     */
-    public static void setNextId(long id) {
-        nextId = id;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,7 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
-import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -33,15 +33,23 @@ public class DeleteCommand extends Command {
         this.employeeId = employeeId;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Person personToDelete = lastShownList.stream()
-                .filter(person -> person.id().equals(employeeId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, employeeId)));
+        Person personToDelete = model.findShownById(employeeId);
+        if (personToDelete == null) {
+            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, employeeId));
+        }
 
         if (!personToDelete.teamIds().isEmpty()) {
             String teamList = "[" + String.join(", ", personToDelete.teamIds().stream()
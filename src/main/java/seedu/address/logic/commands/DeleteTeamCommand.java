@@ -5,11 +5,11 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -19,7 +19,7 @@ import seedu.address.model.team.Team;
 /**
  * Deletes a team identified by its team ID.
  * Also removes the team id from all member Person objects and removes the team
- * from any parent's subteams by scanning all teams in the address book.
+ * from the subteams of the team it is nested in, if any.
  */
 public class DeleteTeamCommand extends Command {
 
@@ -47,16 +47,21 @@ public class DeleteTeamCommand extends Command {
         this.teamId = teamId;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        ReadOnlyAddressBook ab = model.getAddressBook();
-        Team teamToDelete = ab.getTeamList().stream()
-                .filter(t -> Objects.equals(t.getId(), teamId))
-                .findFirst()
-                .orElse(null);
-
+        Team teamToDelete = model.getTeamById(teamId);
         if (teamToDelete == null) {
             throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
         }
@@ -69,13 +74,13 @@ public class DeleteTeamCommand extends Command {
         // Remove team id from member Person objects
         updatePersonDetails(model, teamToDelete);
 
-        // Remove references to this team from any team's subteams by scanning all teams
-        for (Team potentialParent : ab.getTeamList()) {
-            Team editedParent = getEditedParentDetails(potentialParent);
-            if (editedParent == null) {
-                continue;
+        // Remove this team from the subteams of the team it is nested in, which the hierarchy records
+        Team parent = model.getParentTeam(teamId);
+        if (parent != null) {
+            Team editedParent = getEditedParentDetails(parent);
+            if (editedParent != null) {
+                model.setTeam(parent, editedParent);
             }
-            model.setTeam(potentialParent, editedParent);
         }
 
         // Remove the team from the model
@@ -87,7 +92,7 @@ public class DeleteTeamCommand extends Command {
     private void updatePersonDetails(Model model, Team teamToDelete) throws CommandException {
         List<String> memberIds = new ArrayList<>(teamToDelete.getMembers());
         for (String memberId : memberIds) {
-            Person person = model.find(p -> Objects.equals(p.id(), memberId));
+            Person person = model.findById(memberId);
             if (person == null) {
                 continue;
             }
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Lists all persons whose tags match a boolean expression over tags.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons whose tags match the given "
+            + "expression. Tags can be combined with AND, OR, NOT and parentheses; NOT binds tightest, then AND.\n"
+            + "Parameters: TAG [AND|OR TAG]...\n"
+            + "Example: " + COMMAND_WORD + " friends AND (colleagues OR NOT owesMoney)";
+
+    private final TagExpression expression;
+
+    public FilterCommand(TagExpression expression) {
+        requireNonNull(expression);
+        this.expression = expression;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of();
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<String> matchingIds = model.findPersonIdsByTags(expression);
+        model.updateFilteredPersonList(person -> matchingIds.contains(person.id()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FilterCommand otherFilterCommand)) {
+            return false;
+        }
+        return expression.equals(otherFilterCommand.expression);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("expression", expression)
+                .toString();
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryResult;
+
+/**
+ * Lists all persons meeting every one of a set of conditions on their fields, using the most selective index
+ * available, and optionally explains how the persons were found.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String EXPLAIN_FLAG = "--explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons meeting all of the given "
+            + "conditions. Name and GitHub conditions match part of the field, ignoring case; a salary condition "
+            + "compares with >, >=, <, <= or = (the default).\n"
+            + "Parameters: [" + PREFIX_ID + " ID] [" + PREFIX_NAME + " KEYWORD]... [" + PREFIX_TAG + " TAG]... ["
+            + PREFIX_TEAM + " TEAM_ID]... [" + PREFIX_SALARY + " [OPERATOR]AMOUNT]... [" + PREFIX_GITHUB
+            + " TEXT]... [" + EXPLAIN_FLAG + "]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + " alice " + PREFIX_TAG + " backend " + PREFIX_TEAM
+            + " T0003 " + PREFIX_SALARY + " >5000 " + EXPLAIN_FLAG;
+
+    public static final String MESSAGE_EXPLAIN = "Plan: %1$s\nChecked %2$d candidates in %3$.3f ms";
+
+    private final List<Condition> conditions;
+    private final boolean isExplain;
+
+    /**
+     * Creates a FindCommand that lists the persons meeting all of {@code conditions}, and explains how they were
+     * found if {@code isExplain}.
+     */
+    public FindCommand(List<Condition> conditions, boolean isExplain) {
+        requireNonNull(conditions);
+        this.conditions = List.copyOf(conditions);
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of();
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        long start = System.nanoTime();
+        QueryResult result = model.findPersons(conditions);
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        Set<String> matchingIds = result.personIds();
+        model.updateFilteredPersonList(person -> matchingIds.contains(person.id()));
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (isExplain) {
+            message += "\n" + String.format(Locale.ROOT, MESSAGE_EXPLAIN, result.plan(), result.candidatesChecked(),
+                    elapsedMillis);
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FindCommand otherFindCommand)) {
+            return false;
+        }
+        return conditions.equals(otherFindCommand.conditions) && isExplain == otherFindCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("conditions", conditions)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
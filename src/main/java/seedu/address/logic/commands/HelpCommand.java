@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import java.util.Set;
+
 import seedu.address.model.Model;
 
 /**
@@ -14,6 +16,16 @@ public class HelpCommand extends Command {
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of();
+    }
+
     @Override
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -40,6 +39,16 @@ public class ImportCommand extends Command {
         this.filePath = filePath;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     /**
      * Copies the data from the given path as Person objects into main address book
      * @param model {@code Model} which the command should operate on.
@@ -69,24 +78,16 @@ public class ImportCommand extends Command {
      * @param list a list of Person objects
      */
     private List<String> addImportedPersons(Model model, List<Person> list) {
-        Set<Long> usedIds = model.getAddressBook().getPersonList().stream().map(Person::id)
-                .filter(id -> id.startsWith("E")).map(id -> Long.parseLong(id.substring(1)))
-                .collect(Collectors.toSet());
-
         // Add each imported person into the model iteratively.
         List<String> skippedPersons = new ArrayList<>();
         for (Person person : list) {
             try {
-                long numericId = Long.parseLong(person.id().substring(1));
-                if (usedIds.contains(numericId)) {
-                    long newId = AddCommand.findNextAvailableId(usedIds);
-                    Person personWithId = new Person(String.format("E%04d", newId), person.name(), person.phone(),
+                if (model.findById(person.id()) != null) {
+                    Person personWithId = new Person(model.nextPersonId(), person.name(), person.phone(),
                             person.email(), person.address(), person.gitHubUsername(), person.tags());
                     model.addPerson(personWithId);
-                    usedIds.add(newId);
                 } else {
                     model.addPerson(person);
-                    usedIds.add(numericId);
                 }
             } catch (Exception ex) {
                 skippedPersons.add(person.id());
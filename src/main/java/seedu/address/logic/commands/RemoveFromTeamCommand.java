@@ -4,12 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -48,11 +47,21 @@ public class RemoveFromTeamCommand extends Command {
         this.personId = personId;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Person person = model.find(p -> Objects.equals(p.id(), personId));
+        Person person = model.findById(personId);
         if (person == null) {
             throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, personId));
         }
@@ -95,11 +104,7 @@ public class RemoveFromTeamCommand extends Command {
     }
 
     private Team getTeam(Model model) throws CommandException {
-        ReadOnlyAddressBook ab = model.getAddressBook();
-        Team team = ab.getTeamList().stream()
-                .filter(t -> Objects.equals(t.getId(), teamId))
-                .findFirst()
-                .orElse(null);
+        Team team = model.getTeamById(teamId);
         if (team == null) {
             throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
         }
@@ -2,10 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Salary;
 
 /**
  * Sets the salary for a person.
@@ -23,29 +26,47 @@ public final class SetSalaryCommand extends Command {
 
 
     private final String toSet;
-    private final double salaryInDollars;
+    private final Salary salary;
     private final EditCommand.EditPersonDescriptor editPersonDescriptor = new EditCommand.EditPersonDescriptor();
 
     /**
      * Creates an SetSalaryCommand for the specified {@code Person}
      */
     public SetSalaryCommand(String personId, double salaryInDollars) {
+        this(personId, Salary.ofDollars(salaryInDollars));
+    }
+
+    /**
+     * Creates an SetSalaryCommand to set the exact {@code salary} of the specified {@code Person}
+     */
+    public SetSalaryCommand(String personId, Salary salary) {
         requireNonNull(personId);
+        requireNonNull(salary);
         toSet = personId;
-        this.salaryInDollars = salaryInDollars;
+        this.salary = salary;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Person person = model.find(p -> p.id().equals(toSet));
+        Person person = model.findById(toSet);
         if (person == null) {
             throw new CommandException(MESSAGE_NON_EXISTENT_PERSON);
         }
 
-        Person edited = person.duplicate().withSalary(salaryInDollars).build();
+        Person edited = person.duplicate().withSalaryInCents(salary.inCents()).build();
         model.setPerson(person, edited);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, salaryInDollars, person.id()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, salary.value(), person.id()));
     }
 
     @Override
@@ -59,14 +80,14 @@ public final class SetSalaryCommand extends Command {
             return false;
         }
 
-        return command.toSet.equals(this.toSet) && command.salaryInDollars == this.salaryInDollars;
+        return command.toSet.equals(this.toSet) && command.salary.equals(this.salary);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("toSet", toSet)
-                .add("salaryInDollars", salaryInDollars)
+                .add("salary", salary)
                 .toString();
     }
 }
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -47,15 +46,23 @@ public class TagCommand extends Command {
         this.tagsToAdd = tagsToAdd;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        Person personToTag = lastShownList.stream()
-                .filter(person -> person.id().equals(employeeId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, employeeId)));
+        Person personToTag = model.findShownById(employeeId);
+        if (personToTag == null) {
+            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, employeeId));
+        }
 
         Set<Tag> existingTags = personToTag.tags();
         Set<Tag> duplicateTags = getDuplicateTags(existingTags, tagsToAdd);
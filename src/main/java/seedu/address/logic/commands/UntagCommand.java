@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -45,16 +44,25 @@ public class UntagCommand extends Command {
         this.tagsToRemove = tagsToRemove;
     }
 
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of(Capability.MUTATES_ADDRESS_BOOK, Capability.WRITES_AUDIT);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
 
         // Find the person with the matching employee ID
-        Person personToUntag = lastShownList.stream()
-                .filter(person -> person.id().equals(employeeId))
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, employeeId)));
+        Person personToUntag = model.findShownById(employeeId);
+        if (personToUntag == null) {
+            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, employeeId));
+        }
 
         // Validate that all tags to remove exist on the person (case-insensitive)
         Set<Tag> personTags = personToUntag.tags();
@@ -2,10 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
@@ -14,101 +20,246 @@ import seedu.address.model.person.Person;
 
 /**
  * Filters and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. The matching persons are looked up in the name index of the model rather
+ * than by testing the predicate against every person.
  */
 public class ViewCommand extends Command {
 
     public static final String COMMAND_WORD = "view";
 
+    public static final String TOP_FLAG = "--top";
+
+    /** Prefix of keywords that may be misspelled. */
+    public static final String FUZZY_PREFIX = "~";
+
+    /** Number of persons shown when no {@link #TOP_FLAG} is given, meaning all matching persons. */
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Views all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Use " + TOP_FLAG + " COUNT to show only the best COUNT matches. Prefix every keyword with "
+            + FUZZY_PREFIX + " to also match name words that are a letter or two off.\n"
+            + "Parameters: [" + TOP_FLAG + " COUNT] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + TOP_FLAG + " 10 alice\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_PREFIX + "jhon";
+
+    public static final String MESSAGE_TOP_PERSONS_LISTED = "Top %1$d of %2$d matching persons listed!";
+
+    /** Score of a keyword that does not match the name, worse than any substring match or allowed typo. */
+    private static final int NO_MATCH = 3;
 
     private final NameContainsKeywordsPredicate predicate;
+    private final int limit;
+    private final boolean isFuzzy;
 
     public ViewCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, NO_LIMIT);
+    }
+
+    public ViewCommand(NameContainsKeywordsPredicate predicate, int limit) {
+        this(predicate, limit, false);
+    }
+
+    /**
+     * Creates a ViewCommand that shows at most {@code limit} of the best matches of the keywords of
+     * {@code predicate}. If {@code isFuzzy}, a keyword matches the name words within a few edits of it instead of the
+     * names containing it.
+     */
+    public ViewCommand(NameContainsKeywordsPredicate predicate, int limit, boolean isFuzzy) {
+        requireNonNull(predicate);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The number of persons to show must be positive");
+        }
         this.predicate = predicate;
+        this.limit = limit;
+        this.isFuzzy = isFuzzy;
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of();
     }
 
+    /**
+     * Ranks the persons whose name matches any keyword. The rank key of each match is computed once, and when only
+     * the best {@code limit} matches are shown, they are picked with a heap of that size instead of a full sort.
+     */
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        List<String> keywords = lowerCase(predicate.getKeywords());
+        List<RankKey> matches = isFuzzy
+                ? fuzzyRankKeys(model, keywords)
+                : rankKeys(model, model.findPersonIdsByName(predicate.getKeywords()), keywords);
 
-        model.sortPersons(getComparator());
+        List<RankKey> ranked = selectBest(matches, limit);
+        Map<String, RankKey> keysById = new HashMap<>();
+        for (RankKey key : ranked) {
+            keysById.put(key.personId(), key);
+        }
 
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        model.updateFilteredPersonList(person -> keysById.containsKey(person.id()));
+        // Commands such as list widen the filter without changing the order, so persons that did not match are
+        // kept after the matches rather than left without a key.
+        model.sortPersons(Comparator.comparing(person -> keysById.get(person.id()),
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int shownCount = model.getFilteredPersonList().size();
+        if (shownCount < matches.size()) {
+            return new CommandResult(String.format(MESSAGE_TOP_PERSONS_LISTED, shownCount, matches.size()));
+        }
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, shownCount));
     }
 
-    private Comparator<Person> getComparator() {
-        List<String> keywords = predicate.getKeywords();
-        return Comparator
-                // more matched keywords first
-                .comparingInt((Person p) -> -computeMatchCount(p, keywords))
-                // then lower total closeness score
-                .thenComparingInt(p -> computeSumScore(p, keywords))
-                // then by earliest matching keyword according to input order (lower = earlier keyword in input)
-                .thenComparingInt(p -> computeFirstKeywordIndex(p, keywords))
-                // finally by name (case-insensitive)
-                .thenComparing(p -> p.name().fullName(), String::compareToIgnoreCase);
+    private static List<RankKey> rankKeys(Model model, Set<String> personIds, List<String> keywords) {
+        List<RankKey> keys = new ArrayList<>(personIds.size());
+        for (String id : personIds) {
+            Person person = model.findById(id);
+            if (person != null) {
+                keys.add(RankKey.of(person, keywords, keys.size()));
+            }
+        }
+        return keys;
     }
 
     /**
-     * Count how many keywords match the person's name (word or substring or exact).
+     * Returns the rank keys of the persons with a name word close to any of {@code keywords}, where the closeness
+     * score of a keyword is the number of edits between it and the closest name word.
      */
-    private static int computeMatchCount(Person p, List<String> keywords) {
-        String fullName = p.name().fullName();
-        return (int) keywords.stream()
-                .mapToInt(k -> scoreForKeyword(fullName, k))
-                .filter(score -> score < 3) // 0,1,2 indicate a match
-                .count();
+    private static List<RankKey> fuzzyRankKeys(Model model, List<String> keywords) {
+        List<Map<String, Integer>> distancesByKeyword = new ArrayList<>(keywords.size());
+        Set<String> personIds = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            Map<String, Integer> distances = model.findPersonIdsByNameFuzzy(keyword);
+            distancesByKeyword.add(distances);
+            personIds.addAll(distances.keySet());
+        }
+
+        List<RankKey> keys = new ArrayList<>(personIds.size());
+        for (String id : personIds) {
+            Person person = model.findById(id);
+            if (person == null) {
+                continue;
+            }
+            int matchCount = 0;
+            int scoreSum = 0;
+            int firstKeywordIndex = Integer.MAX_VALUE;
+            for (int i = 0; i < keywords.size(); i++) {
+                Integer distance = distancesByKeyword.get(i).get(id);
+                scoreSum += distance == null ? NO_MATCH : distance;
+                if (distance != null) {
+                    matchCount++;
+                    firstKeywordIndex = Math.min(firstKeywordIndex, i);
+                }
+            }
+            keys.add(new RankKey(id, matchCount, scoreSum, firstKeywordIndex, person.name().fullName(), keys.size()));
+        }
+        return keys;
     }
 
     /**
-     * Sum of per-keyword scores (lower is better). Non-matching keywords contribute score 3.
+     * Returns the best {@code limit} of {@code keys}, best first, in O(n log limit) time.
      */
-    private static int computeSumScore(Person p, List<String> keywords) {
-        String fullName = p.name().fullName();
-        return keywords.stream()
-                .mapToInt(k -> scoreForKeyword(fullName, k))
-                .sum();
+    private static List<RankKey> selectBest(List<RankKey> keys, int limit) {
+        if (keys.size() <= limit) {
+            return keys;
+        }
+        // The worst of the best keys found so far is at the head, ready to be replaced by a better one.
+        PriorityQueue<RankKey> best = new PriorityQueue<>(limit, Comparator.reverseOrder());
+        for (RankKey key : keys) {
+            if (best.size() < limit) {
+                best.add(key);
+            } else if (key.compareTo(best.peek()) < 0) {
+                best.poll();
+                best.add(key);
+            }
+        }
+        List<RankKey> selected = new ArrayList<>(best);
+        selected.sort(null);
+        return selected;
+    }
+
+    private static List<String> lowerCase(List<String> keywords) {
+        List<String> lowerCased = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            lowerCased.add(keyword.toLowerCase(Locale.ROOT));
+        }
+        return lowerCased;
     }
 
     /**
      * Compute a simple closeness score for a person given keywords.
      * Lower score = closer match for that keyword.
      * 0 = exact equals ignoring case
-     * 1 = whole-word match (StringUtil.containsWordIgnoreCase)
+     * 1 = whole-word match
      * 2 = substring match
      * 3 = no match
+     *
+     * @param name the lower-cased full name
+     * @param words the words of {@code name}
+     * @param keyword a lower-cased keyword
      */
-    private static int scoreForKeyword(String fullName, String k) {
-        if (fullName.equalsIgnoreCase(k)) {
+    private static int scoreForKeyword(String name, String[] words, String keyword) {
+        if (name.equals(keyword)) {
             return 0;
         }
-        if (StringUtil.containsWordIgnoreCase(fullName, k)) {
-            return 1;
+        for (String word : words) {
+            if (word.equals(keyword)) {
+                return 1;
+            }
         }
-        if (fullName.toLowerCase().contains(k.toLowerCase())) {
+        if (name.contains(keyword)) {
             return 2;
         }
-        return 3;
+        return NO_MATCH;
     }
 
     /**
-     * Returns the index of the first keyword (in input order) that matches the person's name.
-     * Lower = the keyword appears earlier in the input. If no keyword matches, returns Integer.MAX_VALUE.
+     * How well a person matches the keywords, computed once per person. Better matches compare lower:
+     * 1) more matched keywords first,
+     * 2) then lower total closeness score, where non-matching keywords contribute {@code NO_MATCH},
+     * 3) then by earliest matching keyword according to input order,
+     * 4) then by name (case-insensitive),
+     * 5) finally by position among the matches, so that the order is the same however the best are picked.
      */
-    private static int computeFirstKeywordIndex(Person p, List<String> keywords) {
-        String fullName = p.name().fullName();
-        for (int i = 0; i < keywords.size(); i++) {
-            if (scoreForKeyword(fullName, keywords.get(i)) < 3) {
-                return i;
+    private record RankKey(String personId, int matchCount, int scoreSum, int firstKeywordIndex, String name,
+            int position) implements Comparable<RankKey> {
+
+        private static final Comparator<RankKey> ORDER = Comparator
+                .comparingInt((RankKey key) -> -key.matchCount)
+                .thenComparingInt(key -> key.scoreSum)
+                .thenComparingInt(key -> key.firstKeywordIndex)
+                .thenComparing(key -> key.name, String::compareToIgnoreCase)
+                .thenComparingInt(key -> key.position);
+
+        static RankKey of(Person person, List<String> keywords, int position) {
+            String fullName = person.name().fullName();
+            String lowerName = fullName.toLowerCase(Locale.ROOT);
+            String[] words = lowerName.split("\\s+");
+            int matchCount = 0;
+            int scoreSum = 0;
+            int firstKeywordIndex = Integer.MAX_VALUE;
+            for (int i = 0; i < keywords.size(); i++) {
+                int score = scoreForKeyword(lowerName, words, keywords.get(i));
+                scoreSum += score;
+                if (score < NO_MATCH) {
+                    matchCount++;
+                    firstKeywordIndex = Math.min(firstKeywordIndex, i);
+                }
             }
+            return new RankKey(person.id(), matchCount, scoreSum, firstKeywordIndex, fullName, position);
+        }
+
+        @Override
+        public int compareTo(RankKey other) {
+            return ORDER.compare(this, other);
         }
-        return Integer.MAX_VALUE;
     }
 
     @Override
@@ -123,13 +274,16 @@ public class ViewCommand extends Command {
         }
 
         ViewCommand otherViewCommand = (ViewCommand) other;
-        return predicate.equals(otherViewCommand.predicate);
+        return predicate.equals(otherViewCommand.predicate) && limit == otherViewCommand.limit
+                && isFuzzy == otherViewCommand.isFuzzy;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("limit", limit)
+                .add("isFuzzy", isFuzzy)
                 .toString();
     }
 }
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.team.Team;
+
+/**
+ * Lists the members of a team, optionally including the members of all its subteams,
+ * or lists the teams led by a person.
+ */
+public class ViewTeamCommand extends Command {
+
+    public static final String COMMAND_WORD = "view-team";
+
+    public static final String RECURSIVE_FLAG = "--recursive";
+    public static final String LED_BY_FLAG = "--led-by";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the members of a team, or the teams led by "
+            + "a person.\n"
+            + "Parameters: TEAM_ID [" + RECURSIVE_FLAG + "] or " + LED_BY_FLAG + " PERSON_ID\n"
+            + "Example: " + COMMAND_WORD + " T0001 " + RECURSIVE_FLAG + "\n"
+            + "Example: " + COMMAND_WORD + " " + LED_BY_FLAG + " E0001";
+
+    public static final String MESSAGE_TEAM_NOT_FOUND = "No team with ID %1$s found";
+    public static final String MESSAGE_MEMBERS_LISTED = "%1$d members of team %2$s listed!";
+    public static final String MESSAGE_MEMBERS_LISTED_RECURSIVE = "%1$d members of team %2$s and its subteams listed!";
+    public static final String MESSAGE_TEAMS_LED = "Teams led by %1$s: %2$s";
+    public static final String MESSAGE_NO_TEAMS_LED = "%1$s does not lead any team";
+
+    private final String teamId;
+    private final boolean isRecursive;
+    private final String leaderId;
+
+    /**
+     * Creates a ViewTeamCommand that lists the members of the team {@code teamId},
+     * and of all its subteams if {@code isRecursive}.
+     */
+    public ViewTeamCommand(String teamId, boolean isRecursive) {
+        this(requireNonNull(teamId), isRecursive, null);
+    }
+
+    private ViewTeamCommand(String teamId, boolean isRecursive, String leaderId) {
+        this.teamId = teamId;
+        this.isRecursive = isRecursive;
+        this.leaderId = leaderId;
+    }
+
+    /**
+     * Creates a ViewTeamCommand that lists the teams led by the person {@code personId}.
+     */
+    public static ViewTeamCommand ledBy(String personId) {
+        requireNonNull(personId);
+        return new ViewTeamCommand(null, false, personId);
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Set.of();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (leaderId != null) {
+            List<Team> teams = model.getTeamsLedBy(leaderId);
+            if (teams.isEmpty()) {
+                return new CommandResult(String.format(MESSAGE_NO_TEAMS_LED, leaderId));
+            }
+            String teamList = teams.stream()
+                    .map(team -> team.getTeamName() + " #" + team.getId())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return new CommandResult(String.format(MESSAGE_TEAMS_LED, leaderId, teamList));
+        }
+
+        if (!model.hasTeamWithId(teamId)) {
+            throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
+        }
+        Set<String> memberIds = model.getTeamMemberIds(teamId, isRecursive);
+        model.updateFilteredPersonList(person -> memberIds.contains(person.id()));
+        String message = isRecursive ? MESSAGE_MEMBERS_LISTED_RECURSIVE : MESSAGE_MEMBERS_LISTED;
+        return new CommandResult(String.format(message, model.getFilteredPersonList().size(), teamId));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ViewTeamCommand otherCommand)) {
+            return false;
+        }
+        return Objects.equals(teamId, otherCommand.teamId)
+                && isRecursive == otherCommand.isRecursive
+                && Objects.equals(leaderId, otherCommand.leaderId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("teamId", teamId)
+                .add("isRecursive", isRecursive)
+                .add("leaderId", leaderId)
+                .toString();
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AuditCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AuditCommand object
+ */
+public class AuditCommandParser implements Parser<AuditCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AuditCommand
+     * and returns an AuditCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AuditCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new AuditCommand();
+        }
+
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AuditCommand.MESSAGE_USAGE));
+        }
+        return new AuditCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -6,22 +6,23 @@ import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * Parses input arguments and creates a new DeleteCommand object
  */
 public class DeleteCommandParser implements Parser<DeleteCommand> {
 
-    private static final Pattern EMPLOYEE_ID_FORMAT = Pattern.compile("^E\\d{4}$");
+    private static final Pattern EMPLOYEE_ID_FORMAT = Pattern.compile(Person.ID_VALIDATION_REGEX);
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
      * and returns a DeleteCommand object for execution.
-     * The employee ID must be in the format Exxxx where x represents a digit (0-9).
+     * The employee ID must match {@link Person#ID_VALIDATION_REGEX}, e.g. E0001 or E10000.
      *
      * @param args the employee ID string to parse (e.g., E1234)
      * @return a DeleteCommand object with the parsed employee ID
-     * @throws ParseException if the employee ID does not match the format Exxxx
+     * @throws ParseException if the employee ID is not a valid employee ID
      */
 
     @Override
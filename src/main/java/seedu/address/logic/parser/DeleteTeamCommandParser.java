@@ -6,13 +6,14 @@ import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.DeleteTeamCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.team.Team;
 
 /**
  * Parses input arguments and creates a new DeleteTeamCommand object
  */
 public class DeleteTeamCommandParser implements Parser<DeleteTeamCommand> {
 
-    private static final Pattern TEAM_ID_FORMAT = Pattern.compile("^T\\d{4}$");
+    private static final Pattern TEAM_ID_FORMAT = Pattern.compile(Team.ID_VALIDATION_REGEX);
 
     @Override
     public DeleteTeamCommand parse(String args) throws ParseException {
@@ -16,13 +16,14 @@ import java.util.regex.Pattern;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * Parses input arguments and creates a new EditCommand object
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
-    private static final Pattern EMPLOYEE_ID_FORMAT = Pattern.compile("^E\\d{4}$");
+    private static final Pattern EMPLOYEE_ID_FORMAT = Pattern.compile(Person.ID_VALIDATION_REGEX);
 
     @Override
     public EditCommand parse(String args) throws ParseException {
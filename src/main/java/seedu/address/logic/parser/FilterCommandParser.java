@@ -0,0 +1,111 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object.
+ * <p>
+ * The expression grammar, with {@code NOT} binding tightest and then {@code AND}:
+ * <pre>
+ * expression := term (OR term)*
+ * term       := factor (AND factor)*
+ * factor     := NOT factor | ( expression ) | TAG
+ * </pre>
+ * The operators must be written in upper case, so a tag can still be called {@code and}.
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private List<String> tokens;
+    private int position;
+
+    @Override
+    public FilterCommand parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        TagExpression expression = parseExpression();
+        if (position != tokens.size()) {
+            throw invalidFormat();
+        }
+        return new FilterCommand(expression);
+    }
+
+    private TagExpression parseExpression() throws ParseException {
+        TagExpression expression = parseTerm();
+        while (accept(OR)) {
+            expression = new TagExpression.Or(expression, parseTerm());
+        }
+        return expression;
+    }
+
+    private TagExpression parseTerm() throws ParseException {
+        TagExpression term = parseFactor();
+        while (accept(AND)) {
+            term = new TagExpression.And(term, parseFactor());
+        }
+        return term;
+    }
+
+    private TagExpression parseFactor() throws ParseException {
+        if (accept(NOT)) {
+            return new TagExpression.Not(parseFactor());
+        }
+        if (accept(OPEN)) {
+            TagExpression expression = parseExpression();
+            if (!accept(CLOSE)) {
+                throw invalidFormat();
+            }
+            return expression;
+        }
+        if (position == tokens.size() || isOperator(tokens.get(position))) {
+            throw invalidFormat();
+        }
+        return new TagExpression.HasTag(ParserUtil.parseTag(tokens.get(position++)));
+    }
+
+    private boolean accept(String token) {
+        if (position < tokens.size() && tokens.get(position).equals(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(AND) || token.equals(OR) || token.equals(NOT) || token.equals(OPEN)
+                || token.equals(CLOSE);
+    }
+
+    /**
+     * Splits {@code args} into words and parentheses.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        String spaced = args.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ");
+        for (String word : spaced.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+}
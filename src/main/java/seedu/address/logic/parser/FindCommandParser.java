@@ -0,0 +1,132 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Salary;
+import seedu.address.model.query.Condition;
+import seedu.address.model.team.Team;
+
+/**
+ * Parses input arguments and creates a new FindCommand object.
+ * <p>
+ * The conditions are listed in a fixed order, ids first, so that when two indexes estimate the same number of
+ * persons the planner prefers the same one whatever order the user typed them in.
+ */
+public class FindCommandParser implements Parser<FindCommand> {
+
+    private static final Pattern TEAM_ID_FORMAT = Pattern.compile(Team.ID_VALIDATION_REGEX);
+    private static final Pattern EMPLOYEE_ID_FORMAT = Pattern.compile(Person.ID_VALIDATION_REGEX);
+    private static final Pattern SALARY_CONDITION_FORMAT = Pattern.compile("^(?<operator><=|>=|<|>|=)?\\s*"
+            + "(?<amount>\\S+)$");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommand
+     * and returns a FindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindCommand parse(String args) throws ParseException {
+        List<String> words = new ArrayList<>(List.of(args.trim().split("\\s+")));
+        boolean isExplain = words.removeIf(word -> word.equals(FindCommand.EXPLAIN_FLAG));
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + String.join(" ", words),
+                PREFIX_ID, PREFIX_NAME, PREFIX_TAG, PREFIX_TEAM, PREFIX_SALARY, PREFIX_GITHUB);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw invalidFormat();
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ID);
+
+        List<Condition> conditions = new ArrayList<>();
+        for (String id : argMultimap.getAllValues(PREFIX_ID)) {
+            conditions.add(new Condition.IdIs(requireMatch(EMPLOYEE_ID_FORMAT, id)));
+        }
+        for (String tag : argMultimap.getAllValues(PREFIX_TAG)) {
+            conditions.add(new Condition.HasTag(ParserUtil.parseTag(tag)));
+        }
+        for (String teamId : argMultimap.getAllValues(PREFIX_TEAM)) {
+            conditions.add(new Condition.InTeam(requireMatch(TEAM_ID_FORMAT, teamId)));
+        }
+        for (String salary : argMultimap.getAllValues(PREFIX_SALARY)) {
+            conditions.add(parseSalaryCondition(salary));
+        }
+        for (String keyword : argMultimap.getAllValues(PREFIX_NAME)) {
+            conditions.add(new Condition.NameContains(requireNonEmpty(keyword)));
+        }
+        for (String text : argMultimap.getAllValues(PREFIX_GITHUB)) {
+            conditions.add(new Condition.GitHubContains(requireNonEmpty(text)));
+        }
+        if (conditions.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new FindCommand(conditions, isExplain);
+    }
+
+    /**
+     * Parses a salary condition such as {@code >5000} or {@code <= 7000.50} into the range of salaries it allows.
+     * An amount without an operator must be matched exactly.
+     */
+    private static Condition.SalaryBetween parseSalaryCondition(String condition) throws ParseException {
+        Matcher matcher = SALARY_CONDITION_FORMAT.matcher(condition.trim());
+        if (!matcher.matches()) {
+            throw invalidFormat();
+        }
+        long cents;
+        try {
+            cents = Salary.parse(matcher.group("amount")).inCents();
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(Messages.MESSAGE_INVALID_SALARY);
+        } catch (ArithmeticException e) {
+            throw new ParseException(Messages.MESSAGE_SALARY_TOO_HIGH);
+        }
+        String operator = matcher.group("operator");
+        if (operator == null) {
+            operator = "=";
+        }
+        switch (operator) {
+        case ">":
+            if (cents == Long.MAX_VALUE) {
+                throw new ParseException(Messages.MESSAGE_SALARY_TOO_HIGH);
+            }
+            return new Condition.SalaryBetween(cents + 1, Long.MAX_VALUE);
+        case ">=":
+            return new Condition.SalaryBetween(cents, Long.MAX_VALUE);
+        case "<":
+            return new Condition.SalaryBetween(0, cents - 1);
+        case "<=":
+            return new Condition.SalaryBetween(0, cents);
+        default:
+            return new Condition.SalaryBetween(cents, cents);
+        }
+    }
+
+    private static String requireMatch(Pattern format, String value) throws ParseException {
+        if (!format.matcher(value.trim()).matches()) {
+            throw invalidFormat();
+        }
+        return value.trim();
+    }
+
+    private static String requireNonEmpty(String value) throws ParseException {
+        if (value.isBlank()) {
+            throw invalidFormat();
+        }
+        return value.trim();
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+}
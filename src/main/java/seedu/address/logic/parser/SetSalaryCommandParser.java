@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.SetSalaryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Salary;
 
 /**
  * Parses input arguments and creates a new SetSalaryCommand object
@@ -39,13 +40,13 @@ public class SetSalaryCommandParser implements Parser<SetSalaryCommand> {
                 throw new ParseException(Messages.MESSAGE_INVALID_SALARY);
             }
 
-            if (value == -0) {
-                value = 0;
-            }
-
-            return new SetSalaryCommand(id, value);
+            // The amount is converted to cents from the decimal text, so no precision is lost to the double above,
+            // and -0 becomes a plain zero.
+            return new SetSalaryCommand(id, Salary.parse(tokens[1]));
         } catch (NumberFormatException e) {
             throw new ParseException(Messages.MESSAGE_INVALID_SALARY);
+        } catch (ArithmeticException e) {
+            throw new ParseException(Messages.MESSAGE_SALARY_TOO_HIGH);
         }
     }
 
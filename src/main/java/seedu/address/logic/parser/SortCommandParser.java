@@ -3,13 +3,16 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.function.Function;
+import java.util.List;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonComparator;
+import seedu.address.model.person.PersonSortField;
 
 /**
  * Parses input arguments and creates a new SortCommand object
@@ -31,36 +34,23 @@ public class SortCommandParser implements Parser<SortCommand> {
      * @throws ParseException If the given tokens are invalid.
      */
     public static Comparator<Person> createComparator(String[] tokens) throws ParseException {
-        Comparator<Person> comparator = (x, y) -> 0;
+        List<PersonSortField> fields = new ArrayList<>();
         for (String token : tokens) {
-            comparator = switch (token.trim().toLowerCase()) {
-            case FIELD_NAME -> compareStrings(comparator, person -> person.name().fullName());
-            case FIELD_PHONE -> comparator.thenComparing(person -> person.phone().value());
-            case FIELD_EMAIL -> compareStrings(comparator, person -> person.email().value());
-            case FIELD_ADDRESS -> compareStrings(comparator, person -> person.address().value());
-            case FIELD_GITHUB -> compareStrings(comparator, person -> person.gitHubUsername().value());
-            case FIELD_ID -> comparator.thenComparing(Person::id);
-            case FIELD_SALARY -> comparator.thenComparing(Person::salary);
-            case FIELD_TEAM -> {
-                Function<Person, String> selector = person ->
-                        person.teamIds()
-                              .stream()
-                              .sorted()
-                              .reduce((x, y) -> x + y)
-                              .orElse("");
-                yield comparator.thenComparing(selector);
-            }
-
+            fields.add(switch (token.trim().toLowerCase()) {
+            case FIELD_NAME -> PersonSortField.NAME;
+            case FIELD_PHONE -> PersonSortField.PHONE;
+            case FIELD_EMAIL -> PersonSortField.EMAIL;
+            case FIELD_ADDRESS -> PersonSortField.ADDRESS;
+            case FIELD_GITHUB -> PersonSortField.GITHUB;
+            case FIELD_ID -> PersonSortField.ID;
+            case FIELD_SALARY -> PersonSortField.SALARY;
+            case FIELD_TEAM -> PersonSortField.TEAM;
             default -> throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                                                               SortCommand.MESSAGE_USAGE));
-            };
+            });
         }
 
-        return comparator;
-    }
-
-    private static Comparator<Person> compareStrings(Comparator<Person> comp, Function<Person, String> selector) {
-        return comp.thenComparing(selector.andThen(String::toLowerCase)).thenComparing(selector);
+        return new PersonComparator(fields);
     }
 
     @Override
@@ -68,9 +58,7 @@ public class SortCommandParser implements Parser<SortCommand> {
         requireNonNull(args);
         String[] tokens = Arrays.stream(args.trim().split(" ")).filter(x -> !x.isBlank()).toArray(String[]::new);
         if (tokens.length == 0) {
-            Comparator<Person> comparator = Comparator.comparing(person -> person.name().fullName().toLowerCase());
-            comparator = comparator.thenComparing(person -> person.name().fullName());
-            return new SortCommand(comparator);
+            return new SortCommand(new PersonComparator(List.of(PersonSortField.NAME)));
         }
 
         return new SortCommand(createComparator(Arrays.copyOfRange(tokens, 0, tokens.length)));
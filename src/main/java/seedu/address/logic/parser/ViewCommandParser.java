@@ -2,14 +2,20 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new ViewCommand object
+ * Parses input arguments and creates a new ViewCommand object.
+ *
+ * Expected format: {@code [--top COUNT] KEYWORD [MORE_KEYWORDS]...}, where either every keyword or none starts
+ * with {@code ~}.
  */
 public class ViewCommandParser implements Parser<ViewCommand> {
 
@@ -21,13 +27,47 @@ public class ViewCommandParser implements Parser<ViewCommand> {
     public ViewCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+            throw invalidFormat();
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = new ArrayList<>(Arrays.asList(trimmedArgs.split("\\s+")));
+        int limit = ViewCommand.NO_LIMIT;
+        if (nameKeywords.get(0).equals(ViewCommand.TOP_FLAG)) {
+            if (nameKeywords.size() < 3 || !StringUtil.isNonZeroUnsignedInteger(nameKeywords.get(1))) {
+                throw invalidFormat();
+            }
+            limit = Integer.parseInt(nameKeywords.get(1));
+            nameKeywords = nameKeywords.subList(2, nameKeywords.size());
+        }
+
+        boolean isFuzzy = nameKeywords.get(0).startsWith(ViewCommand.FUZZY_PREFIX);
+        if (isFuzzy) {
+            nameKeywords = stripFuzzyPrefixes(nameKeywords);
+        } else if (nameKeywords.stream().anyMatch(keyword -> keyword.startsWith(ViewCommand.FUZZY_PREFIX))) {
+            throw invalidFormat();
+        }
+
+        return new ViewCommand(new NameContainsKeywordsPredicate(List.copyOf(nameKeywords)), limit, isFuzzy);
+    }
+
+    /**
+     * Returns {@code keywords} without their fuzzy prefixes.
+     * @throws ParseException if a keyword is missing the prefix or is only the prefix.
+     */
+    private static List<String> stripFuzzyPrefixes(List<String> keywords) throws ParseException {
+        List<String> stripped = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            if (!keyword.startsWith(ViewCommand.FUZZY_PREFIX)
+                    || keyword.length() == ViewCommand.FUZZY_PREFIX.length()) {
+                throw invalidFormat();
+            }
+            stripped.add(keyword.substring(ViewCommand.FUZZY_PREFIX.length()));
+        }
+        return stripped;
+    }
 
-        return new ViewCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
     }
 
 }
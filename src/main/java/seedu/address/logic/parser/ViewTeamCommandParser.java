@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.ViewTeamCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Parses input arguments and creates a new ViewTeamCommand object.
+ *
+ * Expected format: {@code TEAM_ID [--recursive]} or {@code --led-by PERSON_ID}
+ */
+public class ViewTeamCommandParser implements Parser<ViewTeamCommand> {
+
+    private static final Pattern TEAM_ID_FORMAT = Pattern.compile(Team.ID_VALIDATION_REGEX);
+    private static final Pattern EMPLOYEE_ID_FORMAT = Pattern.compile(Person.ID_VALIDATION_REGEX);
+
+    @Override
+    public ViewTeamCommand parse(String args) throws ParseException {
+        String[] tokens = args.trim().split("\\s+");
+        if (tokens.length == 2 && tokens[0].equals(ViewTeamCommand.LED_BY_FLAG)
+                && EMPLOYEE_ID_FORMAT.matcher(tokens[1]).matches()) {
+            return ViewTeamCommand.ledBy(tokens[1]);
+        }
+        if (!TEAM_ID_FORMAT.matcher(tokens[0]).matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewTeamCommand.MESSAGE_USAGE));
+        }
+        if (tokens.length == 1) {
+            return new ViewTeamCommand(tokens[0], false);
+        }
+        if (tokens.length == 2 && tokens[1].equals(ViewTeamCommand.RECURSIVE_FLAG)) {
+            return new ViewTeamCommand(tokens[0], true);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewTeamCommand.MESSAGE_USAGE));
+    }
+}
@@ -5,14 +5,22 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListHistory;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.audit.AuditLog;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
 import seedu.address.model.team.UniqueTeamList;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
 
@@ -21,10 +29,14 @@ import seedu.address.model.team.exceptions.TeamNotFoundException;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Source of section versions, shared by all address books so that a version identifies one state. */
+    private static final AtomicLong versionCounter = new AtomicLong();
+
     private final UniquePersonList persons = new UniquePersonList();
     private final UniqueTeamList teams = new UniqueTeamList();
     private final AuditLog auditLog = new AuditLog();
-
+    private long personsVersion = versionCounter.incrementAndGet();
+    private long teamsVersion = versionCounter.incrementAndGet();
 
     public AddressBook() {}
 
@@ -44,6 +56,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personsChanged();
     }
 
     /**
@@ -52,6 +65,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTeams(List<Team> teams) {
         this.teams.setTeams(teams);
+        teamsChanged();
     }
 
     /**
@@ -79,6 +93,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (newData instanceof ReadOnlyAddressBook) {
             try {
                 setTeams(((ReadOnlyAddressBook) newData).getTeamList());
+                if (newData.getLastTeamId() != null) {
+                    reserveTeamIdsUpTo(newData.getLastTeamId());
+                }
             } catch (UnsupportedOperationException | ClassCastException e) {
                 // If the provided ReadOnlyAddressBook does not expose teams yet, ignore.
             }
@@ -95,12 +112,78 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given employee {@code id}, or null if there is none.
+     */
+    public Person findPersonById(String id) {
+        requireNonNull(id);
+        return persons.findById(id);
+    }
+
+    /**
+     * Returns the ids of the persons whose tags match {@code expression}.
+     */
+    public Set<String> findPersonIdsByTags(TagExpression expression) {
+        requireNonNull(expression);
+        return persons.findIdsByTags(expression);
+    }
+
+    /**
+     * Returns the ids of the persons whose name contains any of {@code keywords}, ignoring case.
+     */
+    public Set<String> findPersonIdsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findIdsByName(keywords);
+    }
+
+    /**
+     * Returns the ids of the persons with a name word close to {@code keyword}, allowing for typos, each mapped to the
+     * number of edits between them.
+     */
+    public Map<String, Integer> findPersonIdsByNameFuzzy(String keyword) {
+        requireNonNull(keyword);
+        return persons.findIdsByNameFuzzy(keyword);
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return persons.countWithTag(tag);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains {@code keyword}, ignoring case, found
+     * without looking at the names themselves.
+     */
+    public int estimatePersonCountByName(String keyword) {
+        requireNonNull(keyword);
+        return persons.estimateCountByName(keyword);
+    }
+
+    /**
+     * Returns the ids of the persons whose salary is from {@code minCents} to {@code maxCents}, both inclusive.
+     */
+    public Set<String> findPersonIdsBySalary(long minCents, long maxCents) {
+        return persons.findIdsBySalary(minCents, maxCents);
+    }
+
+    /**
+     * Returns the number of persons whose salary is from {@code minCents} to {@code maxCents}, both inclusive, or
+     * some number above {@code limit} if there are more.
+     */
+    public int countPersonsBySalary(long minCents, long maxCents, int limit) {
+        return persons.countBySalary(minCents, maxCents, limit);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personsChanged();
     }
 
     /**
@@ -109,6 +192,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         persons.setPerson(target, editedPerson);
+        personsChanged();
     }
 
     /**
@@ -117,6 +201,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        personsChanged();
+    }
+
+    /**
+     * Returns the employee id that the next new person should get: the lowest one that is not taken.
+     */
+    public String nextPersonId() {
+        return persons.nextId();
     }
 
     @Override
@@ -138,6 +230,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return teams.contains(team);
     }
 
+    /**
+     * Returns true if a team named {@code teamName} exists in the address book.
+     */
+    public boolean hasTeamName(TeamName teamName) {
+        requireNonNull(teamName);
+        return teams.containsName(teamName);
+    }
+
     /**
      * Finds and returns a team by its ID.
      * Returns null if no such team exists.
@@ -151,6 +251,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
     }
 
+    /**
+     * Returns the team that the team {@code teamId} is a subteam of, or null if it is not a subteam of any team.
+     */
+    public Team getParentTeam(String teamId) {
+        requireNonNull(teamId);
+        return teams.getParentTeam(teamId);
+    }
+
+    /**
+     * Returns true if the team {@code teamId} is nested, at any depth, in the team {@code parentTeamId}.
+     * The team {@code parentTeamId} must exist in the address book.
+     */
+    public boolean containsTeamInSubteams(String parentTeamId, String teamId) {
+        requireNonNull(parentTeamId);
+        return teams.containsTeamInSubteams(parentTeamId, teamId);
+    }
+
     /**
      * Adds a team to the address book.
      * The team must not already exist in the address book.
@@ -158,6 +275,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addTeam(Team team) {
         requireNonNull(team);
         teams.add(team);
+        teamsChanged();
     }
 
     /**
@@ -166,6 +284,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTeam(Team target, Team editedTeam) {
         teams.setTeam(target, editedTeam);
+        teamsChanged();
     }
 
     /**
@@ -174,6 +293,28 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeTeam(Team toRemove) {
         teams.remove(toRemove);
+        teamsChanged();
+    }
+
+    /**
+     * Returns the team id that the next new team should get: one above the highest team id seen so far.
+     */
+    public String nextTeamId() {
+        return teams.nextId();
+    }
+
+    @Override
+    public String getLastTeamId() {
+        return teams.getLastId();
+    }
+
+    /**
+     * Makes sure that no team id at or below {@code teamId} is handed out, e.g. the last team id of a saved address
+     * book whose newest teams were removed.
+     */
+    public void reserveTeamIdsUpTo(String teamId) {
+        requireNonNull(teamId);
+        teams.reserveIdsUpTo(teamId);
     }
 
     /**
@@ -186,7 +327,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (parentTeam == null || subteam == null || subteam.getParentTeamId() != null) {
             return false;
         }
-        return teams.setSubteam(parentTeam, subteam);
+        boolean isSet = teams.setSubteam(parentTeam, subteam);
+        if (isSet) {
+            teamsChanged();
+        }
+        return isSet;
     }
 
     /**
@@ -197,6 +342,62 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
         persons.sort(comparator);
+        personsChanged();
+    }
+
+    /**
+     * Returns a comparator that sorts the persons the same way as {@code comparator}, comparing their positions in an
+     * order kept up to date as persons change if {@code comparator} sorts by name, id or salary.
+     *
+     * @see UniquePersonList#maintainedComparatorFor(Comparator)
+     */
+    public Comparator<Person> maintainedComparatorFor(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        return persons.maintainedComparatorFor(comparator);
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns a snapshot of the persons and teams in this address book, taken in constant time.
+     * The audit log is not part of the snapshot.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(persons.snapshot(), teams.snapshot(), personsVersion, teamsVersion);
+    }
+
+    /**
+     * Replaces the persons and teams in this address book with those in {@code snapshot}.
+     * Only the sections that changed since the snapshot was taken are replaced, and they get back the versions they
+     * had then, since they hold the same data again. Within a section, restoring a recent snapshot only undoes or
+     * redoes the changes made since, so its cost grows with the size of those changes rather than of the section.
+     */
+    public void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        if (personsVersion != snapshot.personsVersion) {
+            persons.restore(snapshot.persons);
+            personsVersion = snapshot.personsVersion;
+        }
+        if (teamsVersion != snapshot.teamsVersion) {
+            teams.restore(snapshot.teams);
+            teamsVersion = snapshot.teamsVersion;
+        }
+    }
+
+    /**
+     * Returns true if the persons or teams in this address book changed since {@code snapshot} was taken.
+     */
+    public boolean hasChangedSince(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        return personsVersion != snapshot.personsVersion || teamsVersion != snapshot.teamsVersion;
+    }
+
+    private void personsChanged() {
+        personsVersion = versionCounter.incrementAndGet();
+    }
+
+    private void teamsChanged() {
+        teamsVersion = versionCounter.incrementAndGet();
     }
 
     //// util methods
@@ -221,6 +422,57 @@ public class AddressBook implements ReadOnlyAddressBook {
         return teams.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion(Section section) {
+        switch (section) {
+        case PERSONS:
+            return personsVersion;
+        case TEAMS:
+            return teamsVersion;
+        case AUDIT_LOG:
+            return auditLog.getVersion();
+        default:
+            throw new AssertionError(section);
+        }
+    }
+
+    @Override
+    public PersistentList<Person> getPersonSnapshot() {
+        return persons.snapshot();
+    }
+
+    @Override
+    public PersistentList<Team> getTeamSnapshot() {
+        return teams.snapshot();
+    }
+
+    @Override
+    public List<ListHistory.Edit<Person>> getPersonChanges(PersistentList<Person> from, PersistentList<Person> to) {
+        return persons.changesBetween(from, to);
+    }
+
+    @Override
+    public List<ListHistory.Edit<Team>> getTeamChanges(PersistentList<Team> from, PersistentList<Team> to) {
+        return teams.changesBetween(from, to);
+    }
+
+    /**
+     * Returns the ids of the members of the team {@code teamId}, and of its subteams if {@code includeSubteams}.
+     * The team must exist in the address book.
+     */
+    public Set<String> getTeamMemberIds(String teamId, boolean includeSubteams) {
+        requireNonNull(teamId);
+        return teams.getMemberIds(teamId, includeSubteams);
+    }
+
+    /**
+     * Returns the teams led by the person {@code personId}.
+     */
+    public List<Team> getTeamsLedBy(String personId) {
+        requireNonNull(personId);
+        return teams.getTeamsLedBy(personId);
+    }
+
     /**
      * Returns the organization hierarchy string in a Linux tree format.
      */
@@ -247,4 +499,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return Objects.hash(persons, teams);
     }
+
+    /**
+     * The persons and teams of an address book at one point in time.
+     * Snapshots share their unchanged parts with each other, so keeping many of them is cheap.
+     */
+    public static final class Snapshot {
+        private final PersistentList<Person> persons;
+        private final PersistentList<Team> teams;
+        private final long personsVersion;
+        private final long teamsVersion;
+
+        private Snapshot(PersistentList<Person> persons, PersistentList<Team> teams, long personsVersion,
+                long teamsVersion) {
+            this.persons = persons;
+            this.teams = teams;
+            this.personsVersion = personsVersion;
+            this.teamsVersion = teamsVersion;
+        }
+    }
 }
@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Hands out ids made of a prefix and a number, such as {@code E0001}, that are not taken by an existing entity.
+ * <p>
+ * The numbers in use below {@code DENSE_LIMIT} are kept in a {@link BitSet}, together with a hint below which every
+ * number is taken, so finding the next free id takes amortized constant time instead of a scan over all existing ids.
+ * Larger numbers are kept in a hash set, so an id with a huge number, e.g. one edited into a data file by hand, costs
+ * no more memory than any other id. An allocator either reuses the lowest number that is no longer taken, or never
+ * hands out a number at or below the highest one it has seen, so that ids removed during a session are not given to
+ * new entities.
+ * <p>
+ * Ids that do not have the prefix followed by a number of at most 9 digits are ignored.
+ */
+public class IdAllocator {
+
+    private static final int FIRST_NUMBER = 1;
+    /** Numbers below this one are kept as bits, taking at most {@code DENSE_LIMIT / 8} bytes. */
+    private static final int DENSE_LIMIT = 1 << 20;
+
+    private final String prefix;
+    private final boolean reusesFreedIds;
+    private final BitSet taken = new BitSet();
+    /** The numbers taken from {@code DENSE_LIMIT} on. */
+    private final Set<Integer> sparseTaken = new HashSet<>();
+    /** Every number from {@code FIRST_NUMBER} up to, but not including, this one is taken. */
+    private int lowestFreeHint = FIRST_NUMBER;
+    /** The highest number ever taken, or {@code FIRST_NUMBER - 1} if none. */
+    private int highWaterMark = FIRST_NUMBER - 1;
+
+    /**
+     * Creates an allocator of ids starting with {@code prefix}.
+     *
+     * @param reusesFreedIds whether the numbers of released ids are handed out again
+     */
+    public IdAllocator(String prefix, boolean reusesFreedIds) {
+        requireNonNull(prefix);
+        this.prefix = prefix;
+        this.reusesFreedIds = reusesFreedIds;
+    }
+
+    /**
+     * Returns the id that the next new entity should get. The id is not taken until it is {@link #take(String) taken}.
+     */
+    public String next() {
+        int number;
+        if (reusesFreedIds) {
+            lowestFreeHint = taken.nextClearBit(lowestFreeHint);
+            number = lowestFreeHint;
+            while (number >= DENSE_LIMIT && sparseTaken.contains(number)) {
+                number++;
+            }
+        } else {
+            number = highWaterMark + 1;
+        }
+        return format(number);
+    }
+
+    /**
+     * Returns the id with the highest number ever taken or reserved, or null if there is none.
+     * Storing it lets an allocator that does not reuse freed ids keep doing so across sessions.
+     */
+    public String last() {
+        return highWaterMark < FIRST_NUMBER ? null : format(highWaterMark);
+    }
+
+    /**
+     * Makes the number in {@code id} count as taken once, without taking {@code id}, so that an allocator that does
+     * not reuse freed ids never hands out an id at or below it.
+     */
+    public void reserveUpTo(String id) {
+        highWaterMark = Math.max(highWaterMark, numberOf(id));
+    }
+
+    /**
+     * Marks {@code id} as taken.
+     */
+    public void take(String id) {
+        int number = numberOf(id);
+        if (number < FIRST_NUMBER) {
+            return;
+        }
+        if (number < DENSE_LIMIT) {
+            taken.set(number);
+        } else {
+            sparseTaken.add(number);
+        }
+        highWaterMark = Math.max(highWaterMark, number);
+    }
+
+    /**
+     * Marks {@code id} as no longer taken.
+     */
+    public void release(String id) {
+        int number = numberOf(id);
+        if (number < FIRST_NUMBER) {
+            return;
+        }
+        if (number < DENSE_LIMIT) {
+            taken.clear(number);
+            lowestFreeHint = Math.min(lowestFreeHint, number);
+        } else {
+            sparseTaken.remove(number);
+        }
+    }
+
+    /**
+     * Marks exactly the ids in {@code ids} as taken. The highest number ever taken is not lowered.
+     */
+    public void reset(Iterable<String> ids) {
+        requireNonNull(ids);
+        taken.clear();
+        sparseTaken.clear();
+        lowestFreeHint = FIRST_NUMBER;
+        for (String id : ids) {
+            take(id);
+        }
+    }
+
+    private String format(int number) {
+        return String.format("%s%04d", prefix, number);
+    }
+
+    /**
+     * Returns the number in {@code id}, or -1 if {@code id} is not the prefix followed by a number that fits in an
+     * {@code int}.
+     */
+    private int numberOf(String id) {
+        requireNonNull(id);
+        int length = id.length();
+        if (!id.startsWith(prefix) || length == prefix.length() || length - prefix.length() > 9) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = prefix.length(); i < length; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+}
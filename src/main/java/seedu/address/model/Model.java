@@ -2,13 +2,20 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.audit.AuditLog;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryResult;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
 
 /**
  * The API of the Model component.
@@ -55,6 +62,46 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a snapshot of the persons and teams in the address book, taken in constant time.
+     */
+    AddressBook.Snapshot snapshotAddressBook();
+
+    /**
+     * Returns the persons and teams in the address book to those in {@code snapshot}, without recording a change
+     * that can be undone. Used to roll back a change that could not be completed.
+     */
+    void restoreAddressBook(AddressBook.Snapshot snapshot);
+
+    /**
+     * Records the change that one command made to the address book since {@code previous} was taken, so that it can
+     * be undone. A new change discards the changes that could be redone. If the command made an undo or a redo, that
+     * move through the history is completed instead.
+     */
+    void commitAddressBook(AddressBook.Snapshot previous);
+
+    /**
+     * Returns true if there is a committed change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Returns the address book to its state before the last committed change.
+     * The undo takes effect in the history once it is committed with {@link #commitAddressBook(AddressBook.Snapshot)}.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns the address book to its state after the last undone change.
+     * The redo takes effect in the history once it is committed with {@link #commitAddressBook(AddressBook.Snapshot)}.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -83,6 +130,48 @@ public interface Model {
 
     Person find(Predicate<Person> predicate);
 
+    /**
+     * Returns the employee id that the next new person should get.
+     */
+    String nextPersonId();
+
+    /**
+     * Returns the team id that the next new team should get.
+     */
+    String nextTeamId();
+
+    /**
+     * Returns the person with the given employee {@code id} in the address book, or null if there is none.
+     */
+    Person findById(String id);
+
+    /**
+     * Returns the person with the given employee {@code id} if it is in the filtered person list, or null otherwise.
+     */
+    Person findShownById(String id);
+
+    /**
+     * Returns the ids of the persons in the address book whose tags match {@code expression}.
+     */
+    Set<String> findPersonIdsByTags(TagExpression expression);
+
+    /**
+     * Returns the ids of the persons in the address book whose name contains any of {@code keywords}, ignoring case.
+     */
+    Set<String> findPersonIdsByName(List<String> keywords);
+
+    /**
+     * Returns the ids of the persons in the address book with a name word close to {@code keyword}, allowing for
+     * typos, each mapped to the number of edits between them.
+     */
+    Map<String, Integer> findPersonIdsByNameFuzzy(String keyword);
+
+    /**
+     * Returns the ids of the persons in the address book meeting all of {@code conditions}, with the plan used to
+     * find them.
+     */
+    QueryResult findPersons(List<Condition> conditions);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -97,6 +186,18 @@ public interface Model {
      */
     String getOrganizationHierarchyString();
 
+    /**
+     * Returns the ids of the members of the team {@code teamId}, followed by those of the members of its subteams
+     * at any depth if {@code includeSubteams} is true.
+     * The team must exist in the address book.
+     */
+    Set<String> getTeamMemberIds(String teamId, boolean includeSubteams);
+
+    /**
+     * Returns the teams led by the person {@code personId}.
+     */
+    List<Team> getTeamsLedBy(String personId);
+
     /**
      * Adds an entry to the audit log.
      */
@@ -117,6 +218,21 @@ public interface Model {
      */
     boolean hasTeamWithId(String teamId);
 
+    /**
+     * Returns true if a team named {@code teamName} exists in the address book.
+     */
+    boolean hasTeamName(TeamName teamName);
+
+    /**
+     * Returns the team with the given ID, or null if there is no such team.
+     */
+    Team getTeamById(String teamId);
+
+    /**
+     * Returns the team that the team with the given ID is a subteam of, or null if there is no such team.
+     */
+    Team getParentTeam(String teamId);
+
     /**
      * Adds a team to the address book.
      */
@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,8 +20,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.audit.AuditLog;
 import seedu.address.model.person.Person;
-import seedu.address.model.team.Subteams;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.QueryResult;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,10 +33,21 @@ import seedu.address.model.team.Team;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** Most committed changes that can be undone; older changes are forgotten. */
+    static final int MAX_UNDO_HISTORY = 100;
+
+    /** A move through the history of changes that has been made but not committed yet. */
+    private enum HistoryMove { NONE, UNDO, REDO }
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    /** States to return to on undo, the most recent first. */
+    private final Deque<AddressBook.Snapshot> undoStates = new ArrayDeque<>();
+    /** States to return to on redo, the most recent first. */
+    private final Deque<AddressBook.Snapshot> redoStates = new ArrayDeque<>();
+    private HistoryMove pendingMove = HistoryMove.NONE;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,8 +61,6 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         sortedPersons = new SortedList<>(filteredPersons);
-        // Set the address book reference in Subteams static class
-        Subteams.setAddressBook(this.addressBook);
     }
 
     public ModelManager() {
@@ -96,6 +114,70 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBook.Snapshot snapshotAddressBook() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public void restoreAddressBook(AddressBook.Snapshot snapshot) {
+        requireNonNull(snapshot);
+        addressBook.restore(snapshot);
+        pendingMove = HistoryMove.NONE;
+    }
+
+    @Override
+    public void commitAddressBook(AddressBook.Snapshot previous) {
+        requireNonNull(previous);
+        switch (pendingMove) {
+        case UNDO:
+            undoStates.pop();
+            redoStates.push(previous);
+            break;
+        case REDO:
+            redoStates.pop();
+            pushUndoState(previous);
+            break;
+        default:
+            if (addressBook.hasChangedSince(previous)) {
+                pushUndoState(previous);
+                redoStates.clear();
+            }
+        }
+        pendingMove = HistoryMove.NONE;
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return pendingMove == HistoryMove.NONE && !undoStates.isEmpty();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return pendingMove == HistoryMove.NONE && !redoStates.isEmpty();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        assert canUndoAddressBook();
+        addressBook.restore(undoStates.peek());
+        pendingMove = HistoryMove.UNDO;
+    }
+
+    @Override
+    public void redoAddressBook() {
+        assert canRedoAddressBook();
+        addressBook.restore(redoStates.peek());
+        pendingMove = HistoryMove.REDO;
+    }
+
+    private void pushUndoState(AddressBook.Snapshot state) {
+        undoStates.push(state);
+        if (undoStates.size() > MAX_UNDO_HISTORY) {
+            undoStates.removeLast();
+        }
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -114,6 +196,24 @@ public class ModelManager implements Model {
         return (addressBook.getTeamById(teamId) != null);
     }
 
+    @Override
+    public Team getTeamById(String teamId) {
+        requireNonNull(teamId);
+        return addressBook.getTeamById(teamId);
+    }
+
+    @Override
+    public Team getParentTeam(String teamId) {
+        requireNonNull(teamId);
+        return addressBook.getParentTeam(teamId);
+    }
+
+    @Override
+    public boolean hasTeamName(TeamName teamName) {
+        requireNonNull(teamName);
+        return addressBook.hasTeamName(teamName);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -152,6 +252,57 @@ public class ModelManager implements Model {
         return addressBook.getPersonList().stream().filter(predicate).findFirst().orElse(null);
     }
 
+    @Override
+    public String nextPersonId() {
+        return addressBook.nextPersonId();
+    }
+
+    @Override
+    public String nextTeamId() {
+        return addressBook.nextTeamId();
+    }
+
+    @Override
+    public Person findById(String id) {
+        requireNonNull(id);
+        return addressBook.findPersonById(id);
+    }
+
+    @Override
+    public Set<String> findPersonIdsByTags(TagExpression expression) {
+        requireNonNull(expression);
+        return addressBook.findPersonIdsByTags(expression);
+    }
+
+    @Override
+    public Set<String> findPersonIdsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonIdsByName(keywords);
+    }
+
+    @Override
+    public Map<String, Integer> findPersonIdsByNameFuzzy(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.findPersonIdsByNameFuzzy(keyword);
+    }
+
+    @Override
+    public QueryResult findPersons(List<Condition> conditions) {
+        requireNonNull(conditions);
+        return new QueryPlanner(addressBook).execute(conditions);
+    }
+
+    @Override
+    public Person findShownById(String id) {
+        requireNonNull(id);
+        Person person = addressBook.findPersonById(id);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        if (person == null || predicate == null || predicate.test(person)) {
+            return person;
+        }
+        return null;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -206,6 +357,18 @@ public class ModelManager implements Model {
         return addressBook.getOrganizationHierarchyString();
     }
 
+    @Override
+    public Set<String> getTeamMemberIds(String teamId, boolean includeSubteams) {
+        requireNonNull(teamId);
+        return addressBook.getTeamMemberIds(teamId, includeSubteams);
+    }
+
+    @Override
+    public List<Team> getTeamsLedBy(String personId) {
+        requireNonNull(personId);
+        return addressBook.getTeamsLedBy(personId);
+    }
+
     @Override
     public void removeTeam(Team team) {
         requireNonNull(team);
@@ -215,7 +378,7 @@ public class ModelManager implements Model {
     @Override
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        sortedPersons.setComparator(comparator);
+        sortedPersons.setComparator(addressBook.maintainedComparatorFor(comparator));
     }
 
     @Override
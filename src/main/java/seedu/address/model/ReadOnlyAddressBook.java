@@ -1,6 +1,10 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListHistory;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.audit.AuditLog;
 import seedu.address.model.person.Person;
 import seedu.address.model.team.Team;
@@ -10,6 +14,15 @@ import seedu.address.model.team.Team;
  */
 public interface ReadOnlyAddressBook {
 
+    /**
+     * The parts of an address book that can be stored and tracked separately.
+     */
+    enum Section {
+        PERSONS,
+        TEAMS,
+        AUDIT_LOG
+    }
+
     /**
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
@@ -18,4 +31,42 @@ public interface ReadOnlyAddressBook {
 
     AuditLog getAuditLog();
     ObservableList<Team> getTeamList();
+
+    /**
+     * Returns the version of {@code section}, which changes every time the contents of the section change.
+     * Two address books reporting the same version for a section hold the same contents in it, so a storage can
+     * skip rewriting a section whose version it has already saved.
+     */
+    long getVersion(Section section);
+
+    /**
+     * Returns the highest team id handed out so far, including those of teams since removed, or null if there is none.
+     * It belongs to the {@link Section#TEAMS} section.
+     */
+    String getLastTeamId();
+
+    /**
+     * Returns the persons as a list that later changes to the address book do not affect.
+     */
+    PersistentList<Person> getPersonSnapshot();
+
+    /**
+     * Returns copies of the teams as a list that later changes to the address book do not affect.
+     */
+    PersistentList<Team> getTeamSnapshot();
+
+    /**
+     * Returns the changes that turn {@code from} into {@code to}, both taken with {@link #getPersonSnapshot()} from
+     * this address book or from a copy of it, or null if those changes are not known.
+     * A storage can use them to save just what changed since its last save.
+     */
+    List<ListHistory.Edit<Person>> getPersonChanges(PersistentList<Person> from, PersistentList<Person> to);
+
+    /**
+     * Returns the changes that turn {@code from} into {@code to}, both taken with {@link #getTeamSnapshot()},
+     * or null if those changes are not known.
+     *
+     * @see #getPersonChanges(PersistentList, PersistentList)
+     */
+    List<ListHistory.Edit<Team>> getTeamChanges(PersistentList<Team> from, PersistentList<Team> to);
 }
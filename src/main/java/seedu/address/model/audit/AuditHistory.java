@@ -0,0 +1,23 @@
+package seedu.address.model.audit;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * The complete, persisted history of an audit log, of which an {@link AuditLog} only keeps the newest entries.
+ */
+public interface AuditHistory {
+
+    /**
+     * Returns the number of entries in the history.
+     */
+    long getEntryCount();
+
+    /**
+     * Returns up to {@code count} entries, newest first, after skipping the {@code skip} newest entries.
+     *
+     * @throws DataLoadingException if the entries could not be read.
+     */
+    List<AuditLogEntry> readEntries(long skip, int count) throws DataLoadingException;
+}
@@ -1,29 +1,155 @@
 package seedu.address.model.audit;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDateTime;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.exceptions.DataLoadingException;
 
 /**
  * Manages audit log entries for the address book.
+ * <p>
+ * Entries are only ever appended, apart from taking back the newest one. Once an {@link AuditHistory} is attached,
+ * the log keeps just the newest entries in memory and reads older pages from the history on demand.
  */
 public class AuditLog {
+    /** Number of entries shown on one page of the log. */
+    public static final int PAGE_SIZE = 20;
+
+    /** Source of versions, shared by all audit logs so that a version identifies one state of one log. */
+    private static final AtomicLong versionCounter = new AtomicLong();
+
+    /** Entries held in memory, oldest first. */
     private final List<AuditLogEntry> entries;
+    private long version = versionCounter.incrementAndGet();
+    private AuditHistory history;
 
     public AuditLog() {
         this.entries = new ArrayList<>();
     }
 
+    /**
+     * Creates an AuditLog holding the same entries and history as {@code toBeCopied}.
+     * Entries are immutable, so they are shared rather than recreated.
+     */
+    public AuditLog(AuditLog toBeCopied) {
+        this.entries = new ArrayList<>(toBeCopied.entries);
+        this.version = toBeCopied.version;
+        this.history = toBeCopied.history;
+    }
+
     public void addEntry(String action, String details, LocalDateTime timestamp) {
-        entries.add(0, new AuditLogEntry(timestamp, action, details));
+        addEntry(new AuditLogEntry(timestamp, action, details));
     }
 
+    /**
+     * Appends {@code entry} as the newest entry of the log.
+     * With a history attached, entries older than the newest page are dropped from memory once enough accumulate.
+     */
+    public void addEntry(AuditLogEntry entry) {
+        requireNonNull(entry);
+        entries.add(entry);
+        if (history != null && entries.size() >= 2 * PAGE_SIZE) {
+            entries.subList(0, entries.size() - PAGE_SIZE).clear();
+        }
+        version = versionCounter.incrementAndGet();
+    }
+
+    /**
+     * Removes {@code entry}, which must be the newest entry of the log, e.g. because the change it records could not
+     * be saved.
+     */
+    public void removeNewestEntry(AuditLogEntry entry) {
+        requireNonNull(entry);
+        if (entries.isEmpty() || entries.get(entries.size() - 1) != entry) {
+            throw new IllegalArgumentException("Only the newest entry can be removed");
+        }
+        entries.remove(entries.size() - 1);
+        version = versionCounter.incrementAndGet();
+    }
+
+    /**
+     * Returns the entries held in memory, newest first.
+     */
     public List<AuditLogEntry> getEntries() {
-        return Collections.unmodifiableList(entries);
+        return Collections.unmodifiableList(new NewestFirstView());
     }
 
     public void clear() {
         entries.clear();
+        version = versionCounter.incrementAndGet();
+    }
+
+    /**
+     * Attaches {@code history} as the complete record of this log, replacing the entries in memory with its
+     * newest page.
+     *
+     * @throws DataLoadingException if the newest page could not be read; the log is left unchanged.
+     */
+    public void setHistory(AuditHistory history) throws DataLoadingException {
+        requireNonNull(history);
+        List<AuditLogEntry> newestPage = history.readEntries(0, PAGE_SIZE);
+        entries.clear();
+        for (int i = newestPage.size() - 1; i >= 0; i--) {
+            entries.add(newestPage.get(i));
+        }
+        this.history = history;
+        version = versionCounter.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of pages of {@link #PAGE_SIZE} entries in the log, counting the whole history if attached.
+     */
+    public int getPageCount() {
+        long entryCount = history == null ? entries.size() : Math.max(history.getEntryCount(), entries.size());
+        return (int) ((entryCount + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    /**
+     * Returns the entries on the given 1-based {@code page}, newest first. Page 1 holds the newest entries.
+     * Pages beyond the entries in memory are read from the history.
+     *
+     * @throws DataLoadingException if the page had to be read from the history and could not be.
+     */
+    public List<AuditLogEntry> getPage(int page) throws DataLoadingException {
+        if (page < 1) {
+            throw new IllegalArgumentException("Page must be positive");
+        }
+        long skip = (long) (page - 1) * PAGE_SIZE;
+        if (history == null || skip + PAGE_SIZE <= entries.size()) {
+            List<AuditLogEntry> newestFirst = getEntries();
+            int from = (int) Math.min(skip, newestFirst.size());
+            return newestFirst.subList(from, Math.min(from + PAGE_SIZE, newestFirst.size()));
+        }
+        return history.readEntries(skip, PAGE_SIZE);
+    }
+
+    /**
+     * Returns a version that changes every time an entry is added or the log is cleared.
+     * A copy made with {@link #AuditLog(AuditLog)} shares the version of the original until either changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Presents the entries, which are stored oldest first so that adding one is cheap, newest first.
+     */
+    private class NewestFirstView extends AbstractList<AuditLogEntry> implements RandomAccess {
+        @Override
+        public AuditLogEntry get(int index) {
+            return entries.get(entries.size() - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
     }
 }
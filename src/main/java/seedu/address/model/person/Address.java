@@ -3,9 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
+ * <p>
+ * Persons often share an office address, so the address string is interned.
  */
 public record Address(String value) {
 
@@ -16,6 +22,7 @@ public record Address(String value) {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].{0,149}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * Constructs an {@code Address}.
@@ -25,12 +32,13 @@ public record Address(String value) {
     public Address {
         requireNonNull(value);
         checkArgument(isValidAddress(value), MESSAGE_CONSTRAINTS);
+        value = StringUtil.intern(value);
     }
 
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 }
@@ -0,0 +1,123 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.BkTree;
+
+/**
+ * An index of the words in person names that finds the persons with a name word close to a possibly misspelled
+ * keyword.
+ * <p>
+ * The distinct lower-cased name words are kept in a {@link BkTree}, and each word maps to the ids of the persons
+ * whose name contains it. Words whose last person is removed stay in the tree but are skipped, and the tree is rebuilt
+ * from the words in use once the skipped words outnumber them.
+ */
+public class FuzzyNameIndex {
+
+    /** Length up to which a keyword is short, and may only be {@code SHORT_KEYWORD_MAX_DISTANCE} edits off. */
+    private static final int SHORT_KEYWORD_LENGTH = 3;
+    private static final int SHORT_KEYWORD_MAX_DISTANCE = 1;
+    private static final int LONG_KEYWORD_MAX_DISTANCE = 2;
+    /** Number of skipped words that is always tolerated before the tree is rebuilt. */
+    private static final int MIN_REBUILD_SLACK = 64;
+
+    private final Map<String, Set<String>> personIdsByWord = new HashMap<>();
+    private BkTree words = new BkTree();
+
+    /**
+     * Returns the most edits allowed between {@code keyword} and a name word for them to match: one for keywords of
+     * up to three characters, and two for longer ones.
+     */
+    public static int maxDistanceFor(String keyword) {
+        return keyword.length() <= SHORT_KEYWORD_LENGTH ? SHORT_KEYWORD_MAX_DISTANCE : LONG_KEYWORD_MAX_DISTANCE;
+    }
+
+    /**
+     * Indexes the name words of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            personIdsByWord.computeIfAbsent(word, w -> {
+                words.add(w);
+                return new LinkedHashSet<>();
+            }).add(person.id());
+        }
+    }
+
+    /**
+     * Removes {@code person} and its name words from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : wordsOf(person)) {
+            Set<String> personIds = personIdsByWord.get(word);
+            if (personIds == null) {
+                continue;
+            }
+            personIds.remove(person.id());
+            if (personIds.isEmpty()) {
+                personIdsByWord.remove(word);
+            }
+        }
+        if (words.size() > 2 * personIdsByWord.size() + MIN_REBUILD_SLACK) {
+            rebuildWords();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the name words of {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personIdsByWord.clear();
+        words = new BkTree();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the ids of the persons with a name word within {@link #maxDistanceFor(String)} edits of
+     * {@code keyword}, ignoring case, each mapped to the fewest edits of any of its name words.
+     */
+    public Map<String, Integer> findPersonIds(String keyword) {
+        requireNonNull(keyword);
+        String normalizedKeyword = keyword.toLowerCase(Locale.ROOT);
+        Map<String, Integer> distances = new LinkedHashMap<>();
+        words.search(normalizedKeyword, maxDistanceFor(normalizedKeyword), (word, distance) -> {
+            Set<String> personIds = personIdsByWord.get(word);
+            if (personIds == null) {
+                return;
+            }
+            for (String personId : personIds) {
+                distances.merge(personId, distance, Math::min);
+            }
+        });
+        return distances;
+    }
+
+    private void rebuildWords() {
+        words = new BkTree();
+        for (String word : personIdsByWord.keySet()) {
+            words.add(word);
+        }
+    }
+
+    private static Set<String> wordsOf(Person person) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : person.name().fullName().toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
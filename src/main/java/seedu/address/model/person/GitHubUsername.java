@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's GitHub username.
  * Guarantees: immutable; is valid as declared in {@link #isValidGitHubUsername(String)}
@@ -16,6 +18,8 @@ public record GitHubUsername(String value) {
 
     public static final String VALIDATION_REGEX = "^@[a-zA-Z0-9](?:[a-zA-Z0-9]|-(?=[a-zA-Z0-9])){2,38}$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     /**
      * Constructs a {@code GitHubUserName}.
      *
@@ -30,6 +34,6 @@ public record GitHubUsername(String value) {
      * Returns true if a given string is a valid GitHub username.
      */
     public static boolean isValidGitHubUsername(String test) {
-        return test.matches(VALIDATION_REGEX) || test.isEmpty();
+        return VALIDATION_PATTERN.matcher(test).matches() || test.isEmpty();
     }
 }
@@ -0,0 +1,173 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.CompressedBitmap;
+
+/**
+ * An index from each trigram (run of three characters) of the lower-cased person names to the persons whose name
+ * contains it.
+ * <p>
+ * Each person id is given a dense ordinal the first time it is seen, and the persons with a trigram are kept as a
+ * {@link CompressedBitmap} of ordinals. A name can only contain a keyword if it contains every trigram of the
+ * keyword, so intersecting the bitmaps of the keyword's trigrams leaves a small set of candidates, and only their
+ * names are then checked. Keywords shorter than a trigram cannot be narrowed down and are checked against every name.
+ */
+public class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> personIds = new ArrayList<>();
+    /** Lower-cased name of the person with each ordinal, or null if that person is not currently indexed. */
+    private final List<String> names = new ArrayList<>();
+    private final Map<Long, CompressedBitmap> personsByTrigram = new HashMap<>();
+    /** Ordinals of all persons currently indexed, the candidates for keywords too short to narrow down. */
+    private CompressedBitmap allPersons = new CompressedBitmap();
+
+    /**
+     * Indexes the name of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinalOf(person.id());
+        String name = normalize(person.name().fullName());
+        names.set(ordinal, name);
+        allPersons.add(ordinal);
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            personsByTrigram.computeIfAbsent(trigramAt(name, i), t -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person} and its name from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.get(person.id());
+        if (ordinal == null || names.get(ordinal) == null) {
+            return;
+        }
+        String name = names.get(ordinal);
+        names.set(ordinal, null);
+        allPersons.remove(ordinal);
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            long trigram = trigramAt(name, i);
+            CompressedBitmap persons = personsByTrigram.get(trigram);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(ordinal);
+            if (persons.cardinality() == 0) {
+                personsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the whole index with the names of {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        ordinals.clear();
+        personIds.clear();
+        names.clear();
+        personsByTrigram.clear();
+        allPersons = new CompressedBitmap();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the ids of the indexed persons whose name contains any of {@code keywords}, ignoring case, in the order
+     * they were first indexed.
+     */
+    public Set<String> findPersonIds(List<String> keywords) {
+        requireNonNull(keywords);
+        CompressedBitmap matches = new CompressedBitmap();
+        for (String keyword : keywords) {
+            String normalizedKeyword = normalize(keyword);
+            candidatesFor(normalizedKeyword).forEach(ordinal -> {
+                if (names.get(ordinal).contains(normalizedKeyword)) {
+                    matches.add(ordinal);
+                }
+            });
+        }
+        Set<String> ids = new LinkedHashSet<>();
+        matches.forEach(ordinal -> ids.add(personIds.get(ordinal)));
+        return ids;
+    }
+
+    /**
+     * Returns an upper bound on the number of indexed persons whose name contains {@code keyword}, ignoring case:
+     * the number of persons with the rarest trigram of the keyword. This is much cheaper than finding the persons.
+     */
+    public int estimateCount(String keyword) {
+        requireNonNull(keyword);
+        String normalizedKeyword = normalize(keyword);
+        if (normalizedKeyword.length() < GRAM_LENGTH) {
+            return allPersons.cardinality();
+        }
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i + GRAM_LENGTH <= normalizedKeyword.length(); i++) {
+            CompressedBitmap persons = personsByTrigram.get(trigramAt(normalizedKeyword, i));
+            if (persons == null) {
+                return 0;
+            }
+            estimate = Math.min(estimate, persons.cardinality());
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name contains every trigram of {@code keyword}.
+     */
+    private CompressedBitmap candidatesFor(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return allPersons;
+        }
+        CompressedBitmap candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            CompressedBitmap persons = personsByTrigram.get(trigramAt(keyword, i));
+            if (persons == null) {
+                return new CompressedBitmap();
+            }
+            candidates = candidates == null ? persons : candidates.and(persons);
+            if (candidates.cardinality() == 0) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the three characters of {@code text} starting at {@code start}, packed into a {@code long}.
+     */
+    private static long trigramAt(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private int ordinalOf(String personId) {
+        Integer ordinal = ordinals.get(personId);
+        if (ordinal == null) {
+            ordinal = personIds.size();
+            ordinals.put(personId, ordinal);
+            personIds.add(personId);
+            names.add(null);
+        }
+        return ordinal;
+    }
+}
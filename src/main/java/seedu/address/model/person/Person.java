@@ -5,7 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -17,6 +19,12 @@ public record Person(
         Address address, GitHubUsername gitHubUsername,
         Set<String> teamIds, Set<Tag> tags, Salary salary
 ) {
+    public static final String ID_MESSAGE_CONSTRAINTS = "Person ids should be E followed by a number of 4 to 9 digits, "
+            + "zero-padded to 4 digits, e.g. E0001 or E10000";
+    /** Matches exactly the ids an {@link seedu.address.model.IdAllocator} hands out, so no two name one number. */
+    public static final String ID_VALIDATION_REGEX = "E(\\d{4}|[1-9]\\d{4,8})";
+    private static final Pattern ID_VALIDATION_PATTERN = Pattern.compile(ID_VALIDATION_REGEX);
+
     /**
      * Backwards-compatible constructor used in many places: creates a Person with no teams and default salary 0.
      */
@@ -28,9 +36,23 @@ public record Person(
 
     /**
      * Canonical constructor.
+     * Most persons have no teams or no tags, so empty sets are replaced by the shared empty set.
      */
     public Person {
         requireAllNonNull(id, name, phone, email, address, gitHubGitNullSafe(gitHubUsername), tags, salary);
+        if (teamIds != null && teamIds.isEmpty()) {
+            teamIds = Collections.emptySet();
+        }
+        if (tags.isEmpty()) {
+            tags = Collections.emptySet();
+        }
+    }
+
+    /**
+     * Returns true if {@code test} is a valid person id.
+     */
+    public static boolean isValidId(String test) {
+        return ID_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     private static GitHubUsername gitHubGitNullSafe(GitHubUsername username) {
@@ -103,8 +125,8 @@ public record Person(
      */
     public Person withAddedTeam(String newTeamId) {
         Set<String> newTeamIds = new HashSet<>(teamIds);
-        newTeamIds.add(newTeamId);
-        return new Person(id, name, phone, email, address, gitHubUsername, newTeamIds, new HashSet<>(tags), salary);
+        newTeamIds.add(StringUtil.intern(newTeamId));
+        return new Person(id, name, phone, email, address, gitHubUsername, newTeamIds, tags, salary);
     }
 
     /**
@@ -114,7 +136,7 @@ public record Person(
     public Person withRemovedTeam(String removeTeamId) {
         Set<String> newTeamIds = new HashSet<>(teamIds);
         newTeamIds.remove(removeTeamId);
-        return new Person(id, name, phone, email, address, gitHubUsername, newTeamIds, new HashSet<>(tags), salary);
+        return new Person(id, name, phone, email, address, gitHubUsername, newTeamIds, tags, salary);
     }
 
     /**
@@ -225,7 +247,7 @@ public record Person(
          * @return This builder object.
          */
         public Builder withSalary(double salaryInDollars) {
-            this.salary = new Salary(salaryInDollars);
+            this.salary = Salary.ofDollars(salaryInDollars);
             return this;
         }
 
@@ -235,7 +257,7 @@ public record Person(
          * @return This builder object.
          */
         public Builder withSalaryInCents(long salaryInCents) {
-            this.salary = new Salary(salaryInCents / 100.0);
+            this.salary = new Salary(salaryInCents);
             return this;
         }
 
@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders persons by a sequence of {@link PersonSortField}s, each breaking the ties of the ones before it.
+ * <p>
+ * Sorting compares each person many times, so the sort keys of a person, such as its lower-cased name, are computed
+ * the first time it is compared and cached by id. Persons are immutable, so a cached entry stays valid as long as it
+ * belongs to the same {@code Person} instance; an edited person is a new instance and gets fresh keys. Like the lists
+ * it sorts, a comparator must not be used by several threads at once.
+ */
+public class PersonComparator implements Comparator<Person> {
+
+    private final List<PersonSortField> fields;
+    private final int keyCount;
+    /** Keys of the persons compared so far by id, or null if keys are not cached. */
+    private final Map<String, CachedKeys> keysById;
+
+    /**
+     * Creates a comparator that orders persons by {@code fields}, in order.
+     */
+    public PersonComparator(List<PersonSortField> fields) {
+        this(fields, true);
+    }
+
+    /**
+     * Creates a comparator that orders persons by {@code fields}, in order, and caches their keys if
+     * {@code isCaching}. Comparators that compare each person only a few times need not spend memory on a cache.
+     */
+    PersonComparator(List<PersonSortField> fields, boolean isCaching) {
+        requireNonNull(fields);
+        this.fields = List.copyOf(fields);
+        this.keyCount = this.fields.stream().mapToInt(PersonSortField::keyCount).sum();
+        this.keysById = isCaching ? new HashMap<>() : null;
+    }
+
+    public List<PersonSortField> fields() {
+        return fields;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int compare(Person first, Person second) {
+        Comparable[] firstKeys = keysOf(first);
+        Comparable[] secondKeys = keysOf(second);
+        for (int i = 0; i < keyCount; i++) {
+            int result = firstKeys[i].compareTo(secondKeys[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private Comparable<?>[] keysOf(Person person) {
+        if (keysById == null) {
+            return computeKeys(person);
+        }
+        CachedKeys cached = keysById.get(person.id());
+        if (cached != null && cached.person() == person) {
+            return cached.keys();
+        }
+        Comparable<?>[] keys = computeKeys(person);
+        keysById.put(person.id(), new CachedKeys(person, keys));
+        return keys;
+    }
+
+    private Comparable<?>[] computeKeys(Person person) {
+        Comparable<?>[] keys = new Comparable<?>[keyCount];
+        int from = 0;
+        for (PersonSortField field : fields) {
+            field.writeKeys(person, keys, from);
+            from += field.keyCount();
+        }
+        return keys;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersonComparator otherComparator)) {
+            return false;
+        }
+        return fields.equals(otherComparator.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return fields.toString();
+    }
+
+    /**
+     * The sort keys computed for one version of a person.
+     */
+    private record CachedKeys(Person person, Comparable<?>[] keys) {}
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A field that persons can be sorted by, with the key it is sorted on. Text fields other than the phone number and
+ * id are sorted ignoring case first, and then by case, so that the order is total.
+ */
+public enum PersonSortField {
+    NAME(person -> person.name().fullName(), true),
+    PHONE(person -> person.phone().value(), false),
+    EMAIL(person -> person.email().value(), true),
+    ADDRESS(person -> person.address().value(), true),
+    GITHUB(person -> person.gitHubUsername().value(), true),
+    ID(Person::id, false),
+    SALARY(Person::salary, false),
+    TEAM(person -> String.join("", person.teamIds().stream().sorted().toList()), false);
+
+    private final Function<Person, Comparable<?>> selector;
+    private final boolean isCaseInsensitive;
+
+    PersonSortField(Function<Person, Comparable<?>> selector, boolean isCaseInsensitive) {
+        this.selector = selector;
+        this.isCaseInsensitive = isCaseInsensitive;
+    }
+
+    /**
+     * Returns the number of keys this field contributes to a person's sort keys.
+     */
+    int keyCount() {
+        return isCaseInsensitive ? 2 : 1;
+    }
+
+    /**
+     * Writes the sort keys of {@code person} for this field into {@code keys}, starting at {@code from}.
+     */
+    void writeKeys(Person person, Comparable<?>[] keys, int from) {
+        Comparable<?> key = selector.apply(person);
+        if (isCaseInsensitive) {
+            keys[from] = ((String) key).toLowerCase(Locale.ROOT);
+            keys[from + 1] = key;
+        } else {
+            keys[from] = key;
+        }
+    }
+}
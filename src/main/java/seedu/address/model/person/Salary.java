@@ -1,31 +1,53 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 
 /**
- * Represents a Person's salary in the address book, rounded to 2 decimal places.
- * @param value The salary in dollars.
+ * Represents a Person's salary in the address book, stored exactly as a whole number of cents.
+ * @param inCents The salary in cents.
  */
-public record Salary(double value) implements Comparable<Salary> {
+public record Salary(long inCents) implements Comparable<Salary> {
     public static final String MESSAGE_CONSTRAINTS = "Salary should be a positive number.";
 
+    /** {@code DecimalFormat} is not thread-safe, so each thread formats with its own instance. */
+    private static final ThreadLocal<DecimalFormat> FORMAT = ThreadLocal.withInitial(() ->
+            new DecimalFormat("#,###.##"));
+
     public Salary {
-        checkArgument(value >= 0, MESSAGE_CONSTRAINTS);
+        checkArgument(inCents >= 0, MESSAGE_CONSTRAINTS);
     }
 
-    @Override
-    public double value() {
-        return Double.parseDouble(String.format("%.2f", value));
+    /**
+     * Returns a salary of {@code dollars}, rounded to the nearest cent.
+     */
+    public static Salary ofDollars(double dollars) {
+        checkArgument(dollars >= 0, MESSAGE_CONSTRAINTS);
+        return new Salary(Math.round(dollars * 100));
+    }
+
+    /**
+     * Returns a salary of the decimal dollar amount in {@code dollars}, rounded half up to the nearest cent.
+     * Unlike {@link #ofDollars(double)}, the amount is never rounded through a {@code double} first.
+     * @throws NumberFormatException if {@code dollars} is not a decimal number.
+     * @throws ArithmeticException if the amount does not fit in a {@code long} of cents.
+     */
+    public static Salary parse(String dollars) {
+        requireNonNull(dollars);
+        BigDecimal cents = new BigDecimal(dollars.trim()).movePointRight(2).setScale(0, RoundingMode.HALF_UP);
+        checkArgument(cents.signum() >= 0, MESSAGE_CONSTRAINTS);
+        return new Salary(cents.longValueExact());
     }
 
     /**
-     * Converts the salary to cents.
-     * @return The salary as cents.
+     * Returns the salary in dollars.
      */
-    public long inCents() {
-        return Math.round(value * 100);
+    public double value() {
+        return inCents / 100.0;
     }
 
     /**
@@ -37,14 +59,21 @@ public record Salary(double value) implements Comparable<Salary> {
         return value();
     }
 
+    /**
+     * Returns the exact dollar amount with two decimal places, e.g. {@code 1234.50}, which {@link #parse(String)}
+     * reads back to an equal salary.
+     */
+    public String toPlainString() {
+        return BigDecimal.valueOf(inCents, 2).toPlainString();
+    }
+
     @Override
     public int compareTo(Salary other) {
-        return Double.compare(this.value(), other.value());
+        return Long.compare(inCents, other.inCents);
     }
 
     @Override
     public String toString() {
-        DecimalFormat format = new DecimalFormat("#,###.##");
-        return String.format("$%s / month", format.format(value()));
+        return String.format("$%s / month", FORMAT.get().format(value()));
     }
 }
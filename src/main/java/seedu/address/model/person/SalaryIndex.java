@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the persons by salary, sorted so that the persons with a salary in a range can be found without
+ * looking at every person.
+ */
+public class SalaryIndex {
+
+    /** Ids of the persons with each salary, by salary in cents. */
+    private final NavigableMap<Long, Set<String>> personIdsByCents = new TreeMap<>();
+
+    /**
+     * Indexes the salary of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        personIdsByCents.computeIfAbsent(person.salary().inCents(), cents -> new LinkedHashSet<>()).add(person.id());
+    }
+
+    /**
+     * Removes {@code person} and its salary from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        long cents = person.salary().inCents();
+        Set<String> personIds = personIdsByCents.get(cents);
+        if (personIds == null) {
+            return;
+        }
+        personIds.remove(person.id());
+        if (personIds.isEmpty()) {
+            personIdsByCents.remove(cents);
+        }
+    }
+
+    /**
+     * Replaces the whole index with the salaries of {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personIdsByCents.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the ids of the persons whose salary is from {@code minCents} to {@code maxCents}, both inclusive,
+     * in increasing order of salary.
+     */
+    public Set<String> findPersonIds(long minCents, long maxCents) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (Set<String> personIds : range(minCents, maxCents).values()) {
+            ids.addAll(personIds);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of persons whose salary is from {@code minCents} to {@code maxCents}, both inclusive, or
+     * some number above {@code limit} if there are more than {@code limit}, so that counting stops early.
+     */
+    public int countPersonIds(long minCents, long maxCents, int limit) {
+        int count = 0;
+        for (Map.Entry<Long, Set<String>> entry : range(minCents, maxCents).entrySet()) {
+            count += entry.getValue().size();
+            if (count > limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    private NavigableMap<Long, Set<String>> range(long minCents, long maxCents) {
+        if (minCents > maxCents) {
+            return new TreeMap<>();
+        }
+        return personIdsByCents.subMap(minCents, true, maxCents, true);
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The persons kept in order of one {@link PersonSortField}, ties broken by id, as they are added, edited and removed.
+ * <p>
+ * Each person carries a numeric label that increases along the order, so that {@link #comparator()} compares two
+ * persons by comparing two numbers. A new person is labelled halfway between its neighbours, found in logarithmic
+ * time; only when there is no room left between them are all the persons relabelled, spread out evenly again. An
+ * edit therefore moves one person within the order without re-sorting the rest, and lists sorted by the comparator
+ * only ever compare labels.
+ */
+public class SortOrderIndex {
+
+    /** Distance between neighbouring labels after relabelling, leaving room for 32 halvings. */
+    private static final long GAP = 1L << 32;
+
+    private final PersonSortField field;
+    private final PersonComparator keyComparator;
+    private final TreeSet<Person> persons;
+    private final Map<String, Label> labelsById = new HashMap<>();
+    private final Comparator<Person> labelComparator = this::compareLabels;
+
+    /**
+     * Creates an empty index ordered by {@code field}.
+     */
+    public SortOrderIndex(PersonSortField field) {
+        requireNonNull(field);
+        this.field = field;
+        // An edit compares only a few persons along the path to its place, so their keys are not worth caching.
+        this.keyComparator = new PersonComparator(List.of(field, PersonSortField.ID), false);
+        this.persons = new TreeSet<>(keyComparator);
+    }
+
+    public PersonSortField getField() {
+        return field;
+    }
+
+    /**
+     * Returns a comparator that orders persons by the field of this index, ties broken by id, by comparing their
+     * labels. Persons not in the index are compared by their keys instead.
+     */
+    public Comparator<Person> comparator() {
+        return labelComparator;
+    }
+
+    /**
+     * Adds {@code person} to the order.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        persons.add(person);
+        Person lower = persons.lower(person);
+        Person higher = persons.higher(person);
+        long low = lower == null ? 0 : labelOf(lower);
+        long high;
+        if (higher != null) {
+            high = labelOf(higher);
+        } else {
+            high = low > Long.MAX_VALUE - 2 * GAP ? Long.MAX_VALUE : low + 2 * GAP;
+        }
+        if (high - low < 2) {
+            relabel();
+        } else {
+            labelsById.put(person.id(), new Label(person, low + (high - low) / 2));
+        }
+    }
+
+    /**
+     * Removes {@code person} from the order.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Label label = labelsById.get(person.id());
+        if (label == null || !label.person().equals(person)) {
+            return;
+        }
+        persons.remove(label.person());
+        labelsById.remove(person.id());
+    }
+
+    /**
+     * Replaces the whole order with {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        this.persons.clear();
+        for (Person person : persons) {
+            this.persons.add(person);
+        }
+        relabel();
+    }
+
+    private void relabel() {
+        labelsById.clear();
+        long label = GAP;
+        for (Person person : persons) {
+            labelsById.put(person.id(), new Label(person, label));
+            label += GAP;
+        }
+    }
+
+    private long labelOf(Person person) {
+        return labelsById.get(person.id()).value();
+    }
+
+    private int compareLabels(Person first, Person second) {
+        Label firstLabel = labelsById.get(first.id());
+        Label secondLabel = labelsById.get(second.id());
+        if (firstLabel == null || firstLabel.person() != first
+                || secondLabel == null || secondLabel.person() != second) {
+            return keyComparator.compare(first, second);
+        }
+        return Long.compare(firstLabel.value(), secondLabel.value());
+    }
+
+    /**
+     * The position of one version of a person in the order.
+     */
+    private record Label(Person person, long value) {}
+}
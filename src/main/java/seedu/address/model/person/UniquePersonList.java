@@ -4,13 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListHistory;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PositionIndex;
+import seedu.address.model.IdAllocator;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +33,18 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * Persons are indexed by lower-cased name and by employee id, so identity checks and lookups by id take constant
+ * time. Employee ids must be unique as well, as every index keys persons by id; adding or setting a person whose
+ * id is taken by another person throws a {@link DuplicatePersonException}. Tags are kept in a {@link TagIndex} and
+ * names in a {@link NameTrigramIndex} and a {@link FuzzyNameIndex}, so persons can be filtered by tag or searched by
+ * name, exactly or allowing for typos, without looking at every person. Salaries are kept sorted in a
+ * {@link SalaryIndex} for range queries. The employee ids in use are kept in an {@link IdAllocator}, so the next free
+ * id is found without a scan.
+ * <p>
+ * Every change is also recorded in a {@link ListHistory}, so a snapshot of the list can be taken in constant time,
+ * and restoring a recent snapshot undoes or redoes just the changes made since, updating the indexes person by
+ * person instead of rebuilding them.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -29,13 +54,96 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Persons by {@link #nameKey(Person) name key}. */
+    private final Map<String, Person> personsByName = new HashMap<>();
+    /** Position of each person in {@code internalList} by id. */
+    private final PositionIndex<Person> positions = new PositionIndex<>(internalList, Person::id);
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+    private final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex();
+    private final SalaryIndex salaryIndex = new SalaryIndex();
+    /** The orders persons have been sorted in, kept up to date as persons change rather than sorted again. */
+    private final Map<PersonSortField, SortOrderIndex> sortOrders = new EnumMap<>(PersonSortField.class);
+    /** Employee ids; the ids of removed persons are given to new persons again. */
+    private final IdAllocator ids = new IdAllocator("E", true);
+    /** Versions of {@code internalList}, the current one holding the same persons in the same order. */
+    private final ListHistory<Person> history = new ListHistory<>();
+    /** Applies the changes recorded in {@code history} to this list when a snapshot is restored. */
+    private final ListHistory.Target<Person> replay = new ListHistory.Target<>() {
+        @Override
+        public void set(int index, Person person) {
+            setAt(index, person);
+        }
+
+        @Override
+        public void add(int index, Person person) {
+            insertAt(index, person);
+        }
+
+        @Override
+        public void remove(int index) {
+            removeAt(index);
+        }
+
+        @Override
+        public void setAll(PersistentList<Person> persons) {
+            replaceAll(persons.toList());
+        }
+    };
+
     /**
      * Sorts the internal list using the given comparator.
      * @param comparator The comparator used to sort the internal list.
      */
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        comparator = maintainedComparatorFor(comparator);
         internalList.sort(comparator);
+        positions.reordered();
+        history.setAll(PersistentList.of(internalList));
+    }
+
+    /**
+     * Returns a comparator that sorts the persons in this list the same way as {@code comparator}, but faster.
+     * <p>
+     * If {@code comparator} is a {@link PersonComparator} by name, id or salary, the order is kept in a
+     * {@link SortOrderIndex} from then on, and the returned comparator only compares the positions of persons in it.
+     * Persons with equal salaries, which {@code comparator} would leave in their current order, are then ordered by
+     * id. For any other comparator, {@code comparator} itself is returned.
+     */
+    public Comparator<Person> maintainedComparatorFor(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        PersonSortField field = maintainableFieldOf(comparator);
+        if (field == null) {
+            return comparator;
+        }
+        return sortOrders.computeIfAbsent(field, f -> {
+            SortOrderIndex order = new SortOrderIndex(f);
+            order.setPersons(internalList);
+            return order;
+        }).comparator();
+    }
+
+    /**
+     * Returns the field whose {@link SortOrderIndex} orders persons the same way as {@code comparator}, or null if
+     * there is none.
+     */
+    private static PersonSortField maintainableFieldOf(Comparator<Person> comparator) {
+        if (!(comparator instanceof PersonComparator personComparator) || personComparator.fields().isEmpty()) {
+            return null;
+        }
+        List<PersonSortField> fields = personComparator.fields();
+        PersonSortField first = fields.get(0);
+        switch (first) {
+        case NAME:
+        case ID:
+            // Names and ids are unique, so the fields after them never decide the order.
+            return first;
+        case SALARY:
+            return fields.size() == 1 || fields.get(1) == PersonSortField.ID ? first : null;
+        default:
+            return null;
+        }
     }
 
     /**
@@ -43,30 +151,108 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(nameKey(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a person with the given employee {@code id}.
+     */
+    public boolean containsId(String id) {
+        requireNonNull(id);
+        return positions.contains(id);
+    }
+
+    /**
+     * Returns the person with the given employee {@code id}, or null if there is none.
+     */
+    public Person findById(String id) {
+        requireNonNull(id);
+        int position = positions.positionOf(id);
+        return position == -1 ? null : internalList.get(position);
+    }
+
+    /**
+     * Returns the ids of the persons whose tags match {@code expression}.
+     */
+    public Set<String> findIdsByTags(TagExpression expression) {
+        requireNonNull(expression);
+        return tagIndex.findPersonIds(expression);
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    public int countWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagIndex.countPersons(tag);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains {@code keyword}, ignoring case.
+     *
+     * @see NameTrigramIndex#estimateCount(String)
+     */
+    public int estimateCountByName(String keyword) {
+        requireNonNull(keyword);
+        return nameIndex.estimateCount(keyword);
+    }
+
+    /**
+     * Returns the ids of the persons whose salary is from {@code minCents} to {@code maxCents}, both inclusive.
+     */
+    public Set<String> findIdsBySalary(long minCents, long maxCents) {
+        return salaryIndex.findPersonIds(minCents, maxCents);
+    }
+
+    /**
+     * Returns the number of persons whose salary is from {@code minCents} to {@code maxCents}, both inclusive, or
+     * some number above {@code limit} if there are more.
+     */
+    public int countBySalary(long minCents, long maxCents, int limit) {
+        return salaryIndex.countPersonIds(minCents, maxCents, limit);
+    }
+
+    /**
+     * Returns the ids of the persons whose name contains any of {@code keywords}, ignoring case.
+     */
+    public Set<String> findIdsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.findPersonIds(keywords);
+    }
+
+    /**
+     * Returns the ids of the persons with a name word close to {@code keyword}, each mapped to the number of edits
+     * between them.
+     *
+     * @see FuzzyNameIndex#findPersonIds(String)
+     */
+    public Map<String, Integer> findIdsByNameFuzzy(String keyword) {
+        requireNonNull(keyword);
+        return fuzzyNameIndex.findPersonIds(keyword);
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, and its id must not be taken.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || containsId(toAdd.id())) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        insertAt(internalList.size(), toAdd);
+        history.add(internalList.size() - 1, toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person identity and id of {@code editedPerson} must not be the same as another existing person in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -74,8 +260,12 @@ public class UniquePersonList implements Iterable<Person> {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        if (!target.id().equals(editedPerson.id()) && containsId(editedPerson.id())) {
+            throw new DuplicatePersonException();
+        }
 
-        internalList.set(index, editedPerson);
+        setAt(index, editedPerson);
+        history.set(index, editedPerson);
     }
 
     /**
@@ -84,19 +274,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeAt(index);
+        history.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList);
+        history.setAll(replacement.snapshot());
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons or ids.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
@@ -104,7 +298,46 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceAll(persons);
+        history.setAll(PersistentList.of(persons));
+    }
+
+    /**
+     * Returns the persons in this list, in order, as a list that later changes to this list do not affect.
+     * Takes constant time.
+     */
+    public PersistentList<Person> snapshot() {
+        return history.current();
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code snapshot}, which must have been taken from a
+     * {@code UniquePersonList}.
+     * <p>
+     * If the snapshot is one of the recent versions of this list, only the persons changed since are replaced, each
+     * in time proportional to the cost of indexing one person. Otherwise the whole list is replaced and reindexed.
+     */
+    public void restore(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        if (!history.moveTo(snapshot, replay)) {
+            replaceAll(snapshot.toList());
+            history.setAll(snapshot);
+        }
+    }
+
+    /**
+     * Returns the changes that turn snapshot {@code from} of this list into snapshot {@code to}, or null if they are
+     * no longer known, e.g. because the whole list was replaced in between.
+     */
+    public List<ListHistory.Edit<Person>> changesBetween(PersistentList<Person> from, PersistentList<Person> to) {
+        return history.changesBetween(from, to);
+    }
+
+    /**
+     * Returns the employee id that the next new person should get: the lowest one that is not taken.
+     */
+    public String nextId() {
+        return ids.next();
     }
 
     /**
@@ -116,7 +349,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -144,14 +377,120 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the key under which {@code person} is indexed by name.
+     * Names are alphanumeric, so comparing lower-cased names matches {@link Person#isSamePerson(Person)}.
+     */
+    private static String nameKey(Person person) {
+        return person.name().fullName().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the position of {@code person}, which must equal the person found there, or -1 if it is not in the list.
+     */
+    private int indexOf(Person person) {
+        int position = positions.positionOf(person.id());
+        if (position != -1 && internalList.get(position).equals(person)) {
+            return position;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts {@code person} at {@code index} and indexes it, without recording the change in the history.
+     */
+    private void insertAt(int index, Person person) {
+        // Sorted views of the list compare persons as soon as it changes, so the orders are updated first.
+        sortOrders.values().forEach(order -> order.add(person));
+        internalList.add(index, person);
+        personsByName.put(nameKey(person), person);
+        positions.added(index, person);
+        tagIndex.add(person);
+        nameIndex.add(person);
+        fuzzyNameIndex.add(person);
+        salaryIndex.add(person);
+        ids.take(person.id());
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code person} and reindexes it, without recording the change in
+     * the history.
+     */
+    private void setAt(int index, Person person) {
+        Person target = internalList.get(index);
+        sortOrders.values().forEach(order -> {
+            order.remove(target);
+            order.add(person);
+        });
+        internalList.set(index, person);
+        personsByName.remove(nameKey(target));
+        personsByName.put(nameKey(person), person);
+        positions.replaced(index, target, person);
+        tagIndex.remove(target);
+        tagIndex.add(person);
+        nameIndex.remove(target);
+        nameIndex.add(person);
+        fuzzyNameIndex.remove(target);
+        fuzzyNameIndex.add(person);
+        salaryIndex.remove(target);
+        salaryIndex.add(person);
+        ids.release(target.id());
+        ids.take(person.id());
+    }
+
+    /**
+     * Removes the person at {@code index} and unindexes it, without recording the change in the history.
+     */
+    private void removeAt(int index) {
+        Person target = internalList.get(index);
+        sortOrders.values().forEach(order -> order.remove(target));
+        internalList.remove(index);
+        personsByName.remove(nameKey(target));
+        positions.removed(index, target);
+        tagIndex.remove(target);
+        nameIndex.remove(target);
+        fuzzyNameIndex.remove(target);
+        salaryIndex.remove(target);
+        ids.release(target.id());
+    }
+
+    /**
+     * Replaces all the persons with {@code persons} and rebuilds the indexes, without recording the change in the
+     * history.
+     */
+    private void replaceAll(List<Person> persons) {
+        setSortOrders(persons);
+        internalList.setAll(persons);
+        rebuildIndexes();
+    }
+
+    private void rebuildIndexes() {
+        personsByName.clear();
+        for (Person person : internalList) {
+            personsByName.put(nameKey(person), person);
+        }
+        positions.rebuild();
+        tagIndex.setPersons(internalList);
+        nameIndex.setPersons(internalList);
+        fuzzyNameIndex.setPersons(internalList);
+        salaryIndex.setPersons(internalList);
+        ids.reset(positions.keys());
+    }
+
+    private void setSortOrders(List<Person> persons) {
+        for (SortOrderIndex order : sortOrders.values()) {
+            order.setPersons(persons);
+        }
+    }
+
+    /**
+     * Returns true if {@code persons} contains only unique persons with unique ids.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> names = new HashSet<>();
+        Set<String> ids = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(nameKey(person)) || !ids.add(person.id())) {
+                return false;
             }
         }
         return true;
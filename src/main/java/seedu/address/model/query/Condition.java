@@ -0,0 +1,108 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A condition on a single field of a person, such as {@code tag backend}. A query matches the persons that meet all
+ * of its conditions; {@link QueryPlanner} decides how to find and check them.
+ */
+public interface Condition {
+
+    /**
+     * Matches the person with employee id {@code id}.
+     */
+    record IdIs(String id) implements Condition {
+        public IdIs {
+            requireNonNull(id);
+        }
+
+        @Override
+        public String toString() {
+            return "id " + id;
+        }
+    }
+
+    /**
+     * Matches persons whose name contains {@code keyword}, ignoring case.
+     */
+    record NameContains(String keyword) implements Condition {
+        public NameContains {
+            requireNonNull(keyword);
+        }
+
+        @Override
+        public String toString() {
+            return "name contains \"" + keyword + "\"";
+        }
+    }
+
+    /**
+     * Matches persons with {@code tag}.
+     */
+    record HasTag(Tag tag) implements Condition {
+        public HasTag {
+            requireNonNull(tag);
+        }
+
+        @Override
+        public String toString() {
+            return "tag " + tag.tagName;
+        }
+    }
+
+    /**
+     * Matches the direct members of the team {@code teamId}.
+     */
+    record InTeam(String teamId) implements Condition {
+        public InTeam {
+            requireNonNull(teamId);
+        }
+
+        @Override
+        public String toString() {
+            return "team " + teamId;
+        }
+    }
+
+    /**
+     * Matches persons whose salary is from {@code minCents} to {@code maxCents}, both inclusive.
+     */
+    record SalaryBetween(long minCents, long maxCents) implements Condition {
+
+        @Override
+        public String toString() {
+            if (minCents == maxCents) {
+                return "salary = " + dollars(minCents);
+            }
+            if (maxCents == Long.MAX_VALUE) {
+                return "salary >= " + dollars(minCents);
+            }
+            if (minCents <= 0) {
+                return "salary <= " + dollars(maxCents);
+            }
+            return "salary " + dollars(minCents) + " to " + dollars(maxCents);
+        }
+
+        private static String dollars(long cents) {
+            return BigDecimal.valueOf(cents, 2).toPlainString();
+        }
+    }
+
+    /**
+     * Matches persons whose GitHub username contains {@code text}, ignoring case.
+     */
+    record GitHubContains(String text) implements Condition {
+        public GitHubContains {
+            requireNonNull(text);
+        }
+
+        @Override
+        public String toString() {
+            return "GitHub contains \"" + text + "\"";
+        }
+    }
+}
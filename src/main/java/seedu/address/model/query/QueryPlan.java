@@ -0,0 +1,30 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+/**
+ * How a query is answered: the access path that produces the candidate persons, the number of candidates it was
+ * estimated to produce, and the other access paths that were considered, with their estimates. Every candidate is
+ * then checked against all the conditions of the query.
+ */
+public record QueryPlan(String accessPath, int estimatedCandidates, List<String> rejectedPaths) {
+
+    /**
+     * Creates a plan. {@code rejectedPaths} are descriptions of the paths not chosen, including their estimates.
+     */
+    public QueryPlan {
+        requireAllNonNull(accessPath, rejectedPaths);
+        rejectedPaths = List.copyOf(rejectedPaths);
+    }
+
+    @Override
+    public String toString() {
+        String plan = accessPath + " (estimated " + estimatedCandidates + ")";
+        if (rejectedPaths.isEmpty()) {
+            return plan;
+        }
+        return plan + "; rejected " + String.join(", ", rejectedPaths);
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Answers queries over the persons of an address book, reading as few persons as the indexes allow.
+ * <p>
+ * Each condition that an index can answer offers an access path: the id map for an id, the tag bitmaps for a tag,
+ * the membership index for a team, the sorted salary index for a salary range, and the name trigrams for a name
+ * keyword. Each path estimates cheaply how many persons it would produce, and the path with the fewest is used to
+ * produce the candidates, falling back to a scan of every person if no condition can use an index. Every candidate is
+ * then checked against all the conditions, so the result does not depend on which path was chosen.
+ */
+public class QueryPlanner {
+
+    private final AddressBook addressBook;
+
+    public QueryPlanner(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Returns the plan that would be used to find the persons meeting all of {@code conditions}.
+     */
+    public QueryPlan plan(List<Condition> conditions) {
+        requireNonNull(conditions);
+        return toPlan(accessPaths(conditions));
+    }
+
+    /**
+     * Returns the ids of the persons meeting all of {@code conditions}, in address book order for a scan and in the
+     * order of the chosen index otherwise, together with the plan used to find them.
+     */
+    public QueryResult execute(List<Condition> conditions) {
+        requireNonNull(conditions);
+        List<AccessPath> paths = accessPaths(conditions);
+        Predicate<Person> check = person -> true;
+        for (Condition condition : conditions) {
+            check = check.and(checkFor(condition));
+        }
+
+        AccessPath chosen = paths.get(0);
+        Set<String> matchingIds = new LinkedHashSet<>();
+        int candidatesChecked = 0;
+        if (chosen.candidateIds() == null) {
+            for (Person person : addressBook.getPersonList()) {
+                candidatesChecked++;
+                if (check.test(person)) {
+                    matchingIds.add(person.id());
+                }
+            }
+        } else {
+            for (String id : chosen.candidateIds().get()) {
+                candidatesChecked++;
+                Person person = addressBook.findPersonById(id);
+                if (person != null && check.test(person)) {
+                    matchingIds.add(id);
+                }
+            }
+        }
+        return new QueryResult(toPlan(paths), candidatesChecked, matchingIds);
+    }
+
+    /**
+     * Returns the access paths offered by {@code conditions} and the scan, with the cheapest first. Among paths with
+     * equal estimates, the earlier condition wins, and the scan loses to any index.
+     */
+    private List<AccessPath> accessPaths(List<Condition> conditions) {
+        int personCount = addressBook.getPersonList().size();
+        List<AccessPath> paths = new ArrayList<>();
+        int bestEstimate = personCount;
+        for (Condition condition : conditions) {
+            AccessPath path = accessPathFor(condition, bestEstimate);
+            if (path != null) {
+                paths.add(path);
+                bestEstimate = Math.min(bestEstimate, path.estimate());
+            }
+        }
+        paths.add(new AccessPath("full scan", personCount, null));
+        // The sort is stable, so ties keep the order above.
+        paths.sort(Comparator.comparingInt(AccessPath::estimate));
+        return paths;
+    }
+
+    /**
+     * Returns the access path offered by {@code condition}, or null if no index can answer it. An estimate above
+     * {@code limit} may be cut short, since such a path will not be chosen anyway.
+     */
+    private AccessPath accessPathFor(Condition condition, int limit) {
+        if (condition instanceof Condition.IdIs idIs) {
+            Person person = addressBook.findPersonById(idIs.id());
+            Set<String> ids = person == null ? Set.of() : Set.of(person.id());
+            return new AccessPath("id lookup [" + idIs.id() + "]", ids.size(), () -> ids);
+        }
+        if (condition instanceof Condition.HasTag hasTag) {
+            return new AccessPath("tag bitmap [" + hasTag.tag().tagName + "]",
+                    addressBook.countPersonsWithTag(hasTag.tag()),
+                    () -> addressBook.findPersonIdsByTags(new TagExpression.HasTag(hasTag.tag())));
+        }
+        if (condition instanceof Condition.InTeam inTeam) {
+            Set<String> ids = teamMemberIds(inTeam.teamId());
+            return new AccessPath("team members [" + inTeam.teamId() + "]", ids.size(), () -> ids);
+        }
+        if (condition instanceof Condition.SalaryBetween salary) {
+            return new AccessPath("salary index [" + salary + "]",
+                    addressBook.countPersonsBySalary(salary.minCents(), salary.maxCents(), limit),
+                    () -> addressBook.findPersonIdsBySalary(salary.minCents(), salary.maxCents()));
+        }
+        if (condition instanceof Condition.NameContains name) {
+            return new AccessPath("name trigrams [" + name.keyword() + "]",
+                    addressBook.estimatePersonCountByName(name.keyword()),
+                    () -> addressBook.findPersonIdsByName(List.of(name.keyword())));
+        }
+        return null;
+    }
+
+    /**
+     * Returns a check of whether a person meets {@code condition}.
+     */
+    private Predicate<Person> checkFor(Condition condition) {
+        if (condition instanceof Condition.IdIs idIs) {
+            return person -> person.id().equals(idIs.id());
+        }
+        if (condition instanceof Condition.HasTag hasTag) {
+            return person -> person.tags().contains(hasTag.tag());
+        }
+        if (condition instanceof Condition.InTeam inTeam) {
+            // Team membership is recorded by the teams, so it is checked against the team rather than the person.
+            Set<String> memberIds = teamMemberIds(inTeam.teamId());
+            return person -> memberIds.contains(person.id());
+        }
+        if (condition instanceof Condition.SalaryBetween salary) {
+            return person -> person.salary().inCents() >= salary.minCents()
+                    && person.salary().inCents() <= salary.maxCents();
+        }
+        if (condition instanceof Condition.NameContains name) {
+            return person -> containsIgnoreCase(person.name().fullName(), name.keyword());
+        }
+        if (condition instanceof Condition.GitHubContains gitHub) {
+            return person -> person.gitHubUsername() != null
+                    && containsIgnoreCase(person.gitHubUsername().value(), gitHub.text());
+        }
+        throw new AssertionError(condition);
+    }
+
+    private Set<String> teamMemberIds(String teamId) {
+        return addressBook.getTeamById(teamId) == null ? Set.of() : addressBook.getTeamMemberIds(teamId, false);
+    }
+
+    private static boolean containsIgnoreCase(String text, String part) {
+        return text.toLowerCase(Locale.ROOT).contains(part.toLowerCase(Locale.ROOT));
+    }
+
+    private static QueryPlan toPlan(List<AccessPath> paths) {
+        List<String> rejectedPaths = new ArrayList<>();
+        for (AccessPath path : paths.subList(1, paths.size())) {
+            rejectedPaths.add(path.description() + " (estimated " + path.estimate() + ")");
+        }
+        return new QueryPlan(paths.get(0).description(), paths.get(0).estimate(), rejectedPaths);
+    }
+
+    /**
+     * A way of producing candidate persons, with an estimate of how many it produces. The candidate ids are null for
+     * the scan, which reads the persons directly.
+     */
+    private record AccessPath(String description, int estimate, Supplier<Set<String>> candidateIds) {}
+}
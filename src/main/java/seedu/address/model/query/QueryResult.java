@@ -0,0 +1,15 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+
+/**
+ * The persons matched by a query, with the plan used to find them and the number of candidates that were checked.
+ */
+public record QueryResult(QueryPlan plan, int candidatesChecked, Set<String> personIds) {
+
+    public QueryResult {
+        requireAllNonNull(plan, personIds);
+    }
+}
@@ -3,9 +3,16 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * <p>
+ * The same few tag names are repeated across many persons, so the name strings are interned.
  */
 public class Tag {
 
@@ -13,8 +20,11 @@ public class Tag {
             "Tags should be alphanumeric, may contain hyphens between words, and be 1-20 characters long";
     // Alphanumeric characters, with optional hyphens between words, length 1-20
     public static final String VALIDATION_REGEX = "^(?=.{1,20}$)[\\p{Alnum}]+(-[\\p{Alnum}]+)*$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String tagName;
+    /** Lower-cased name, computed once since tags are compared and hashed often. */
+    private final String key;
 
     /**
      * Constructs a {@code Tag}.
@@ -24,14 +34,15 @@ public class Tag {
     public Tag(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        this.tagName = StringUtil.intern(tagName);
+        this.key = StringUtil.intern(tagName.toLowerCase(Locale.ROOT));
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -46,12 +57,12 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equalsIgnoreCase(otherTag.tagName);
+        return key.equals(otherTag.key);
     }
 
     @Override
     public int hashCode() {
-        return tagName.toLowerCase().hashCode();
+        return key.hashCode();
     }
 
     /**
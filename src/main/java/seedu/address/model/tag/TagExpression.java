@@ -0,0 +1,67 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A boolean expression over the tags of a person, such as {@code friends AND NOT colleagues}.
+ */
+public interface TagExpression {
+
+    /**
+     * Matches persons with {@code tag}.
+     */
+    record HasTag(Tag tag) implements TagExpression {
+        public HasTag {
+            requireNonNull(tag);
+        }
+
+        @Override
+        public String toString() {
+            return tag.tagName;
+        }
+    }
+
+    /**
+     * Matches persons matched by both {@code left} and {@code right}.
+     */
+    record And(TagExpression left, TagExpression right) implements TagExpression {
+        public And {
+            requireNonNull(left);
+            requireNonNull(right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    /**
+     * Matches persons matched by {@code left}, {@code right} or both.
+     */
+    record Or(TagExpression left, TagExpression right) implements TagExpression {
+        public Or {
+            requireNonNull(left);
+            requireNonNull(right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    /**
+     * Matches persons not matched by {@code operand}.
+     */
+    record Not(TagExpression operand) implements TagExpression {
+        public Not {
+            requireNonNull(operand);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each tag to the persons with that tag.
+ * <p>
+ * Each person id is given a dense ordinal the first time it is seen, and the persons with a tag are kept as a
+ * {@link CompressedBitmap} of ordinals. A {@link TagExpression} is then answered with bitmap intersections, unions and
+ * differences, without looking at the tags of any person.
+ */
+public class TagIndex {
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> personIds = new ArrayList<>();
+    private final Map<Tag, CompressedBitmap> personsByTag = new HashMap<>();
+    /** Ordinals of all persons currently indexed, used to answer {@link TagExpression.Not}. */
+    private CompressedBitmap allPersons = new CompressedBitmap();
+
+    /**
+     * Indexes the tags of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinalOf(person.id());
+        allPersons.add(ordinal);
+        for (Tag tag : person.tags()) {
+            personsByTag.computeIfAbsent(tag, t -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person} and its tags from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.get(person.id());
+        if (ordinal == null) {
+            return;
+        }
+        allPersons.remove(ordinal);
+        for (Tag tag : person.tags()) {
+            CompressedBitmap persons = personsByTag.get(tag);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(ordinal);
+            if (persons.cardinality() == 0) {
+                personsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Replaces the whole index with the tags of {@code persons}.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        ordinals.clear();
+        personIds.clear();
+        personsByTag.clear();
+        allPersons = new CompressedBitmap();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the number of indexed persons with {@code tag}.
+     */
+    public int countPersons(Tag tag) {
+        requireNonNull(tag);
+        CompressedBitmap persons = personsByTag.get(tag);
+        return persons == null ? 0 : persons.cardinality();
+    }
+
+    /**
+     * Returns the ids of the indexed persons matched by {@code expression}, in the order they were first indexed.
+     */
+    public Set<String> findPersonIds(TagExpression expression) {
+        requireNonNull(expression);
+        Set<String> ids = new LinkedHashSet<>();
+        evaluate(expression).forEach(ordinal -> ids.add(personIds.get(ordinal)));
+        return ids;
+    }
+
+    private CompressedBitmap evaluate(TagExpression expression) {
+        if (expression instanceof TagExpression.HasTag hasTag) {
+            CompressedBitmap persons = personsByTag.get(hasTag.tag());
+            return persons == null ? new CompressedBitmap() : persons;
+        }
+        if (expression instanceof TagExpression.And and) {
+            return evaluate(and.left()).and(evaluate(and.right()));
+        }
+        if (expression instanceof TagExpression.Or or) {
+            return evaluate(or.left()).or(evaluate(or.right()));
+        }
+        if (expression instanceof TagExpression.Not not) {
+            return allPersons.andNot(evaluate(not.operand()));
+        }
+        throw new IllegalArgumentException("Unknown tag expression: " + expression);
+    }
+
+    private int ordinalOf(String personId) {
+        Integer ordinal = ordinals.get(personId);
+        if (ordinal == null) {
+            ordinal = personIds.size();
+            ordinals.put(personId, ordinal);
+            personIds.add(personId);
+        }
+        return ordinal;
+    }
+}
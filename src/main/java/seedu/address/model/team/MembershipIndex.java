@@ -0,0 +1,186 @@
+package seedu.address.model.team;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of which persons are members and leaders of which teams, in both directions.
+ * <p>
+ * Person and team ids are mapped to dense integer ordinals the first time they are seen, and the relations are kept
+ * as sets of ordinals indexed by ordinal. Both directions are updated together from the member lists of the teams,
+ * so they always agree, and every query takes time proportional to the size of its result.
+ */
+class MembershipIndex {
+
+    private static final int NO_LEADER = -1;
+
+    private final Map<String, Integer> personOrdinals = new HashMap<>();
+    private final List<String> personIds = new ArrayList<>();
+    private final Map<String, Integer> teamOrdinals = new HashMap<>();
+    private final List<String> teamIds = new ArrayList<>();
+
+    /** Ordinals of the members of each team, in the order of the team's member list. */
+    private final List<Set<Integer>> membersByTeam = new ArrayList<>();
+    /** Ordinal of the leader of each team, or {@code NO_LEADER}. */
+    private final List<Integer> leaderByTeam = new ArrayList<>();
+    private final List<Set<Integer>> teamsByPerson = new ArrayList<>();
+    private final List<Set<Integer>> teamsLedByPerson = new ArrayList<>();
+
+    /**
+     * Records the members and leader of {@code team}, replacing what was recorded for a team with the same id.
+     */
+    void setTeam(Team team) {
+        requireNonNull(team);
+        int teamOrdinal = teamOrdinal(team.getId());
+        Set<Integer> newMembers = new LinkedHashSet<>();
+        for (String memberId : team.getMembers()) {
+            newMembers.add(personOrdinal(memberId));
+        }
+        Set<Integer> oldMembers = membersByTeam.get(teamOrdinal);
+        for (int member : oldMembers) {
+            if (!newMembers.contains(member)) {
+                teamsByPerson.get(member).remove(teamOrdinal);
+            }
+        }
+        for (int member : newMembers) {
+            teamsByPerson.get(member).add(teamOrdinal);
+        }
+        membersByTeam.set(teamOrdinal, newMembers);
+        setLeader(teamOrdinal, team.getLeaderId() == null ? NO_LEADER : personOrdinal(team.getLeaderId()));
+    }
+
+    /**
+     * Forgets the members and leader of the team {@code teamId}.
+     */
+    void removeTeam(String teamId) {
+        requireNonNull(teamId);
+        Integer teamOrdinal = teamOrdinals.get(teamId);
+        if (teamOrdinal == null) {
+            return;
+        }
+        for (int member : membersByTeam.get(teamOrdinal)) {
+            teamsByPerson.get(member).remove(teamOrdinal);
+        }
+        membersByTeam.set(teamOrdinal, new LinkedHashSet<>());
+        setLeader(teamOrdinal, NO_LEADER);
+    }
+
+    /**
+     * Replaces the whole index with the members and leaders of {@code teams}.
+     */
+    void setTeams(List<Team> teams) {
+        personOrdinals.clear();
+        personIds.clear();
+        teamOrdinals.clear();
+        teamIds.clear();
+        membersByTeam.clear();
+        leaderByTeam.clear();
+        teamsByPerson.clear();
+        teamsLedByPerson.clear();
+        for (Team team : teams) {
+            setTeam(team);
+        }
+    }
+
+    /**
+     * Returns the ids of the members of the team {@code teamId}, in the order of the team's member list.
+     */
+    List<String> getMemberIds(String teamId) {
+        requireNonNull(teamId);
+        Integer teamOrdinal = teamOrdinals.get(teamId);
+        if (teamOrdinal == null) {
+            return List.of();
+        }
+        return toIds(membersByTeam.get(teamOrdinal), personIds);
+    }
+
+    /**
+     * Returns the ids of the persons who are members of any of the teams {@code teamIds}, without repeats.
+     */
+    Set<String> getMemberIds(Collection<String> teamIds) {
+        requireNonNull(teamIds);
+        Set<String> memberIds = new LinkedHashSet<>();
+        for (String teamId : teamIds) {
+            memberIds.addAll(getMemberIds(teamId));
+        }
+        return memberIds;
+    }
+
+    /**
+     * Returns the ids of the teams that the person {@code personId} is a member of.
+     */
+    List<String> getTeamIds(String personId) {
+        requireNonNull(personId);
+        Integer personOrdinal = personOrdinals.get(personId);
+        if (personOrdinal == null) {
+            return List.of();
+        }
+        return toIds(teamsByPerson.get(personOrdinal), teamIds);
+    }
+
+    /**
+     * Returns the ids of the teams led by the person {@code personId}.
+     */
+    List<String> getTeamIdsLedBy(String personId) {
+        requireNonNull(personId);
+        Integer personOrdinal = personOrdinals.get(personId);
+        if (personOrdinal == null) {
+            return List.of();
+        }
+        return toIds(teamsLedByPerson.get(personOrdinal), teamIds);
+    }
+
+    private void setLeader(int teamOrdinal, int leader) {
+        int oldLeader = leaderByTeam.get(teamOrdinal);
+        if (oldLeader == leader) {
+            return;
+        }
+        if (oldLeader != NO_LEADER) {
+            teamsLedByPerson.get(oldLeader).remove(teamOrdinal);
+        }
+        if (leader != NO_LEADER) {
+            teamsLedByPerson.get(leader).add(teamOrdinal);
+        }
+        leaderByTeam.set(teamOrdinal, leader);
+    }
+
+    private int personOrdinal(String personId) {
+        Integer ordinal = personOrdinals.get(personId);
+        if (ordinal == null) {
+            ordinal = personIds.size();
+            personOrdinals.put(personId, ordinal);
+            personIds.add(personId);
+            teamsByPerson.add(new LinkedHashSet<>());
+            teamsLedByPerson.add(new LinkedHashSet<>());
+        }
+        return ordinal;
+    }
+
+    private int teamOrdinal(String teamId) {
+        Integer ordinal = teamOrdinals.get(teamId);
+        if (ordinal == null) {
+            ordinal = teamIds.size();
+            teamOrdinals.put(teamId, ordinal);
+            teamIds.add(teamId);
+            membersByTeam.add(new LinkedHashSet<>());
+            leaderByTeam.add(NO_LEADER);
+        }
+        return ordinal;
+    }
+
+    private static List<String> toIds(Set<Integer> ordinals, List<String> ids) {
+        List<String> result = new ArrayList<>(ordinals.size());
+        for (int ordinal : ordinals) {
+            result.add(ids.get(ordinal));
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -6,16 +6,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import seedu.address.model.AddressBook;
-import seedu.address.model.team.exceptions.TeamNotFoundException;
-
 /**
  * Represents a modifiable list of subteams.
  * Provides utility methods to add, remove and query the contained teams.
  */
 public class Subteams {
 
-    private static AddressBook addressBook = null;
     private final List<String> internalList = new ArrayList<>();
 
     /**
@@ -33,28 +29,15 @@ public class Subteams {
         internalList.addAll(teams);
     }
 
-    /**
-     * Sets the AddressBook instance for team lookups.
-     * This must be called before using methods that require team lookups.
-     *
-     * @param ab the AddressBook instance
-     */
-    public static void setAddressBook(AddressBook ab) {
-        addressBook = ab;
-    }
-
     /**
      * Adds a team to the subteams list.
      *
      * @param teamId the ID of the team to add
-     * @param parentTeamId the ID of the parent team
      * @throws NullPointerException if team is null
      */
-    public void add(String teamId, String parentTeamId) {
+    public void add(String teamId) {
         Objects.requireNonNull(teamId);
         internalList.add(teamId);
-        Team updatedTeam = addressBook.getTeamById(teamId);
-        updatedTeam.setParentTeamId(parentTeamId);
     }
 
     /**
@@ -90,61 +73,6 @@ public class Subteams {
         return Collections.unmodifiableList(internalList);
     }
 
-    /**
-     * Returns true if the list contains the given team.
-     * This checks the top-level list and recursively checks subteams of contained teams.
-     *
-     * @param parentTeamId the parent team from which to start the search
-     * @param otherTeamId the team to check
-     * @return true if present in this list or any nested subteams
-     */
-    public static boolean teamContainsOtherTeam(String parentTeamId, String otherTeamId) throws TeamNotFoundException {
-        assert(addressBook != null) : "AddressBook must be set for subteams before using contains method.";
-        Objects.requireNonNull(parentTeamId);
-        Objects.requireNonNull(otherTeamId);
-        Team parentTeam = addressBook.getTeamById(parentTeamId);
-        if (parentTeam.getSubteams().getUnmodifiableList().contains(otherTeamId)) {
-            return true;
-        }
-        // check nested levels
-        for (String t : parentTeam.getSubteams().getUnmodifiableList()) {
-            if (containsRecursive(t, otherTeamId)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Helper method to perform DFS over subteams, avoiding cycles.
-     *
-     * @param currentTeamId the current team being checked
-     * @param targetTeamId the target team to find
-     * @return true if targetTeamId is found in the subteams of currentTeamId
-     */
-    private static boolean containsRecursive(String currentTeamId, String targetTeamId) throws TeamNotFoundException {
-        assert(currentTeamId != null && targetTeamId != null) : "Team IDs must not be null.";
-        if (currentTeamId.equals(targetTeamId)) {
-            return true;
-        }
-        Team current = addressBook.getTeamById(currentTeamId);
-        if (current == null) {
-            throw new TeamNotFoundException();
-        }
-        List<String> nestedSubteamsList = current.getSubteams().getUnmodifiableList();
-        if (nestedSubteamsList.isEmpty()) {
-            return false;
-        }
-        for (String teamId : nestedSubteamsList) {
-            if (teamId.equals(targetTeamId)) {
-                return true;
-            } else if (containsRecursive(teamId, targetTeamId)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Returns the number of teams in this list.
      *
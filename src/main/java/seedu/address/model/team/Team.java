@@ -6,7 +6,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.team.exceptions.InvalidSubteamNesting;
 
@@ -16,6 +18,12 @@ import seedu.address.model.team.exceptions.InvalidSubteamNesting;
  * Leader is represented by a person ID (String).
  */
 public class Team {
+    public static final String ID_MESSAGE_CONSTRAINTS = "Team ids should be T followed by a number of 4 to 9 digits, "
+            + "zero-padded to 4 digits, e.g. T0001 or T10000";
+    /** Matches exactly the ids an {@link seedu.address.model.IdAllocator} hands out, so no two name one number. */
+    public static final String ID_VALIDATION_REGEX = "T(\\d{4}|[1-9]\\d{4,8})";
+    private static final Pattern ID_VALIDATION_PATTERN = Pattern.compile(ID_VALIDATION_REGEX);
+
     private final String id;
     private final TeamName teamName;
     private final Subteams subteams;
@@ -32,11 +40,18 @@ public class Team {
     public Team(String id, TeamName teamName) {
         requireNonNull(id);
         requireNonNull(teamName);
-        this.id = id;
+        this.id = StringUtil.intern(id);
         this.teamName = teamName;
         this.subteams = new Subteams();
     }
 
+    /**
+     * Returns true if {@code test} is a valid team id.
+     */
+    public static boolean isValidId(String test) {
+        return ID_VALIDATION_PATTERN.matcher(test).matches();
+    }
+
     public String getId() {
         return id;
     }
@@ -62,6 +77,8 @@ public class Team {
 
     /**
      * Adds a new subteam to this team.
+     * Only nesting a team in itself or in its own subteam is rejected here; deeper cycles and teams that already
+     * have a parent are rejected by {@link UniqueTeamList#setSubteam(Team, Team)}, which knows the whole hierarchy.
      */
     public Team addToSubteam(String subteamId) throws InvalidSubteamNesting {
         requireNonNull(subteamId);
@@ -69,35 +86,10 @@ public class Team {
         if (subteamId.equals(this.id) || subteamId.equals(this.parentTeamId)) {
             throw new InvalidSubteamNesting();
         }
-        // prevent cycles
-        if (Subteams.teamContainsOtherTeam(this.id, subteamId) || Subteams.teamContainsOtherTeam(subteamId, this.id)) {
-            throw new InvalidSubteamNesting();
-        } else {
-            subteams.add(subteamId, this.id);
-        }
+        subteams.add(subteamId);
         return this;
     }
 
-    /**
-     * Checks if a team with the given ID is in this team's nested subteams.
-     *
-     * @param teamId the ID of the team to check
-     * @return true if the team is a subteam, false otherwise
-     */
-    public boolean containsTeamInSubteams(String teamId) {
-        return Subteams.teamContainsOtherTeam(this.id, teamId);
-    }
-
-    /**
-     * Checks if a team with the given ID is in this team's nested subteams.
-     *
-     * @param team the team to check
-     * @return true if the team is a subteam, false otherwise
-     */
-    public boolean containsTeamInSubteams(Team team) {
-        return Subteams.teamContainsOtherTeam(this.id, team.getId());
-    }
-
     /**
      * Gets the parent team of this team.
      *
@@ -204,6 +196,18 @@ public class Team {
         return this;
     }
 
+    /**
+     * Returns an independent copy of this team, so later changes to either team do not affect the other.
+     */
+    public Team copy() {
+        Team copy = new Team(id, teamName)
+                .withMembers(members)
+                .withSubteams(subteams)
+                .withParentTeamId(parentTeamId);
+        copy.leaderId = leaderId;
+        return copy;
+    }
+
     /**
      * Compares this team to another team for a deep identity match used in tests.
      *
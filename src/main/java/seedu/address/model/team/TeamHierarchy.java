@@ -0,0 +1,159 @@
+package seedu.address.model.team;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A closure table of the subteam relation: for every team, the set of teams it is nested in and the set of teams
+ * nested in it, so that asking whether one team is nested in another takes constant time.
+ * <p>
+ * The table mirrors the subteam lists of the teams it is given, by team id. A team may be listed as a subteam of
+ * at most one team, and no team may be nested in itself; subteam links that would break either rule are ignored.
+ */
+class TeamHierarchy {
+
+    private final Map<String, String> parentIds = new HashMap<>();
+    private final Map<String, Set<String>> childIds = new HashMap<>();
+    private final Map<String, Set<String>> ancestorIds = new HashMap<>();
+    private final Map<String, Set<String>> descendantIds = new HashMap<>();
+
+    /**
+     * Returns true if the team {@code teamId} is nested, at any depth, in the team {@code ancestorId}.
+     */
+    boolean isAncestor(String ancestorId, String teamId) {
+        requireNonNull(ancestorId);
+        requireNonNull(teamId);
+        return ancestorIds.getOrDefault(teamId, Collections.emptySet()).contains(ancestorId);
+    }
+
+    /**
+     * Returns the id of the team that the team {@code teamId} is a subteam of, or null if there is none.
+     */
+    String getParent(String teamId) {
+        requireNonNull(teamId);
+        return parentIds.get(teamId);
+    }
+
+    /**
+     * Returns the ids of the teams that the team {@code teamId} is nested in, at any depth.
+     */
+    Set<String> getAncestors(String teamId) {
+        requireNonNull(teamId);
+        return Collections.unmodifiableSet(ancestorIds.getOrDefault(teamId, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the ids of the teams nested, at any depth, in the team {@code teamId}.
+     */
+    Set<String> getDescendants(String teamId) {
+        requireNonNull(teamId);
+        return Collections.unmodifiableSet(descendantIds.getOrDefault(teamId, Collections.emptySet()));
+    }
+
+    /**
+     * Returns true if the team {@code childId} can be made a subteam of the team {@code parentId}:
+     * it is not the parent itself, is not a subteam of any team yet, and is not nested above the parent.
+     */
+    boolean canLink(String parentId, String childId) {
+        requireNonNull(parentId);
+        requireNonNull(childId);
+        return !parentId.equals(childId)
+                && !parentIds.containsKey(childId)
+                && !isAncestor(childId, parentId);
+    }
+
+    /**
+     * Records the team {@code childId} as a subteam of the team {@code parentId}.
+     * The link must be allowed by {@link #canLink(String, String)}.
+     */
+    void link(String parentId, String childId) {
+        assert canLink(parentId, childId) : "Subteam link would break the hierarchy";
+        Set<String> above = withSelf(parentId, ancestorIds);
+        Set<String> below = withSelf(childId, descendantIds);
+        for (String id : below) {
+            ancestorIds.computeIfAbsent(id, k -> new HashSet<>()).addAll(above);
+        }
+        for (String id : above) {
+            descendantIds.computeIfAbsent(id, k -> new HashSet<>()).addAll(below);
+        }
+        parentIds.put(childId, parentId);
+        childIds.computeIfAbsent(parentId, k -> new HashSet<>()).add(childId);
+    }
+
+    /**
+     * Removes the link between the team {@code childId} and the team it is a subteam of, if any.
+     */
+    void unlink(String childId) {
+        String parentId = parentIds.remove(childId);
+        if (parentId == null) {
+            return;
+        }
+        removeFrom(childIds, parentId, Collections.singleton(childId));
+        Set<String> above = withSelf(parentId, ancestorIds);
+        Set<String> below = withSelf(childId, descendantIds);
+        for (String id : below) {
+            removeFrom(ancestorIds, id, above);
+        }
+        for (String id : above) {
+            removeFrom(descendantIds, id, below);
+        }
+    }
+
+    /**
+     * Makes {@code subteamIds} the only subteams of the team {@code teamId}, linking and unlinking only the
+     * subteams that changed.
+     */
+    void setSubteams(String teamId, Collection<String> subteamIds) {
+        requireNonNull(teamId);
+        requireNonNull(subteamIds);
+        Set<String> newChildIds = new HashSet<>(subteamIds);
+        for (String childId : new ArrayList<>(childIds.getOrDefault(teamId, Collections.emptySet()))) {
+            if (!newChildIds.contains(childId)) {
+                unlink(childId);
+            }
+        }
+        for (String childId : subteamIds) {
+            if (!teamId.equals(parentIds.get(childId)) && canLink(teamId, childId)) {
+                link(teamId, childId);
+            }
+        }
+    }
+
+    /**
+     * Replaces the whole table with the subteam lists of {@code teams}.
+     */
+    void setTeams(List<Team> teams) {
+        parentIds.clear();
+        childIds.clear();
+        ancestorIds.clear();
+        descendantIds.clear();
+        for (Team team : teams) {
+            setSubteams(team.getId(), team.getSubteams().getUnmodifiableList());
+        }
+    }
+
+    private static Set<String> withSelf(String id, Map<String, Set<String>> relatives) {
+        Set<String> ids = new HashSet<>(relatives.getOrDefault(id, Collections.emptySet()));
+        ids.add(id);
+        return ids;
+    }
+
+    private static void removeFrom(Map<String, Set<String>> relatives, String id, Set<String> toRemove) {
+        Set<String> ids = relatives.get(id);
+        if (ids == null) {
+            return;
+        }
+        ids.removeAll(toRemove);
+        if (ids.isEmpty()) {
+            relatives.remove(id);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Team's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTeamName(String)}
@@ -17,6 +19,7 @@ public record TeamName(String teamName) {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}]{1,40}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * Constructs a {@code Name}.
@@ -33,7 +36,7 @@ public record TeamName(String teamName) {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidTeamName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -2,11 +2,22 @@ package seedu.address.model.team;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListHistory;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PositionIndex;
+import seedu.address.model.IdAllocator;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.InvalidSubteamNesting;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
@@ -14,6 +25,23 @@ import seedu.address.model.team.exceptions.TeamNotFoundException;
 /**
  * A list of teams that enforces uniqueness between its elements and does not allow nulls.
  * Identity is checked using Team#isSameTeam(Team).
+ * <p>
+ * Teams are indexed by id and by name, so identity checks, lookups by id and name checks take constant time, and
+ * so does finding the position of a team to replace or remove it.
+ * The subteam relation is kept in a {@link TeamHierarchy}, so checking whether a team is nested in another also
+ * takes constant time. Memberships and leaders are kept in a {@link MembershipIndex}, so the members of a team
+ * and its subteams, and the teams led by a person, are found without scanning all teams.
+ * <p>
+ * The rendered hierarchy is cached as one text fragment per subtree. A change to a team only re-renders the
+ * fragments of that team and the teams it is nested in; changes outside the team list re-render nothing.
+ * <p>
+ * Team ids are handed out by an {@link IdAllocator} that never gives out an id at or below the highest one seen.
+ * <p>
+ * Every change is also recorded, as copies of the teams, in a {@link ListHistory}, so a snapshot of the list can be
+ * taken in constant time, and restoring a recent snapshot undoes or redoes just the changes made since, updating the
+ * indexes team by team. Teams are mutable, so the history never holds the teams that are in the list itself, and
+ * the list never changes a team in place either: {@link #setSubteam(Team, Team)} replaces both teams with edited
+ * copies.
  */
 public class UniqueTeamList implements Iterable<Team> {
 
@@ -21,12 +49,58 @@ public class UniqueTeamList implements Iterable<Team> {
     private final ObservableList<Team> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<String, Team> teamsById = new HashMap<>();
+    /** Position of each team in {@code internalList} by id. */
+    private final PositionIndex<Team> positions = new PositionIndex<>(internalList, Team::getId);
+    /** Number of teams with each name; names are not required to be unique. */
+    private final Map<TeamName, Integer> teamCountsByName = new HashMap<>();
+    private final TeamHierarchy hierarchy = new TeamHierarchy();
+    private final MembershipIndex memberships = new MembershipIndex();
+    /** Rendered subtree of each team, without the branch prefixes of the teams above it. */
+    private final Map<String, String> renderedSubtrees = new HashMap<>();
+    /** Rendered hierarchy of all teams, or null if it has to be rebuilt from the subtree fragments. */
+    private String renderedHierarchy;
+    /** Team ids; the ids of removed teams are not given to new teams during the same session. */
+    private final IdAllocator ids = new IdAllocator("T", false);
+    /** Versions of {@code internalList}, the current one holding copies of the same teams in the same order. */
+    private final ListHistory<Team> history = new ListHistory<>();
+    /** Applies the changes recorded in {@code history} to this list when a snapshot is restored. */
+    private final ListHistory.Target<Team> replay = new ListHistory.Target<>() {
+        @Override
+        public void set(int index, Team team) {
+            setAt(index, team.copy());
+        }
+
+        @Override
+        public void add(int index, Team team) {
+            insertAt(index, team.copy());
+        }
+
+        @Override
+        public void remove(int index) {
+            removeAt(index);
+        }
+
+        @Override
+        public void setAll(PersistentList<Team> teams) {
+            replaceAll(teams.toList().stream().map(Team::copy).toList());
+        }
+    };
+
     /**
      * Returns true if the list contains an equivalent team as the given argument.
      */
     public boolean contains(Team toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTeam);
+        return teamsById.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Returns true if the list contains a team named {@code teamName}.
+     */
+    public boolean containsName(TeamName teamName) {
+        requireNonNull(teamName);
+        return teamCountsByName.containsKey(teamName);
     }
 
     /**
@@ -35,12 +109,58 @@ public class UniqueTeamList implements Iterable<Team> {
      */
     public Team getTeamById(String teamId) {
         requireNonNull(teamId);
-        for (Team team : internalList) {
-            if (team.getId().equals(teamId)) {
-                return team;
-            }
+        Team team = teamsById.get(teamId);
+        if (team == null) {
+            throw new TeamNotFoundException();
+        }
+        return team;
+    }
+
+    /**
+     * Returns the team that the team {@code teamId} is a subteam of, or null if it is not a subteam of any team.
+     */
+    public Team getParentTeam(String teamId) {
+        requireNonNull(teamId);
+        String parentId = hierarchy.getParent(teamId);
+        return parentId == null ? null : teamsById.get(parentId);
+    }
+
+    /**
+     * Returns true if the team {@code teamId} is nested, at any depth, in the subteams of the team
+     * {@code parentTeamId}.
+     * Throws TeamNotFoundException if there is no team with id {@code parentTeamId}.
+     */
+    public boolean containsTeamInSubteams(String parentTeamId, String teamId) {
+        requireNonNull(teamId);
+        getTeamById(parentTeamId);
+        return hierarchy.isAncestor(parentTeamId, teamId);
+    }
+
+    /**
+     * Returns the ids of the members of the team {@code teamId}, followed by those of the members of its subteams
+     * at any depth if {@code includeSubteams} is true. Each member is listed once.
+     * Throws TeamNotFoundException if there is no team with id {@code teamId}.
+     */
+    public Set<String> getMemberIds(String teamId, boolean includeSubteams) {
+        getTeamById(teamId);
+        List<String> teamIds = new ArrayList<>();
+        teamIds.add(teamId);
+        if (includeSubteams) {
+            teamIds.addAll(hierarchy.getDescendants(teamId));
         }
-        throw new TeamNotFoundException();
+        return memberships.getMemberIds(teamIds);
+    }
+
+    /**
+     * Returns the teams led by the person {@code personId}, in no particular order.
+     */
+    public List<Team> getTeamsLedBy(String personId) {
+        requireNonNull(personId);
+        List<Team> teams = new ArrayList<>();
+        for (String teamId : memberships.getTeamIdsLedBy(personId)) {
+            teams.add(getTeamById(teamId));
+        }
+        return teams;
     }
 
     /**
@@ -52,7 +172,8 @@ public class UniqueTeamList implements Iterable<Team> {
         if (contains(toAdd)) {
             throw new DuplicateTeamException();
         }
-        internalList.add(toAdd);
+        insertAt(internalList.size(), toAdd);
+        history.add(internalList.size() - 1, toAdd.copy());
     }
 
     /**
@@ -64,7 +185,7 @@ public class UniqueTeamList implements Iterable<Team> {
         requireNonNull(target);
         requireNonNull(editedTeam);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TeamNotFoundException();
         }
@@ -73,7 +194,8 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
 
-        internalList.set(index, editedTeam);
+        setAt(index, editedTeam);
+        history.set(index, editedTeam.copy());
     }
 
     /**
@@ -82,9 +204,12 @@ public class UniqueTeamList implements Iterable<Team> {
      */
     public void remove(Team toRemove) throws TeamNotFoundException {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TeamNotFoundException();
         }
+        removeAt(index);
+        history.remove(index);
     }
 
     /**
@@ -96,13 +221,16 @@ public class UniqueTeamList implements Iterable<Team> {
         if (!teamsAreUnique(teams)) {
             throw new DuplicateTeamException();
         }
-        internalList.setAll(teams);
+        replaceAll(teams);
+        history.setAll(PersistentList.of(teams.stream().map(Team::copy).toList()));
     }
 
     /**
      * Adds a subteam to a parent team in the list.
      * The parent team must exist in the list.
-     * The subteam must not already exist as a subteam of the parent team.
+     * The subteam must not already be a subteam of any team, and must not be the parent team or nested above it.
+     * Neither team is changed in place: both are replaced in the list by edited copies, which can be looked up by
+     * their ids.
      *
      * @return true if the subteam was added successfully, false if adding the subteam would create invalid nesting
      */
@@ -110,20 +238,83 @@ public class UniqueTeamList implements Iterable<Team> {
         requireNonNull(parentTeam);
         requireNonNull(subteam);
 
-        int index = internalList.indexOf(parentTeam);
+        int index = indexOf(parentTeam);
         if (index == -1) {
             throw new TeamNotFoundException();
         }
+        if (!hierarchy.canLink(parentTeam.getId(), subteam.getId())) {
+            return false;
+        }
+        Team editedParentTeam = parentTeam.copy();
         try {
-            parentTeam.addToSubteam(subteam.getId());
-            subteam.setParentTeamId(parentTeam.getId());
-            internalList.set(index, parentTeam);
+            editedParentTeam.addToSubteam(subteam.getId());
         } catch (InvalidSubteamNesting e) {
             return false;
         }
+        setAt(index, editedParentTeam);
+        history.set(index, editedParentTeam.copy());
+        int subteamIndex = positions.positionOf(subteam.getId());
+        if (subteamIndex != -1) {
+            Team editedSubteam = internalList.get(subteamIndex).copy().withParentTeamId(parentTeam.getId());
+            setAt(subteamIndex, editedSubteam);
+            history.set(subteamIndex, editedSubteam.copy());
+        }
         return true;
     }
 
+    /**
+     * Returns copies of the teams in this list, in order, as a list that later changes to this list do not affect.
+     * Takes constant time.
+     */
+    public PersistentList<Team> snapshot() {
+        return history.current();
+    }
+
+    /**
+     * Replaces the contents of this list with copies of the teams in {@code snapshot}, which must have been taken
+     * from a {@code UniqueTeamList}.
+     * <p>
+     * If the snapshot is one of the recent versions of this list, only the teams changed since are replaced.
+     * Otherwise the whole list is replaced and reindexed.
+     */
+    public void restore(PersistentList<Team> snapshot) {
+        requireNonNull(snapshot);
+        if (!history.moveTo(snapshot, replay)) {
+            replaceAll(snapshot.toList().stream().map(Team::copy).toList());
+            history.setAll(snapshot);
+        }
+    }
+
+    /**
+     * Returns the changes, as copies of the teams, that turn snapshot {@code from} of this list into snapshot
+     * {@code to}, or null if they are no longer known, e.g. because the whole list was replaced in between.
+     */
+    public List<ListHistory.Edit<Team>> changesBetween(PersistentList<Team> from, PersistentList<Team> to) {
+        return history.changesBetween(from, to);
+    }
+
+    /**
+     * Returns the team id that the next new team should get: one above the highest team id seen so far.
+     */
+    public String nextId() {
+        return ids.next();
+    }
+
+    /**
+     * Returns the highest team id handed out or reserved so far, or null if there is none.
+     */
+    public String getLastId() {
+        return ids.last();
+    }
+
+    /**
+     * Makes sure that no team id at or below {@code teamId} is handed out, as if a team with that id had existed.
+     */
+    public void reserveIdsUpTo(String teamId) {
+        requireNonNull(teamId);
+        ids.reserveUpTo(teamId);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -133,7 +324,7 @@ public class UniqueTeamList implements Iterable<Team> {
 
     @Override
     public Iterator<Team> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -158,53 +349,82 @@ public class UniqueTeamList implements Iterable<Team> {
     }
 
     /**
-     * Build the hierarchy string recursively.
+     * Returns the hierarchy of all teams, reusing the rendered subtrees of teams that have not changed.
      *
      * @return String representation of all the teams in Linux tree format.
      */
     public String getHierarchyString() {
-        StringBuilder sb = new StringBuilder();
-        for (Team team : internalList) {
-            if (team.getParentTeamId() == null) {
-                // Build tree from root
-                sb.append(buildTeamDisplayString(team, ""));
-                generateHierarchyTree(team.getSubteams(), sb, "");
+        if (renderedHierarchy == null) {
+            StringBuilder sb = new StringBuilder();
+            for (Team team : internalList) {
+                if (team.getParentTeamId() == null) {
+                    sb.append(renderSubtree(team));
+                }
             }
+            renderedHierarchy = sb.toString();
         }
-        return sb.toString();
+        return renderedHierarchy;
     }
 
     /**
-     * Recursive helper method to build the tree structure.
-     *
-     * @param subteams The subteams to process.
-     * @param sb The StringBuilder to append the tree structure to.
-     * @param prefix The current line prefix (e.g., "│   ").
-     */
-    private void generateHierarchyTree(Subteams subteams, StringBuilder sb, String prefix) {
-        int subteamSize = subteams.getUnmodifiableList().size();
-        for (String teamId : subteams.getUnmodifiableList()) {
-            Team team = getTeamById(teamId);
-            boolean isTeamLast = subteams.getUnmodifiableList().indexOf(teamId) == subteamSize - 1;
-
-            // 1. Append the appropriate branch symbol and team name
-            sb.append(prefix);
-            if (isTeamLast) {
-                sb.append("└── "); // Last child in the list
-            } else {
-                sb.append("├── "); // Not the last child
+     * Returns the rendered subtree of {@code root}, rendering the subtrees below it that are not cached yet.
+     * Subtrees are rendered bottom-up with an explicit stack, so deeply nested teams cannot overflow the call stack.
+     */
+    private String renderSubtree(Team root) {
+        Deque<Team> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Team team = stack.peek();
+            if (renderedSubtrees.containsKey(team.getId())) {
+                stack.pop();
+                continue;
             }
-            sb.append(buildTeamDisplayString(team, prefix));
-
-            // 2. Calculate the new prefix for the subteams
-            String newPrefix = (isTeamLast) ? prefix + "    " : prefix + "│   ";
+            boolean hasSubteamsToRender = false;
+            for (String subteamId : team.getSubteams().getUnmodifiableList()) {
+                if (!renderedSubtrees.containsKey(subteamId)) {
+                    stack.push(getTeamById(subteamId));
+                    hasSubteamsToRender = true;
+                }
+            }
+            if (!hasSubteamsToRender) {
+                stack.pop();
+                renderedSubtrees.put(team.getId(), joinSubtree(team));
+            }
+        }
+        return renderedSubtrees.get(root.getId());
+    }
 
-            // 3. Recurse for the team's subteams
-            if (team.getSubteams().size() != 0) {
-                generateHierarchyTree(team.getSubteams(), sb, newPrefix);
+    /**
+     * Renders {@code team} followed by the already rendered subtrees of its subteams, in list order.
+     */
+    private String joinSubtree(Team team) {
+        StringBuilder sb = new StringBuilder(buildTeamDisplayString(team, ""));
+        List<String> subteams = team.getSubteams().getUnmodifiableList();
+        for (int i = 0; i < subteams.size(); i++) {
+            boolean isLast = i == subteams.size() - 1;
+            String subtree = renderedSubtrees.get(subteams.get(i));
+            // Branch symbol before the subteam itself, continuation of the branch before the teams below it
+            String branch = isLast ? "└── " : "├── ";
+            String continuation = isLast ? "    " : "│   ";
+            int lineStart = 0;
+            while (lineStart < subtree.length()) {
+                int lineEnd = subtree.indexOf('\n', lineStart) + 1;
+                sb.append(lineStart == 0 ? branch : continuation).append(subtree, lineStart, lineEnd);
+                lineStart = lineEnd;
             }
         }
+        return sb.toString();
+    }
 
+    /**
+     * Drops the rendered subtrees that show the team {@code teamId}: its own and those of the teams above it.
+     */
+    private void invalidateRendering(String teamId) {
+        renderedHierarchy = null;
+        renderedSubtrees.remove(teamId);
+        for (String ancestorId : hierarchy.getAncestors(teamId)) {
+            renderedSubtrees.remove(ancestorId);
+        }
     }
 
     /**
@@ -227,13 +447,102 @@ public class UniqueTeamList implements Iterable<Team> {
      * Returns true if {@code teams} contains only unique teams.
      */
     private boolean teamsAreUnique(List<Team> teams) {
-        for (int i = 0; i < teams.size() - 1; i++) {
-            for (int j = i + 1; j < teams.size(); j++) {
-                if (teams.get(i).isSameTeam(teams.get(j))) {
-                    return false;
-                }
+        Set<String> ids = new HashSet<>();
+        for (Team team : teams) {
+            if (!ids.add(team.getId())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of {@code team}, which must equal the team found there, or -1 if it is not in the list.
+     */
+    private int indexOf(Team team) {
+        int position = positions.positionOf(team.getId());
+        if (position != -1 && internalList.get(position).equals(team)) {
+            return position;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts {@code team} at {@code index} and indexes it, without recording the change in the history.
+     */
+    private void insertAt(int index, Team team) {
+        internalList.add(index, team);
+        positions.added(index, team);
+        index(team);
+        memberships.setTeam(team);
+        invalidateRendering(team.getId());
+        hierarchy.setSubteams(team.getId(), team.getSubteams().getUnmodifiableList());
+        ids.take(team.getId());
+    }
+
+    /**
+     * Replaces the team at {@code index} with {@code team} and reindexes it, without recording the change in the
+     * history.
+     */
+    private void setAt(int index, Team team) {
+        Team target = internalList.get(index);
+        internalList.set(index, team);
+        positions.replaced(index, target, team);
+        unindex(target);
+        index(team);
+        if (!target.isSameTeam(team)) {
+            memberships.removeTeam(target.getId());
+        }
+        memberships.setTeam(team);
+        invalidateRendering(target.getId());
+        invalidateRendering(team.getId());
+        if (!target.isSameTeam(team)) {
+            hierarchy.setSubteams(target.getId(), List.of());
+        }
+        hierarchy.setSubteams(team.getId(), team.getSubteams().getUnmodifiableList());
+        ids.release(target.getId());
+        ids.take(team.getId());
+    }
+
+    /**
+     * Removes the team at {@code index} and unindexes it, without recording the change in the history.
+     */
+    private void removeAt(int index) {
+        Team target = internalList.remove(index);
+        positions.removed(index, target);
+        unindex(target);
+        memberships.removeTeam(target.getId());
+        invalidateRendering(target.getId());
+        hierarchy.setSubteams(target.getId(), List.of());
+        ids.release(target.getId());
+    }
+
+    /**
+     * Replaces all the teams with {@code teams} and rebuilds the indexes, without recording the change in the
+     * history.
+     */
+    private void replaceAll(List<Team> teams) {
+        internalList.setAll(teams);
+        teamsById.clear();
+        teamCountsByName.clear();
+        for (Team team : teams) {
+            index(team);
+        }
+        positions.rebuild();
+        hierarchy.setTeams(teams);
+        memberships.setTeams(teams);
+        renderedSubtrees.clear();
+        renderedHierarchy = null;
+        ids.reset(teamsById.keySet());
+    }
+
+    private void index(Team team) {
+        teamsById.put(team.getId(), team);
+        teamCountsByName.merge(team.getTeamName(), 1, Integer::sum);
+    }
+
+    private void unindex(Team team) {
+        teamsById.remove(team.getId());
+        teamCountsByName.computeIfPresent(team.getTeamName(), (name, count) -> count == 1 ? null : count - 1);
+    }
 }
@@ -24,22 +24,23 @@ public class SampleDataUtil {
         return new Person[] {
             new Person("E1001", new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                     new Address("Blk 30 Geylang Street 29, #06-40"), new GitHubUsername("@alexxx"),
-                    new HashSet<>(), getTagSet("friends"), new Salary(1000.00)),
+                    new HashSet<>(), getTagSet("friends"), Salary.ofDollars(1000.00)),
             new Person("E1002", new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                     new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), new GitHubUsername("@bernyuuu"),
-                    new HashSet<>(), getTagSet("colleagues", "friends"), new Salary(2000.00)),
+                    new HashSet<>(), getTagSet("colleagues", "friends"), Salary.ofDollars(2000.00)),
             new Person("E1003", new Name("Charlotte Oliveiro"), new Phone("93210283"),
                     new Email("charlotte@example.com"), new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
-                    new GitHubUsername("@charolive3"), new HashSet<>(), getTagSet("neighbours"), new Salary(3000.00)),
+                    new GitHubUsername("@charolive3"), new HashSet<>(), getTagSet("neighbours"),
+                    Salary.ofDollars(3000.00)),
             new Person("E1004", new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                     new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), new GitHubUsername("@lidavid01"),
-                    new HashSet<>(), getTagSet("family"), new Salary(4000.00)),
+                    new HashSet<>(), getTagSet("family"), Salary.ofDollars(4000.00)),
             new Person("E1005", new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                     new Address("Blk 47 Tampines Street 20, #17-35"), new GitHubUsername("@irfanibrahim23"),
-                    new HashSet<>(), getTagSet("classmates"), new Salary(5000.00)),
+                    new HashSet<>(), getTagSet("classmates"), Salary.ofDollars(5000.00)),
             new Person("E1006", new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                     new Address("Blk 45 Aljunied Street 85, #11-31"), new GitHubUsername("@royb"),
-                    new HashSet<>(), getTagSet("colleagues"), new Salary(6000.00))
+                    new HashSet<>(), getTagSet("colleagues"), Salary.ofDollars(6000.00))
         };
     }
 
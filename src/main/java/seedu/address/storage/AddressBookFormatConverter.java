@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the json and binary formats.
+ * <p>
+ * Usage: {@code java -cp henri.jar seedu.address.storage.AddressBookFormatConverter (to-binary|to-json) IN OUT}
+ */
+public class AddressBookFormatConverter {
+
+    private AddressBookFormatConverter() {}
+
+    /**
+     * Reads the json address book at {@code jsonFile} and writes it to {@code binaryFile} in the binary format.
+     *
+     * @throws DataLoadingException if {@code jsonFile} is missing or cannot be loaded.
+     * @throws IOException if there was any problem writing {@code binaryFile}.
+     */
+    public static void toBinary(Path jsonFile, Path binaryFile) throws DataLoadingException, IOException {
+        convert(new JsonAddressBookStorage(jsonFile), new BinaryAddressBookStorage(binaryFile));
+    }
+
+    /**
+     * Reads the binary address book at {@code binaryFile} and writes it to {@code jsonFile} in the json format.
+     *
+     * @throws DataLoadingException if {@code binaryFile} is missing or cannot be loaded.
+     * @throws IOException if there was any problem writing {@code jsonFile}.
+     */
+    public static void toJson(Path binaryFile, Path jsonFile) throws DataLoadingException, IOException {
+        convert(new BinaryAddressBookStorage(binaryFile), new JsonAddressBookStorage(jsonFile));
+    }
+
+    private static void convert(AddressBookStorage from, AddressBookStorage to)
+            throws DataLoadingException, IOException {
+        requireNonNull(from.getAddressBookFilePath());
+        requireNonNull(to.getAddressBookFilePath());
+        ReadOnlyAddressBook addressBook = from.readAddressBook().orElseThrow(() ->
+                new DataLoadingException(new IOException("File not found: " + from.getAddressBookFilePath())));
+        to.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the file given as the second argument into the file given as the third,
+     * in the direction given by the first argument ({@code to-binary} or {@code to-json}).
+     */
+    public static void main(String[] args) throws DataLoadingException, IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: AddressBookFormatConverter (to-binary|to-json) IN OUT");
+            System.exit(2);
+            return;
+        }
+        Path in = Paths.get(args[1]);
+        Path out = Paths.get(args[2]);
+        switch (args[0]) {
+        case "to-binary":
+            toBinary(in, out);
+            break;
+        case "to-json":
+            toJson(in, out);
+            break;
+        default:
+            System.err.println("Unknown direction: " + args[0]);
+            System.exit(2);
+        }
+    }
+}
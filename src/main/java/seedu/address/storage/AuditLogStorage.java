@@ -0,0 +1,19 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import seedu.address.model.audit.AuditHistory;
+import seedu.address.model.audit.AuditLogEntry;
+
+/**
+ * Represents a storage for the complete history of the audit log.
+ */
+public interface AuditLogStorage extends AuditHistory {
+
+    /**
+     * Appends {@code entry} as the newest entry of the stored history.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void appendAuditEntry(AuditLogEntry entry) throws IOException;
+
+}
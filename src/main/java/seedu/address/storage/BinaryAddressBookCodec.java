@@ -0,0 +1,480 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GitHubUsername;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Salary;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+
+/**
+ * Encodes and decodes the binary address book snapshot format.
+ * <p>
+ * A file starts with {@link #MAGIC} and a format version, followed by four sections: the string dictionary,
+ * persons, teams and audit entries. Each section is a record count followed by that many records, and each record
+ * is its byte length followed by its fields, so a reader can skip records it does not understand. Since version 2
+ * the sections are followed by one record holding the last team id handed out, empty if there is none.
+ * All integers are unsigned LEB128 varints. Strings are either inline (length and UTF-8 bytes) or, for values that
+ * repeat across records such as tags, team ids, address fragments and audit actions, an index into the dictionary.
+ * Salaries are stored as whole cents.
+ */
+class BinaryAddressBookCodec {
+
+    static final byte[] MAGIC = {'H', 'N', 'R', 'B'};
+    static final int VERSION = 2;
+    /** Oldest format version that can still be read. */
+    private static final int OLDEST_READABLE_VERSION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String ADDRESS_FRAGMENT_SEPARATOR = ", ";
+    private static final Pattern ADDRESS_FRAGMENT_SPLITTER =
+            Pattern.compile(ADDRESS_FRAGMENT_SEPARATOR, Pattern.LITERAL);
+
+    private BinaryAddressBookCodec() {}
+
+    //// encoding
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, creating the file if it is missing.
+     * The file is replaced atomically, so a crash mid-save leaves the previous snapshot in place.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.writeAtomically(filePath, out -> write(addressBook, out));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Map<String, Integer> dictionary = buildDictionary(addressBook);
+        RecordBuffer record = new RecordBuffer();
+
+        out.write(MAGIC);
+        writeVarInt(out, VERSION);
+
+        writeVarInt(out, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            record.reset();
+            record.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+            record.writeTo(out);
+        }
+
+        writeVarInt(out, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            record.reset();
+            encodePerson(person, dictionary, record);
+            record.writeTo(out);
+        }
+
+        writeVarInt(out, addressBook.getTeamList().size());
+        for (Team team : addressBook.getTeamList()) {
+            record.reset();
+            encodeTeam(team, dictionary, record);
+            record.writeTo(out);
+        }
+
+        List<AuditLogEntry> entries = addressBook.getAuditLog().getEntries();
+        writeVarInt(out, entries.size());
+        for (AuditLogEntry entry : entries) {
+            record.reset();
+            encodeAuditEntry(entry, dictionary, record);
+            record.writeTo(out);
+        }
+
+        record.reset();
+        record.writeString(addressBook.getLastTeamId() == null ? "" : addressBook.getLastTeamId());
+        record.writeTo(out);
+    }
+
+    private static Map<String, Integer> buildDictionary(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            for (String fragment : ADDRESS_FRAGMENT_SPLITTER.split(person.address().value(), -1)) {
+                dictionary.putIfAbsent(fragment, dictionary.size());
+            }
+            for (String teamId : person.teamIds()) {
+                dictionary.putIfAbsent(teamId, dictionary.size());
+            }
+            for (Tag tag : person.tags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+        for (Team team : addressBook.getTeamList()) {
+            dictionary.putIfAbsent(team.getId(), dictionary.size());
+        }
+        for (AuditLogEntry entry : addressBook.getAuditLog().getEntries()) {
+            dictionary.putIfAbsent(entry.getAction(), dictionary.size());
+        }
+        return dictionary;
+    }
+
+    private static void encodePerson(Person person, Map<String, Integer> dictionary, RecordBuffer record) {
+        record.writeString(person.id());
+        record.writeString(person.name().fullName());
+        record.writeString(person.phone().value());
+        record.writeString(person.email().value());
+        String[] fragments = ADDRESS_FRAGMENT_SPLITTER.split(person.address().value(), -1);
+        record.writeVarInt(fragments.length);
+        for (String fragment : fragments) {
+            record.writeVarInt(dictionary.get(fragment));
+        }
+        record.writeString(person.gitHubUsername().value());
+        record.writeVarLong(person.salary().inCents());
+        record.writeVarInt(person.teamIds().size());
+        for (String teamId : person.teamIds()) {
+            record.writeVarInt(dictionary.get(teamId));
+        }
+        record.writeVarInt(person.tags().size());
+        for (Tag tag : person.tags()) {
+            record.writeVarInt(dictionary.get(tag.tagName));
+        }
+    }
+
+    private static void encodeTeam(Team team, Map<String, Integer> dictionary, RecordBuffer record) {
+        record.writeVarInt(dictionary.get(team.getId()));
+        record.writeString(team.getTeamName().teamName());
+        // 0 means no leader, otherwise the leader id is inline
+        record.writeVarInt(team.getLeaderId() == null ? 0 : 1);
+        if (team.getLeaderId() != null) {
+            record.writeString(team.getLeaderId());
+        }
+        record.writeVarInt(team.getMembers().size());
+        for (String member : team.getMembers()) {
+            record.writeString(member);
+        }
+    }
+
+    private static void encodeAuditEntry(AuditLogEntry entry, Map<String, Integer> dictionary, RecordBuffer record) {
+        record.writeVarLong(zigZag(entry.getTimestamp().toEpochSecond(ZoneOffset.UTC)));
+        record.writeVarInt(entry.getTimestamp().getNano());
+        record.writeVarInt(dictionary.get(entry.getAction()));
+        record.writeString(entry.getDetails());
+    }
+
+    //// decoding
+
+    /**
+     * Reads the binary address book at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not a supported binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a binary address book from {@code in}.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        byte[] magic = in.readNBytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a binary address book file");
+        }
+        int version = readVarInt(in);
+        if (version < OLDEST_READABLE_VERSION || version > VERSION) {
+            throw new IOException("Unsupported binary address book version: " + version);
+        }
+
+        String[] dictionary = new String[readVarInt(in)];
+        for (int i = 0; i < dictionary.length; i++) {
+            RecordReader record = RecordReader.next(in);
+            dictionary[i] = StringUtil.intern(record.readRemainingString());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        int personCount = readVarInt(in);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(decodePerson(RecordReader.next(in), dictionary));
+        }
+        JsonAdaptedPerson.requireUniqueIds(persons);
+        addressBook.setPersons(persons);
+
+        int teamCount = readVarInt(in);
+        for (int i = 0; i < teamCount; i++) {
+            addressBook.addTeam(decodeTeam(RecordReader.next(in), dictionary));
+        }
+
+        // entries are stored newest-first and the audit log prepends, so add them oldest-first
+        AuditLogEntry[] entries = new AuditLogEntry[readVarInt(in)];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = decodeAuditEntry(RecordReader.next(in), dictionary);
+        }
+        for (int i = entries.length - 1; i >= 0; i--) {
+            addressBook.getAuditLog().addEntry(entries[i].getAction(), entries[i].getDetails(),
+                    entries[i].getTimestamp());
+        }
+
+        if (version >= 2) {
+            String lastTeamId = RecordReader.next(in).readString();
+            if (!lastTeamId.isEmpty()) {
+                if (!Team.isValidId(lastTeamId)) {
+                    throw new IllegalValueException(Team.ID_MESSAGE_CONSTRAINTS);
+                }
+                addressBook.reserveTeamIdsUpTo(lastTeamId);
+            }
+        }
+        return addressBook;
+    }
+
+    private static Person decodePerson(RecordReader record, String[] dictionary)
+            throws IOException, IllegalValueException {
+        String id = record.readString();
+        String name = record.readString();
+        String phone = record.readString();
+        String email = record.readString();
+        String[] fragments = new String[record.readVarInt()];
+        for (int i = 0; i < fragments.length; i++) {
+            fragments[i] = record.readDictionaryString(dictionary);
+        }
+        String gitHubUsername = record.readString();
+        long salaryCents = record.readVarLong();
+        Set<String> teamIds = new HashSet<>();
+        int teamIdCount = record.readVarInt();
+        for (int i = 0; i < teamIdCount; i++) {
+            teamIds.add(record.readDictionaryString(dictionary));
+        }
+        List<String> tagNames = new ArrayList<>();
+        int tagCount = record.readVarInt();
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(record.readDictionaryString(dictionary));
+        }
+
+        if (!Person.isValidId(id)) {
+            throw new IllegalValueException(Person.ID_MESSAGE_CONSTRAINTS);
+        }
+        try {
+            Set<Tag> tags = new HashSet<>();
+            for (String tagName : tagNames) {
+                tags.add(new Tag(tagName));
+            }
+            return new Person(id, new Name(name), new Phone(phone), new Email(email),
+                    new Address(String.join(ADDRESS_FRAGMENT_SEPARATOR, fragments)),
+                    new GitHubUsername(gitHubUsername), teamIds, tags, new Salary(salaryCents));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static Team decodeTeam(RecordReader record, String[] dictionary)
+            throws IOException, IllegalValueException {
+        String id = record.readDictionaryString(dictionary);
+        String name = record.readString();
+        String leaderId = record.readVarInt() == 0 ? null : record.readString();
+        List<String> members = new ArrayList<>();
+        int memberCount = record.readVarInt();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(record.readString());
+        }
+
+        if (!Team.isValidId(id)) {
+            throw new IllegalValueException(Team.ID_MESSAGE_CONSTRAINTS);
+        }
+        Team team;
+        try {
+            team = new Team(id, new TeamName(name));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+        if (leaderId != null) {
+            team.withLeader(leaderId);
+        }
+        return team.withMembers(members);
+    }
+
+    private static AuditLogEntry decodeAuditEntry(RecordReader record, String[] dictionary) throws IOException {
+        long epochSecond = unZigZag(record.readVarLong());
+        int nanos = record.readVarInt();
+        String action = record.readDictionaryString(dictionary);
+        String details = record.readString();
+        return new AuditLogEntry(LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC), action, details);
+    }
+
+    //// varints
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        long remaining = Integer.toUnsignedLong(value);
+        while (remaining >= 0x80) {
+            out.write((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Binary address book file ended unexpectedly");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value > Integer.MAX_VALUE) {
+                    throw new IOException("Count out of range in binary address book file");
+                }
+                return (int) value;
+            }
+        }
+        throw new IOException("Malformed varint in binary address book file");
+    }
+
+    /**
+     * A growable buffer that one record is encoded into before being written with its length prefix.
+     */
+    private static class RecordBuffer {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void reset() {
+            size = 0;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            BinaryAddressBookCodec.writeVarInt(out, size);
+            out.write(bytes, 0, size);
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(Integer.toUnsignedLong(value));
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            bytes[size++] = (byte) remaining;
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(utf8.length);
+            writeBytes(utf8);
+        }
+
+        void writeBytes(byte[] value) {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, bytes, size, value.length);
+            size += value.length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Reads the fields of one length-prefixed record.
+     */
+    private static class RecordReader {
+        private final byte[] bytes;
+        private int position;
+
+        private RecordReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        static RecordReader next(InputStream in) throws IOException {
+            int length = BinaryAddressBookCodec.readVarInt(in);
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException("Binary address book file ended unexpectedly");
+            }
+            return new RecordReader(bytes);
+        }
+
+        int readVarInt() throws IOException {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException("Count out of range in binary address book record");
+            }
+            return (int) value;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new EOFException("Binary address book record ended unexpectedly");
+                }
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint in binary address book record");
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt();
+            if (length > bytes.length - position) {
+                throw new EOFException("Binary address book record ended unexpectedly");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        String readDictionaryString(String[] dictionary) throws IOException {
+            int index = readVarInt();
+            if (index >= dictionary.length) {
+                throw new IOException("Unknown dictionary entry in binary address book record: " + index);
+            }
+            return dictionary[index];
+        }
+
+        String readRemainingString() {
+            String value = new String(bytes, position, bytes.length - position, StandardCharsets.UTF_8);
+            position = bytes.length;
+            return value;
+        }
+    }
+}
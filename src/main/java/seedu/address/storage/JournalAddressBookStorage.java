@@ -0,0 +1,397 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ListHistory;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * Each save appends one compact line holding every changed person and team to {@code <file>.journal} instead of
+ * rewriting the whole snapshot, and syncs the journal to disk before returning. A crash mid-append thus loses the
+ * whole save and never replays part of it. The changed persons and teams are found from the changes the address book
+ * tracks, in time proportional to their number. Once the journal grows past the compaction threshold, or when the
+ * changes are no longer known or cannot be expressed as a delta (e.g. the persons were re-sorted), a fresh snapshot
+ * is written and the journal is reset.
+ * Reads load the snapshot and replay the journal on top of it.
+ * <p>
+ * Audit entries are not journaled, as every entry is already appended to the audit history kept by an
+ * {@link AuditLogStorage}. The audit log in the snapshot is brought up to date whenever a snapshot is written.
+ * Journals written before this still replay their audit entries.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final boolean isCompact;
+
+    /** State of the address book as of the last successful save, or null if unknown. */
+    private Baseline baseline;
+    private int recordsSinceSnapshot;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, false);
+    }
+
+    /**
+     * Creates a journal storage that compacts after {@code compactionThreshold} journaled changes.
+     *
+     * @param isCompact whether snapshots leave out indentation and line breaks.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, boolean isCompact) {
+        requireNonNull(filePath);
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isCompact = isCompact;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the location of the journal that accompanies the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            JsonAddressBookReader snapshot = JsonAddressBookReader.read(filePath);
+            List<JsonAdaptedJournalRecord> records = readJournal(getJournalFilePath(filePath), snapshot.getChecksum());
+            if (!records.isEmpty()) {
+                logger.info("Replaying " + records.size() + " journal records onto " + filePath);
+                replay(snapshot, records);
+            }
+            return Optional.of(snapshot.toModelType());
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's own file always writes a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath, isCompact);
+            return;
+        }
+
+        if (baseline == null || recordsSinceSnapshot >= compactionThreshold
+                || !Files.exists(filePath) || !Files.exists(getJournalFilePath(filePath))) {
+            compact(addressBook);
+            return;
+        }
+
+        Delta delta = diff(baseline, addressBook);
+        if (delta == null) {
+            compact(addressBook);
+            return;
+        }
+        if (!delta.records().isEmpty()) {
+            appendToJournal(delta.records());
+            recordsSinceSnapshot += delta.records().size();
+        }
+        baseline = delta.next();
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} and resets the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        baseline = null;
+        writeSnapshot(addressBook, filePath, isCompact);
+        recordsSinceSnapshot = 0;
+        baseline = Baseline.of(addressBook);
+    }
+
+    /**
+     * Writes {@code addressBook} as a snapshot to {@code snapshotPath}, followed by a journal containing only a
+     * header for that snapshot. A journal left over from an older snapshot is detected by its header and ignored,
+     * so a crash between the two writes cannot replay stale records.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotPath, boolean isCompact)
+            throws IOException {
+        long checksum = JsonAddressBookWriter.write(addressBook, snapshotPath, isCompact);
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.snapshot(checksum));
+        byte[] journal = (header + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(getJournalFilePath(snapshotPath), out -> out.write(journal));
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        String line = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.batch(records)) + System.lineSeparator();
+        FileUtil.appendDurably(getJournalFilePath(filePath), line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //// diffing
+
+    /**
+     * Computes the journal records that turn the persons and teams of {@code base} into those of {@code addressBook},
+     * from the changes the address book tracked in between, so the cost depends on the number of changes and not on
+     * the size of the address book.
+     * Returns null if the changes are not known or cannot be expressed as records (e.g. reordering).
+     */
+    private static Delta diff(Baseline base, ReadOnlyAddressBook addressBook) {
+        Baseline next = Baseline.of(addressBook);
+        List<ListHistory.Edit<Person>> personChanges = addressBook.getPersonChanges(base.persons(), next.persons());
+        List<ListHistory.Edit<Team>> teamChanges = addressBook.getTeamChanges(base.teams(), next.teams());
+        if (personChanges == null || teamChanges == null) {
+            return null;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        boolean isExpressible = addRecords(personChanges, base.persons().size(), Person::id,
+                person -> JsonAdaptedJournalRecord.putPerson(new JsonAdaptedPerson(person)),
+                JsonAdaptedJournalRecord::removePerson, records);
+
+        List<ListHistory.Edit<JsonAdaptedTeam>> adaptedTeamChanges = new ArrayList<>(teamChanges.size());
+        for (ListHistory.Edit<Team> change : teamChanges) {
+            adaptedTeamChanges.add(new ListHistory.Edit<>(change.index(), adaptTeam(change.before()),
+                    adaptTeam(change.after())));
+        }
+        isExpressible = isExpressible && addRecords(adaptedTeamChanges, base.teams().size(), JsonAdaptedTeam::getId,
+                JsonAdaptedJournalRecord::putTeam, JsonAdaptedJournalRecord::removeTeam, records);
+
+        return isExpressible ? new Delta(records, next) : null;
+    }
+
+    /**
+     * Adds to {@code records} the puts and removes that replay {@code changes}, made to a list of {@code size} items
+     * keyed by {@code idOf}. Replaying into a {@link LinkedHashMap} keeps existing items in place and appends new
+     * ones, so an item may only be inserted at the end, and replaced by one with another id only at the end.
+     *
+     * @return false if a change breaks that, in which case {@code records} should be discarded.
+     */
+    private static <T> boolean addRecords(List<ListHistory.Edit<T>> changes, int size, Function<T, String> idOf,
+            Function<T, JsonAdaptedJournalRecord> put, Function<String, JsonAdaptedJournalRecord> remove,
+            List<JsonAdaptedJournalRecord> records) {
+        for (ListHistory.Edit<T> change : changes) {
+            if (change.before() == null) {
+                if (change.index() != size) {
+                    return false;
+                }
+                records.add(put.apply(change.after()));
+                size++;
+            } else if (change.after() == null) {
+                records.add(remove.apply(idOf.apply(change.before())));
+                size--;
+            } else if (idOf.apply(change.before()).equals(idOf.apply(change.after()))) {
+                if (!change.before().equals(change.after())) {
+                    records.add(put.apply(change.after()));
+                }
+            } else if (change.index() == size - 1) {
+                records.add(remove.apply(idOf.apply(change.before())));
+                records.add(put.apply(change.after()));
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static JsonAdaptedTeam adaptTeam(Team team) {
+        return team == null ? null : new JsonAdaptedTeam(team);
+    }
+
+    //// replay
+
+    /**
+     * Reads the journal at {@code journalPath}, returning its records if it belongs to the snapshot with
+     * {@code snapshotChecksum}, with batches expanded into the records they hold. A missing or stale journal yields
+     * no records. A truncated final line, as left behind by a crash mid-append, is dropped.
+     *
+     * @throws DataLoadingException if the journal cannot be read or a record other than the last is corrupted.
+     */
+    private static List<JsonAdaptedJournalRecord> readJournal(Path journalPath, long snapshotChecksum)
+            throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return Collections.emptyList();
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                record.validate();
+            } catch (IOException | IllegalValueException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record in journal " + journalPath + ": " + e);
+                    break;
+                }
+                logger.warning("Corrupted record at line " + (i + 1) + " of journal " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            records.add(record);
+        }
+
+        if (records.isEmpty() || records.get(0).getOp() != JsonAdaptedJournalRecord.Op.SNAPSHOT) {
+            logger.warning("Journal " + journalPath + " has no snapshot header, ignoring it.");
+            return Collections.emptyList();
+        }
+        if (records.get(0).getChecksum() != snapshotChecksum) {
+            logger.warning("Journal " + journalPath + " belongs to an older snapshot, ignoring it.");
+            return Collections.emptyList();
+        }
+
+        List<JsonAdaptedJournalRecord> changes = new ArrayList<>();
+        for (JsonAdaptedJournalRecord record : records.subList(1, records.size())) {
+            if (record.getOp() == JsonAdaptedJournalRecord.Op.BATCH) {
+                changes.addAll(record.getRecords());
+            } else {
+                // journals written before saves were batched hold one change per line
+                changes.add(record);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Applies {@code records} in order on top of the address book read by {@code snapshot}.
+     *
+     * @throws IllegalValueException if the snapshot cannot be keyed by id or a record holds invalid data.
+     */
+    private static void replay(JsonAddressBookReader snapshot, List<JsonAdaptedJournalRecord> records)
+            throws IllegalValueException {
+        AddressBook addressBook = snapshot.getAddressBook();
+        LinkedHashMap<String, Person> persons = keyById(addressBook.getPersonList(), Person::id);
+        LinkedHashMap<String, Team> teams = keyById(addressBook.getTeamList(), Team::getId);
+        List<AuditLogEntry> newEntries = new ArrayList<>();
+
+        for (JsonAdaptedJournalRecord record : records) {
+            switch (record.getOp()) {
+            case PUT_PERSON:
+                persons.put(record.getId(), record.getPerson().toModelType());
+                break;
+            case REMOVE_PERSON:
+                persons.remove(record.getId());
+                break;
+            case PUT_TEAM:
+                teams.put(record.getId(), record.getTeam().toModelType());
+                break;
+            case REMOVE_TEAM:
+                teams.remove(record.getId());
+                break;
+            case ADD_AUDIT_ENTRY:
+                // only found in journals written before audit entries were left to the audit history
+                newEntries.add(record.getEntry().toModelType());
+                break;
+            default:
+                throw new IllegalValueException("Unexpected journal record: " + record.getOp());
+            }
+        }
+
+        // uniqueness is only checked on the final lists, so intermediate renames cannot clash
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        addressBook.setTeams(new ArrayList<>(teams.values()));
+
+        // the file stores audit entries newest-first, and the journal holds them oldest-first
+        Collections.reverse(newEntries);
+        snapshot.getAuditLogEntries().addAll(0, newEntries);
+    }
+
+    private static <T> LinkedHashMap<String, T> keyById(List<T> items, Function<T, String> idOf)
+            throws IllegalValueException {
+        LinkedHashMap<String, T> keyed = new LinkedHashMap<>();
+        for (T item : items) {
+            String id = idOf.apply(item);
+            if (keyed.put(id, item) != null) {
+                throw new IllegalValueException("Snapshot ids are not unique, cannot replay journal: " + id);
+            }
+        }
+        return keyed;
+    }
+
+    /**
+     * The persons and teams last written to disk, as snapshots taken from the address book saved.
+     */
+    private record Baseline(PersistentList<Person> persons, PersistentList<Team> teams) {
+
+        static Baseline of(ReadOnlyAddressBook addressBook) {
+            return new Baseline(addressBook.getPersonSnapshot(), addressBook.getTeamSnapshot());
+        }
+    }
+
+    private record Delta(List<JsonAdaptedJournalRecord> records, Baseline next) {}
+}
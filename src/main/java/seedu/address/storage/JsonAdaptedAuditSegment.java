@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of one sealed segment of a {@link SegmentedAuditLogStorage}, as kept in its time index.
+ */
+class JsonAdaptedAuditSegment {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final long segment;
+    private final long entries;
+    private final String first;
+    private final String last;
+
+    @JsonCreator
+    public JsonAdaptedAuditSegment(@JsonProperty("segment") long segment,
+                                   @JsonProperty("entries") long entries,
+                                   @JsonProperty("first") String first,
+                                   @JsonProperty("last") String last) {
+        this.segment = segment;
+        this.entries = entries;
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Creates a record of segment number {@code segment}, holding {@code entries} entries written between
+     * {@code first} and {@code last}.
+     */
+    public JsonAdaptedAuditSegment(long segment, long entries, LocalDateTime first, LocalDateTime last) {
+        this(segment, entries, first.format(FORMATTER), last.format(FORMATTER));
+    }
+
+    public long getSegment() {
+        return segment;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public LocalDateTime getFirst() {
+        return LocalDateTime.parse(first, FORMATTER);
+    }
+
+    public LocalDateTime getLast() {
+        return LocalDateTime.parse(last, FORMATTER);
+    }
+
+    /**
+     * Checks that every field holds a usable value.
+     *
+     * @throws IllegalValueException if a field is missing or invalid.
+     */
+    void validate() throws IllegalValueException {
+        if (segment <= 0 || entries <= 0 || first == null || last == null) {
+            throw new IllegalValueException("Missing or invalid audit segment fields");
+        }
+        try {
+            getFirst();
+            getLast();
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException("Invalid audit segment timestamp: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a single line in the address book journal.
+ * Each record describes one change to apply on top of the last snapshot, or a batch of such changes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    /**
+     * The kinds of change a journal record can describe.
+     */
+    enum Op {
+        /** Header written after every snapshot; carries the checksum of that snapshot. */
+        SNAPSHOT,
+        PUT_PERSON,
+        REMOVE_PERSON,
+        PUT_TEAM,
+        REMOVE_TEAM,
+        /** All the changes of one save, written as a single line so that a crash cannot leave part of them behind. */
+        BATCH,
+        /** No longer written, as audit entries are kept by the audit history; still replayed from older journals. */
+        ADD_AUDIT_ENTRY
+    }
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    private final Op op;
+    private final String id;
+    private final Long checksum;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedTeam team;
+    private final JsonAdaptedAuditLogEntry entry;
+    private final List<JsonAdaptedJournalRecord> records;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Op op, @JsonProperty("id") String id,
+                                    @JsonProperty("checksum") Long checksum,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("team") JsonAdaptedTeam team,
+                                    @JsonProperty("entry") JsonAdaptedAuditLogEntry entry,
+                                    @JsonProperty("records") List<JsonAdaptedJournalRecord> records) {
+        this.op = op;
+        this.id = id;
+        this.checksum = checksum;
+        this.person = person;
+        this.team = team;
+        this.entry = entry;
+        this.records = records == null ? null : new ArrayList<>(records);
+    }
+
+    static JsonAdaptedJournalRecord snapshot(long checksum) {
+        return new JsonAdaptedJournalRecord(Op.SNAPSHOT, null, checksum, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord putPerson(JsonAdaptedPerson person) {
+        return new JsonAdaptedJournalRecord(Op.PUT_PERSON, person.getId(), null, person, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord removePerson(String id) {
+        return new JsonAdaptedJournalRecord(Op.REMOVE_PERSON, id, null, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord putTeam(JsonAdaptedTeam team) {
+        return new JsonAdaptedJournalRecord(Op.PUT_TEAM, team.getId(), null, null, team, null, null);
+    }
+
+    static JsonAdaptedJournalRecord removeTeam(String id) {
+        return new JsonAdaptedJournalRecord(Op.REMOVE_TEAM, id, null, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord addAuditEntry(JsonAdaptedAuditLogEntry entry) {
+        return new JsonAdaptedJournalRecord(Op.ADD_AUDIT_ENTRY, null, null, null, null, entry, null);
+    }
+
+    static JsonAdaptedJournalRecord batch(List<JsonAdaptedJournalRecord> records) {
+        return new JsonAdaptedJournalRecord(Op.BATCH, null, null, null, null, null, records);
+    }
+
+    Op getOp() {
+        return op;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Long getChecksum() {
+        return checksum;
+    }
+
+    JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+    JsonAdaptedTeam getTeam() {
+        return team;
+    }
+
+    JsonAdaptedAuditLogEntry getEntry() {
+        return entry;
+    }
+
+    List<JsonAdaptedJournalRecord> getRecords() {
+        return records;
+    }
+
+    /**
+     * Checks that this record carries every field its {@code op} needs.
+     *
+     * @throws IllegalValueException if a required field is missing.
+     */
+    void validate() throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+        switch (op) {
+        case SNAPSHOT:
+            requirePresent(checksum, "checksum");
+            break;
+        case PUT_PERSON:
+            requirePresent(person, "person");
+            requirePresent(id, "id");
+            break;
+        case PUT_TEAM:
+            requirePresent(team, "team");
+            requirePresent(id, "id");
+            break;
+        case REMOVE_PERSON:
+        case REMOVE_TEAM:
+            requirePresent(id, "id");
+            break;
+        case ADD_AUDIT_ENTRY:
+            requirePresent(entry, "entry");
+            break;
+        case BATCH:
+            requirePresent(records, "records");
+            for (JsonAdaptedJournalRecord record : records) {
+                requirePresent(record, "records");
+                if (record.op == Op.SNAPSHOT || record.op == Op.BATCH) {
+                    throw new IllegalValueException("Journal batch cannot hold a " + record.op + " record");
+                }
+                record.validate();
+            }
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal record op: " + op);
+        }
+    }
+
+    private static void requirePresent(Object value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+}
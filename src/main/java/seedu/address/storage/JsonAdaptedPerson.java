@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.GitHubUsername;
@@ -25,6 +26,7 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String DUPLICATE_ID_MESSAGE_FORMAT = "Persons list contains more than one person with id %s!";
 
     private final String id;
     private final String name;
@@ -72,7 +74,7 @@ class JsonAdaptedPerson {
         email = source.email().value();
         address = source.address().value();
         gitHubUsername = source.gitHubUsername().value();
-        salary = String.valueOf(source.salary().toDouble());
+        salary = source.salary().toPlainString();
         if (!source.teamIds().isEmpty()) {
             teamIds.addAll(source.teamIds());
         }
@@ -81,19 +83,52 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the id of the adapted person, or null if it is missing.
+     */
+    String getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this adapted person into the model's {@code Person} object.
+     * If {@code isTrusted}, the fields come from a checksum-verified snapshot and are not matched against their
+     * patterns here; they are still checked once by the model constructors.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    Person toModelType(boolean isTrusted) throws IllegalValueException {
+        if (!isTrusted) {
+            return convert(false);
+        }
+        try {
+            return convert(true);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private Person convert(boolean isTrusted) throws IllegalValueException {
         if (id == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
         }
+        // checked even in trusted snapshots, as the id allocator keeps one bit per id number
+        if (!Person.isValidId(id)) {
+            throw new IllegalValueException(Person.ID_MESSAGE_CONSTRAINTS);
+        }
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
         final Name modelName = new Name(name);
@@ -101,7 +136,7 @@ class JsonAdaptedPerson {
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isTrusted && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
         final Phone modelPhone = new Phone(phone);
@@ -109,7 +144,7 @@ class JsonAdaptedPerson {
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
+        if (!isTrusted && !Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
         final Email modelEmail = new Email(email);
@@ -117,7 +152,7 @@ class JsonAdaptedPerson {
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
+        if (!isTrusted && !Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
         final Address modelAddress = new Address(address);
@@ -126,7 +161,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     GitHubUsername.class.getSimpleName()));
         }
-        if (!GitHubUsername.isValidGitHubUsername(gitHubUsername)) {
+        if (!isTrusted && !GitHubUsername.isValidGitHubUsername(gitHubUsername)) {
             throw new IllegalValueException(GitHubUsername.MESSAGE_CONSTRAINTS);
         }
         final GitHubUsername modelGitHubUsername = new GitHubUsername(gitHubUsername);
@@ -137,16 +172,37 @@ class JsonAdaptedPerson {
         }
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        final Set<String> teamIds = new HashSet<>(this.teamIds);
+        final Set<String> teamIds = new HashSet<>();
+        for (String teamId : this.teamIds) {
+            teamIds.add(StringUtil.intern(teamId));
+        }
 
         if (salary == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Salary.class.getSimpleName()));
         }
-        final Salary modelSalary = new Salary(Double.parseDouble(salary));
+        final Salary modelSalary;
+        try {
+            modelSalary = Salary.parse(salary);
+        } catch (ArithmeticException e) {
+            throw new IllegalValueException(Salary.MESSAGE_CONSTRAINTS);
+        }
 
         return new Person(id, modelName, modelPhone, modelEmail, modelAddress,
                 modelGitHubUsername, teamIds, modelTags, modelSalary);
     }
 
+    /**
+     * Checks that no two of {@code persons} share an employee id.
+     *
+     * @throws IllegalValueException if two persons have the same id.
+     */
+    static void requireUniqueIds(List<Person> persons) throws IllegalValueException {
+        Set<String> ids = new HashSet<>();
+        for (Person person : persons) {
+            if (!ids.add(person.id())) {
+                throw new IllegalValueException(String.format(DUPLICATE_ID_MESSAGE_FORMAT, person.id()));
+            }
+        }
+    }
 }
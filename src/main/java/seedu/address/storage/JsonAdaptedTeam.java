@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -49,6 +50,13 @@ class JsonAdaptedTeam {
         }
     }
 
+    /**
+     * Returns the id of the adapted team, or null if it is missing.
+     */
+    String getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted team object into the model's {@code Team} object.
      *
@@ -58,6 +66,9 @@ class JsonAdaptedTeam {
         if (id == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "id"));
         }
+        if (!Team.isValidId(id)) {
+            throw new IllegalValueException(Team.ID_MESSAGE_CONSTRAINTS);
+        }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -81,4 +92,26 @@ class JsonAdaptedTeam {
 
         return team;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JsonAdaptedTeam otherTeam)) {
+            return false;
+        }
+
+        return Objects.equals(id, otherTeam.id)
+                && Objects.equals(name, otherTeam.name)
+                && Objects.equals(leaderId, otherTeam.leaderId)
+                && members.equals(otherTeam.members);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, leaderId, members);
+    }
 }
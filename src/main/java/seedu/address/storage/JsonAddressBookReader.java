@@ -0,0 +1,222 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Reads an address book json file token by token, converting each person and team into the model as soon as it
+ * has been parsed. Unlike binding the whole file to {@link JsonSerializableAddressBook}, neither the file contents
+ * nor the full list of adapted objects are ever held in memory.
+ * <p>
+ * Before parsing, the checksum in the footer written by {@link JsonAddressBookWriter} is compared with the file
+ * contents. If they match, the file is trusted to hold only values that were valid when saved, and persons are
+ * converted without re-checking each field against its pattern.
+ */
+class JsonAddressBookReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Upper bound on the length of the footer line, in bytes. */
+    private static final int FOOTER_LENGTH_LIMIT = 64;
+    /** Number of persons parsed before they are converted together; bounds the adapted persons held in memory. */
+    private static final int PERSON_BATCH_SIZE = 1 << 14;
+    private static final Pattern FOOTER_PATTERN = Pattern.compile("\\{\"crc32c\":\"([0-9a-f]{8})\"}\\s*$");
+
+    private final AddressBook addressBook = new AddressBook();
+    /** Audit entries in file order; added to the address book by {@link #toModelType()}. */
+    private final List<AuditLogEntry> auditLogEntries = new ArrayList<>();
+    private long checksum;
+    private boolean isTrusted;
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book json file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static JsonAddressBookReader read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        reader.verifyFooter(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            reader.readRoot(parser);
+        }
+        return reader;
+    }
+
+    /**
+     * Computes the checksum of the json document in {@code filePath}, i.e. every byte before the footer line, and
+     * trusts the file if it matches the one in the footer. Files without a footer are checksummed as a whole.
+     */
+    private void verifyFooter(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer tail = ByteBuffer.allocate((int) Math.min(size, FOOTER_LENGTH_LIMIT));
+            long tailStart = size - tail.capacity();
+            while (tail.hasRemaining() && channel.read(tail, tailStart + tail.position()) != -1) {
+                // keep reading until the tail is full
+            }
+            String tailText = new String(tail.array(), 0, tail.position(), StandardCharsets.ISO_8859_1);
+
+            long documentLength = size;
+            Long recordedChecksum = null;
+            int footerStart = tailText.lastIndexOf("{\"crc32c\"");
+            if (footerStart >= 0) {
+                Matcher matcher = FOOTER_PATTERN.matcher(tailText).region(footerStart, tailText.length());
+                if (matcher.matches()) {
+                    documentLength = tailStart + footerStart;
+                    recordedChecksum = Long.parseLong(matcher.group(1), 16);
+                }
+            }
+
+            CRC32C crc = new CRC32C();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            long position = 0;
+            while (position < documentLength) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE, documentLength - position));
+                int read = channel.read(buffer, position);
+                if (read == -1) {
+                    break;
+                }
+                buffer.flip();
+                crc.update(buffer);
+                position += read;
+            }
+            checksum = crc.getValue();
+            isTrusted = recordedChecksum != null && recordedChecksum == checksum;
+        }
+    }
+
+    private void readRoot(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+            case "persons":
+                startArray(parser, value);
+                readPersons(parser);
+                break;
+            case "teams":
+                startArray(parser, value);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addressBook.addTeam(parser.readValueAs(JsonAdaptedTeam.class).toModelType());
+                }
+                break;
+            case "lastTeamId":
+                String lastTeamId = parser.getValueAsString();
+                if (lastTeamId == null || !Team.isValidId(lastTeamId)) {
+                    throw new IllegalValueException(Team.ID_MESSAGE_CONSTRAINTS);
+                }
+                addressBook.reserveTeamIdsUpTo(lastTeamId);
+                break;
+            case "auditLog":
+                startArray(parser, value);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    auditLogEntries.add(parser.readValueAs(JsonAdaptedAuditLogEntry.class).toModelType());
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Reads the persons array a batch at a time, converting each batch in parallel, and then inserts all persons
+     * into the address book at once. Batches are converted in file order, so the first invalid person is reported.
+     */
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(PERSON_BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == PERSON_BATCH_SIZE) {
+                persons.addAll(ParallelPersonConverter.convert(batch, isTrusted));
+                batch.clear();
+            }
+        }
+        persons.addAll(ParallelPersonConverter.convert(batch, isTrusted));
+        JsonAdaptedPerson.requireUniqueIds(persons);
+        addressBook.setPersons(persons);
+    }
+
+    private static void startArray(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array for " + parser.getCurrentName());
+        }
+    }
+
+    /**
+     * Returns the address book read so far, without its audit log.
+     */
+    AddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    /**
+     * Returns the audit entries read, in file order. The list may be modified before calling {@link #toModelType()}.
+     */
+    List<AuditLogEntry> getAuditLogEntries() {
+        return auditLogEntries;
+    }
+
+    /**
+     * Returns the CRC32C of the json document read, excluding the footer line if there is one.
+     */
+    long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns true if the file ended with a footer whose checksum matched its contents.
+     */
+    boolean isTrusted() {
+        return isTrusted;
+    }
+
+    /**
+     * Adds the audit entries to the address book and returns it.
+     * Entries are added in file order, matching {@link JsonSerializableAddressBook#toModelType()}.
+     */
+    AddressBook toModelType() {
+        for (AuditLogEntry entry : auditLogEntries) {
+            addressBook.getAuditLog().addEntry(entry.getAction(), entry.getDetails(), entry.getTimestamp());
+        }
+        auditLogEntries.clear();
+        return addressBook;
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyAddressBook.Section;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Writes an address book as json straight to a file, adapting one person, team or audit entry at a time.
+ * Unlike serializing a {@link JsonSerializableAddressBook} to a String, the file contents are never held in memory.
+ * The output has the same layout as {@link JsonSerializableAddressBook}, so it can be read back by
+ * {@link JsonAddressBookReader}.
+ * <p>
+ * The json document is followed by a footer line holding the CRC32C of every byte before it, e.g.
+ * {@code {"crc32c":"0a1b2c3d"}}, which lets the reader tell a snapshot written by this class from one that was
+ * damaged or edited by hand. Files are replaced atomically, so a crash mid-save never leaves a half-written file.
+ */
+class JsonAddressBookWriter {
+
+    static final String FOOTER_FORMAT = "{\"crc32c\":\"%08x\"}\n";
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, creating the file if it is missing.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks.
+     * @return the CRC32C of the json document, as recorded in the footer.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static long write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        return write(addressBook, filePath, isCompact, EnumSet.allOf(Section.class));
+    }
+
+    /**
+     * Writes only the given {@code sections} of {@code addressBook} to {@code filePath}.
+     * The other fields are left out of the file, and are read back as empty.
+     *
+     * @see #write(ReadOnlyAddressBook, Path, boolean)
+     */
+    static long write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact, Set<Section> sections)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        requireNonNull(sections);
+
+        CRC32C crc = new CRC32C();
+        FileUtil.writeAtomically(filePath, fileOut -> {
+            OutputStream out = new CheckedOutputStream(fileOut, crc);
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                writeDocument(addressBook, sections, generator);
+            }
+            out.write('\n');
+            fileOut.write(String.format(FOOTER_FORMAT, crc.getValue()).getBytes(StandardCharsets.US_ASCII));
+        });
+        return crc.getValue();
+    }
+
+    private static void writeDocument(ReadOnlyAddressBook addressBook, Set<Section> sections,
+            JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+
+        if (sections.contains(Section.PERSONS)) {
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+        }
+
+        if (sections.contains(Section.TEAMS)) {
+            generator.writeArrayFieldStart("teams");
+            for (Team team : addressBook.getTeamList()) {
+                generator.writeObject(new JsonAdaptedTeam(team));
+            }
+            generator.writeEndArray();
+            if (addressBook.getLastTeamId() != null) {
+                generator.writeStringField("lastTeamId", addressBook.getLastTeamId());
+            }
+        }
+
+        if (sections.contains(Section.AUDIT_LOG)) {
+            generator.writeArrayFieldStart("auditLog");
+            for (AuditLogEntry entry : addressBook.getAuditLog().getEntries()) {
+                generator.writeObject(new JsonAdaptedAuditLogEntry(entry));
+            }
+            generator.writeEndArray();
+        }
+
+        generator.writeEndObject();
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -22,6 +23,9 @@ class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTeam> teams = new ArrayList<>();
+    /** Highest team id handed out, kept so that the ids of removed teams are not given to new ones. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String lastTeamId;
 
     @JsonProperty("auditLog")
     private final List<JsonAdaptedAuditLogEntry> auditLogEntries = new ArrayList<>();
@@ -32,11 +36,13 @@ class JsonSerializableAddressBook {
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("teams") List<JsonAdaptedTeam> teams,
+                                       @JsonProperty("lastTeamId") String lastTeamId,
                                        @JsonProperty("auditLog") List<JsonAdaptedAuditLogEntry> auditLogEntries) {
         this.persons.addAll(persons);
         if (teams != null) {
             this.teams.addAll(teams);
         }
+        this.lastTeamId = lastTeamId;
         if (auditLogEntries != null) {
             this.auditLogEntries.addAll(auditLogEntries);
         }
@@ -50,6 +56,7 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).toList());
         teams.addAll(source.getTeamList().stream().map(JsonAdaptedTeam::new).toList());
+        lastTeamId = source.getLastTeamId();
         auditLogEntries.addAll(source.getAuditLog().getEntries().stream()
                 .map(JsonAdaptedAuditLogEntry::new).toList());
     }
@@ -61,14 +68,19 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            addressBook.addPerson(person);
-        }
+        List<Person> modelPersons = ParallelPersonConverter.convert(persons, false);
+        JsonAdaptedPerson.requireUniqueIds(modelPersons);
+        addressBook.setPersons(modelPersons);
         for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
             Team team = jsonAdaptedTeam.toModelType();
             addressBook.addTeam(team);
         }
+        if (lastTeamId != null) {
+            if (!Team.isValidId(lastTeamId)) {
+                throw new IllegalValueException(Team.ID_MESSAGE_CONSTRAINTS);
+            }
+            addressBook.reserveTeamIdsUpTo(lastTeamId);
+        }
         for (JsonAdaptedAuditLogEntry jsonAdaptedEntry : auditLogEntries) {
             AuditLogEntry entry = jsonAdaptedEntry.toModelType();
             addressBook.getAuditLog().addEntry(entry.getAction(), entry.getDetails(), entry.getTimestamp());
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts adapted persons into the model's {@code Person}s on all cores of the common fork-join pool.
+ * <p>
+ * The persons are split into ranges that are converted independently. The results keep the order of the input,
+ * and if any person is invalid, the error reported is the one for the first invalid person in the input, exactly
+ * as if the persons had been converted one by one.
+ */
+class ParallelPersonConverter {
+
+    /** Number of persons below which a range is converted sequentially rather than split further. */
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 10;
+
+    private final List<JsonAdaptedPerson> adaptedPersons;
+    private final boolean isTrusted;
+    private final Person[] persons;
+    /** Index of the first failed conversion found so far, or the input size if none. */
+    private final AtomicInteger firstFailure;
+    private final Exception[] failures;
+
+    private ParallelPersonConverter(List<JsonAdaptedPerson> adaptedPersons, boolean isTrusted) {
+        this.adaptedPersons = adaptedPersons;
+        this.isTrusted = isTrusted;
+        this.persons = new Person[adaptedPersons.size()];
+        this.firstFailure = new AtomicInteger(adaptedPersons.size());
+        this.failures = new Exception[adaptedPersons.size()];
+    }
+
+    /**
+     * Converts {@code adaptedPersons} in order.
+     *
+     * @param isTrusted whether the persons come from a checksum-verified snapshot,
+     *     see {@link JsonAdaptedPerson#toModelType(boolean)}.
+     * @throws IllegalValueException if any person is invalid; the first one in {@code adaptedPersons} is reported.
+     */
+    static List<Person> convert(List<JsonAdaptedPerson> adaptedPersons, boolean isTrusted)
+            throws IllegalValueException {
+        requireNonNull(adaptedPersons);
+        ParallelPersonConverter converter = new ParallelPersonConverter(adaptedPersons, isTrusted);
+        if (adaptedPersons.size() <= SEQUENTIAL_THRESHOLD) {
+            converter.convertRange(0, adaptedPersons.size());
+        } else {
+            ForkJoinPool.commonPool().invoke(converter.new ConvertTask(0, adaptedPersons.size()));
+        }
+        return converter.getResult();
+    }
+
+    private void convertRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            // a person after a known failure cannot be the one reported
+            if (i > firstFailure.get()) {
+                return;
+            }
+            try {
+                persons[i] = adaptedPersons.get(i).toModelType(isTrusted);
+            } catch (IllegalValueException | RuntimeException e) {
+                failures[i] = e;
+                firstFailure.accumulateAndGet(i, Math::min);
+                return;
+            }
+        }
+    }
+
+    private List<Person> getResult() throws IllegalValueException {
+        int failure = firstFailure.get();
+        if (failure < persons.length) {
+            if (failures[failure] instanceof IllegalValueException ive) {
+                throw ive;
+            }
+            throw (RuntimeException) failures[failure];
+        }
+        return Arrays.asList(persons);
+    }
+
+    /**
+     * Converts a range of persons, splitting it in half until it is small enough to convert sequentially.
+     */
+    private class ConvertTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        ConvertTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                convertRange(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConvertTask(from, middle), new ConvertTask(middle, to));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyAddressBook.Section;
+import seedu.address.model.audit.AuditLogEntry;
+
+/**
+ * A class to access AddressBook data stored as one json file per section on the hard disk.
+ * <p>
+ * For a data file {@code addressbook.json}, persons, teams and the audit log are kept in
+ * {@code addressbook.persons.json}, {@code addressbook.teams.json} and {@code addressbook.audit.json}.
+ * Each save rewrites only the sections whose {@link ReadOnlyAddressBook#getVersion(Section) version} differs from
+ * the one last saved, so e.g. tagging a person leaves the teams and audit files untouched.
+ * Each section file is replaced atomically on its own; sections are not updated together as a unit.
+ * If none of the section files exist, the data file itself is read as a single-file address book.
+ */
+public class SectionedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SectionedAddressBookStorage.class);
+
+    private Path filePath;
+    private final boolean isCompact;
+    /** Version of each section as of its last successful save to {@link #filePath}. */
+    private final Map<Section, Long> savedVersions = new EnumMap<>(Section.class);
+
+    /**
+     * Creates a storage for the section files of the data file at {@code filePath}.
+     *
+     * @param isCompact whether saved files leave out indentation and line breaks.
+     */
+    public SectionedAddressBookStorage(Path filePath, boolean isCompact) {
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns the path of the file holding {@code section} of the data file at {@code filePath}.
+     */
+    public static Path getSectionFilePath(Path filePath, Section section) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        String extension = extensionStart > 0 ? fileName.substring(extensionStart) : "";
+        return filePath.resolveSibling(baseName + "." + getSectionName(section) + extension);
+    }
+
+    private static String getSectionName(Section section) {
+        switch (section) {
+        case PERSONS:
+            return "persons";
+        case TEAMS:
+            return "teams";
+        case AUDIT_LOG:
+            return "audit";
+        default:
+            throw new AssertionError(section);
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Missing section files are read as empty sections.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path personsPath = getSectionFilePath(filePath, Section.PERSONS);
+        Path teamsPath = getSectionFilePath(filePath, Section.TEAMS);
+        Path auditPath = getSectionFilePath(filePath, Section.AUDIT_LOG);
+        if (!Files.exists(personsPath) && !Files.exists(teamsPath) && !Files.exists(auditPath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+        logger.info("Section files for " + filePath + " found.");
+
+        try {
+            JsonAddressBookReader persons = readSection(personsPath);
+            JsonAddressBookReader teams = readSection(teamsPath);
+            JsonAddressBookReader auditLog = readSection(auditPath);
+            AddressBook addressBook = persons == null ? new AddressBook() : persons.getAddressBook();
+            if (teams != null) {
+                addressBook.setTeams(teams.getAddressBook().getTeamList());
+                if (teams.getAddressBook().getLastTeamId() != null) {
+                    addressBook.reserveTeamIdsUpTo(teams.getAddressBook().getLastTeamId());
+                }
+            }
+            if (auditLog != null) {
+                // in file order, matching JsonAddressBookReader#toModelType()
+                for (AuditLogEntry entry : auditLog.getAuditLogEntries()) {
+                    addressBook.getAuditLog().addEntry(entry.getAction(), entry.getDetails(), entry.getTimestamp());
+                }
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading section files of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in section files of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the section file at {@code sectionPath}, or returns null if it does not exist.
+     */
+    private static JsonAddressBookReader readSection(Path sectionPath) throws IOException, IllegalValueException {
+        if (!Files.exists(sectionPath)) {
+            return null;
+        }
+        return JsonAddressBookReader.read(sectionPath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a path other than this storage's own writes every section.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        for (Section section : Section.values()) {
+            long version = addressBook.getVersion(section);
+            if (isOwnFile && savedVersions.containsKey(section) && savedVersions.get(section) == version) {
+                continue;
+            }
+            JsonAddressBookWriter.write(addressBook, getSectionFilePath(filePath, section), isCompact,
+                    EnumSet.of(section));
+            if (isOwnFile) {
+                savedVersions.put(section, version);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,371 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.audit.AuditLogEntry;
+
+/**
+ * A class to access the audit log history stored as append-only segments on the hard disk.
+ * <p>
+ * Entries are appended, one compact json object per line, to the newest segment file in the directory, e.g.
+ * {@code segment-00000003.ndjson}. A segment is sealed once it would grow past the maximum size or holds entries
+ * spanning more than the maximum age; the next entry then starts a new segment. Each sealed segment is recorded in
+ * a small time index, {@code index.ndjson}, with its entry count and the timestamps of its first and last entries,
+ * so paging backwards through the history reads only the segments that hold the requested entries.
+ * <p>
+ * An entry cut short by a crash is dropped the next time the directory is loaded, and segments missing from the
+ * index are scanned and indexed again.
+ */
+public class SegmentedAuditLogStorage implements AuditLogStorage {
+
+    public static final long DEFAULT_MAX_SEGMENT_BYTES = 1 << 20;
+    public static final Duration DEFAULT_MAX_SEGMENT_AGE = Duration.ofDays(1);
+    public static final String DIRECTORY_SUFFIX = ".auditlog";
+
+    static final String INDEX_FILE_NAME = "index.ndjson";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAuditLogStorage.class);
+    private static final String SEGMENT_FILE_FORMAT = "segment-%08d.ndjson";
+    private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-(\\d{8,})\\.ndjson");
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final Duration maxSegmentAge;
+
+    /** Sealed segments, oldest first, or null until the directory has been loaded. */
+    private List<JsonAdaptedAuditSegment> sealedSegments;
+    private long sealedEntryCount;
+    /** Segment that new entries are appended to, or null if the next entry starts a new segment. */
+    private ActiveSegment activeSegment;
+    private long nextSegmentNumber;
+
+    public SegmentedAuditLogStorage(Path directory) {
+        this(directory, DEFAULT_MAX_SEGMENT_BYTES, DEFAULT_MAX_SEGMENT_AGE);
+    }
+
+    /**
+     * Creates a storage in {@code directory} that seals a segment once it would exceed {@code maxSegmentBytes}
+     * or its entries would span {@code maxSegmentAge} or more.
+     */
+    public SegmentedAuditLogStorage(Path directory, long maxSegmentBytes, Duration maxSegmentAge) {
+        requireNonNull(directory);
+        requireNonNull(maxSegmentAge);
+        if (maxSegmentBytes <= 0 || maxSegmentAge.isNegative() || maxSegmentAge.isZero()) {
+            throw new IllegalArgumentException("Segment limits must be positive");
+        }
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxSegmentAge = maxSegmentAge;
+    }
+
+    /**
+     * Returns the directory holding the audit log history of the data file at {@code addressBookFilePath}.
+     */
+    public static Path getAuditLogDirectoryPath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + DIRECTORY_SUFFIX);
+    }
+
+    public Path getAuditLogDirectoryPath() {
+        return directory;
+    }
+
+    Path getSegmentFilePath(long segmentNumber) {
+        return directory.resolve(String.format(SEGMENT_FILE_FORMAT, segmentNumber));
+    }
+
+    @Override
+    public long getEntryCount() {
+        try {
+            load();
+        } catch (IOException e) {
+            logger.warning("Error reading audit log directory " + directory + ": " + e);
+            return 0;
+        }
+        return sealedEntryCount + (activeSegment == null ? 0 : activeSegment.entries);
+    }
+
+    @Override
+    public List<AuditLogEntry> readEntries(long skip, int count) throws DataLoadingException {
+        if (skip < 0 || count < 0) {
+            throw new IllegalArgumentException("Skip and count must not be negative");
+        }
+        try {
+            load();
+        } catch (IOException e) {
+            logger.warning("Error reading audit log directory " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedAuditSegment> newestFirst = new ArrayList<>();
+        if (activeSegment != null && activeSegment.entries > 0) {
+            newestFirst.add(activeSegment.toRecord());
+        }
+        for (int i = sealedSegments.size() - 1; i >= 0; i--) {
+            newestFirst.add(sealedSegments.get(i));
+        }
+
+        List<AuditLogEntry> entries = new ArrayList<>();
+        long toSkip = skip;
+        for (JsonAdaptedAuditSegment segment : newestFirst) {
+            if (entries.size() == count) {
+                break;
+            }
+            if (toSkip >= segment.getEntries()) {
+                toSkip -= segment.getEntries();
+                continue;
+            }
+            List<AuditLogEntry> segmentEntries = readSegment(segment.getSegment());
+            for (int i = segmentEntries.size() - 1 - (int) toSkip; i >= 0 && entries.size() < count; i--) {
+                entries.add(segmentEntries.get(i));
+            }
+            toSkip = 0;
+        }
+        return entries;
+    }
+
+    @Override
+    public void appendAuditEntry(AuditLogEntry entry) throws IOException {
+        requireNonNull(entry);
+        load();
+
+        byte[] line = (JsonUtil.toCompactJsonString(new JsonAdaptedAuditLogEntry(entry)) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        if (activeSegment != null && activeSegment.entries > 0 && isFull(activeSegment, line.length, entry)) {
+            seal();
+        }
+        if (activeSegment == null) {
+            Files.createDirectories(directory);
+            activeSegment = new ActiveSegment(nextSegmentNumber++);
+        }
+        Files.write(getSegmentFilePath(activeSegment.number), line,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        activeSegment.add(entry.getTimestamp(), line.length);
+    }
+
+    private boolean isFull(ActiveSegment segment, int lineLength, AuditLogEntry entry) {
+        return segment.bytes + lineLength > maxSegmentBytes
+                || Duration.between(segment.first, entry.getTimestamp()).compareTo(maxSegmentAge) >= 0;
+    }
+
+    /**
+     * Records the active segment in the index, so that the next entry starts a new segment.
+     */
+    private void seal() throws IOException {
+        JsonAdaptedAuditSegment record = activeSegment.toRecord();
+        Files.writeString(directory.resolve(INDEX_FILE_NAME), JsonUtil.toCompactJsonString(record) + "\n",
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        sealedSegments.add(record);
+        sealedEntryCount += record.getEntries();
+        activeSegment = null;
+    }
+
+    //// loading
+
+    /**
+     * Reads the index and the newest segment, unless they have been read already.
+     */
+    private void load() throws IOException {
+        if (sealedSegments != null) {
+            return;
+        }
+
+        List<JsonAdaptedAuditSegment> sealed = new ArrayList<>();
+        ActiveSegment active = null;
+        long next = 1;
+        if (Files.isDirectory(directory)) {
+            boolean isIndexDamaged = readIndex(sealed);
+            Set<Long> indexed = new HashSet<>();
+            long newestIndexed = 0;
+            for (JsonAdaptedAuditSegment record : sealed) {
+                indexed.add(record.getSegment());
+                newestIndexed = Math.max(newestIndexed, record.getSegment());
+            }
+
+            List<Long> segmentNumbers = listSegmentNumbers();
+            boolean isIndexRepaired = false;
+            for (int i = 0; i < segmentNumbers.size(); i++) {
+                long number = segmentNumbers.get(i);
+                if (indexed.contains(number)) {
+                    continue;
+                }
+                ActiveSegment segment = scanSegment(number);
+                if (i == segmentNumbers.size() - 1 && number > newestIndexed) {
+                    active = segment;
+                } else if (segment.entries > 0) {
+                    logger.warning("Audit log segment " + number + " is missing from the index, indexing it again.");
+                    sealed.add(segment.toRecord());
+                    isIndexRepaired = true;
+                }
+            }
+            sealed.sort(Comparator.comparingLong(JsonAdaptedAuditSegment::getSegment));
+            if (isIndexDamaged || isIndexRepaired) {
+                writeIndex(sealed);
+            }
+
+            if (!segmentNumbers.isEmpty()) {
+                next = segmentNumbers.get(segmentNumbers.size() - 1) + 1;
+            }
+            next = Math.max(next, newestIndexed + 1);
+        }
+
+        sealedSegments = sealed;
+        sealedEntryCount = sealed.stream().mapToLong(JsonAdaptedAuditSegment::getEntries).sum();
+        activeSegment = active;
+        nextSegmentNumber = next;
+    }
+
+    /**
+     * Adds the valid records of the index to {@code records}.
+     *
+     * @return true if the index holds records that could not be read and must be rewritten.
+     */
+    private boolean readIndex(List<JsonAdaptedAuditSegment> records) throws IOException {
+        Path indexPath = directory.resolve(INDEX_FILE_NAME);
+        if (!Files.exists(indexPath)) {
+            return false;
+        }
+
+        boolean isDamaged = false;
+        for (String line : Files.readAllLines(indexPath, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonAdaptedAuditSegment record = JsonUtil.fromJsonString(line, JsonAdaptedAuditSegment.class);
+                record.validate();
+                records.add(record);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Ignoring unreadable record in audit log index " + indexPath + ": " + e);
+                isDamaged = true;
+            }
+        }
+        return isDamaged;
+    }
+
+    private void writeIndex(List<JsonAdaptedAuditSegment> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedAuditSegment record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append("\n");
+        }
+        byte[] index = lines.toString().getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeAtomically(directory.resolve(INDEX_FILE_NAME), out -> out.write(index));
+    }
+
+    private List<Long> listSegmentNumbers() throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SEGMENT_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    numbers.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        numbers.sort(null);
+        return numbers;
+    }
+
+    /**
+     * Counts the entries of a segment that is not in the index, first cutting off an incomplete last line.
+     */
+    private ActiveSegment scanSegment(long segmentNumber) throws IOException {
+        Path segmentPath = getSegmentFilePath(segmentNumber);
+        byte[] bytes = Files.readAllBytes(segmentPath);
+        int length = bytes.length;
+        while (length > 0 && bytes[length - 1] != '\n') {
+            length--;
+        }
+        if (length < bytes.length) {
+            logger.warning("Dropping incomplete last entry of audit log segment " + segmentPath);
+            try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.WRITE)) {
+                channel.truncate(length);
+            }
+        }
+
+        ActiveSegment segment = new ActiveSegment(segmentNumber);
+        String[] lines = new String(bytes, 0, length, StandardCharsets.UTF_8).split("\n");
+        for (String line : lines) {
+            if (!line.isBlank()) {
+                segment.add(parseEntry(line, segmentPath).getTimestamp(), 0);
+            }
+        }
+        segment.bytes = length;
+        return segment;
+    }
+
+    private List<AuditLogEntry> readSegment(long segmentNumber) throws DataLoadingException {
+        Path segmentPath = getSegmentFilePath(segmentNumber);
+        try {
+            List<AuditLogEntry> entries = new ArrayList<>();
+            for (String line : Files.readAllLines(segmentPath, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    entries.add(parseEntry(line, segmentPath));
+                }
+            }
+            return entries;
+        } catch (IOException e) {
+            logger.warning("Error reading audit log segment " + segmentPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static AuditLogEntry parseEntry(String line, Path segmentPath) throws IOException {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedAuditLogEntry.class).toModelType();
+        } catch (IllegalValueException | DateTimeParseException e) {
+            throw new IOException("Corrupted entry in audit log segment " + segmentPath, e);
+        }
+    }
+
+    /**
+     * Running totals of the segment that entries are currently appended to.
+     */
+    private static class ActiveSegment {
+        private final long number;
+        private long entries;
+        private long bytes;
+        private LocalDateTime first;
+        private LocalDateTime last;
+
+        ActiveSegment(long number) {
+            this.number = number;
+        }
+
+        void add(LocalDateTime timestamp, int length) {
+            if (entries == 0) {
+                first = timestamp;
+            }
+            last = timestamp;
+            entries++;
+            bytes += length;
+        }
+
+        JsonAdaptedAuditSegment toRecord() {
+            return new JsonAdaptedAuditSegment(number, entries, first, last);
+        }
+    }
+}
@@ -1,31 +1,104 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config.SaveMode;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ListHistory;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * Unless the save mode is {@link SaveMode#SYNC}, saves of the address book are written behind: the caller only
+ * takes a snapshot of the data, and a single background writer later writes the newest pending snapshot.
+ * Saves that arrive before the writer gets to them are coalesced into one write. A snapshot whose write fails stays
+ * pending, unless a newer one replaces it, and is retried with the next write, so a failed background write never
+ * fails the unrelated save that comes after it.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    /** Storage for the audit log history, or null if the audit log is only kept in the address book. */
+    private AuditLogStorage auditLogStorage;
+
+    private final SaveMode saveMode;
+    private final long saveIntervalMillis;
+    private final ScheduledExecutorService writer;
+    /** Serialises writes of the address book, so an older snapshot never overwrites a newer one. */
+    private final Object writeLock = new Object();
+
+    /** Newest snapshot not yet written; guarded by {@code this}. */
+    private ReadOnlyAddressBook pendingAddressBook;
+    /** Whether the background writer has a write scheduled that has not started yet; guarded by {@code this}. */
+    private boolean isWriteScheduled;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Every save is written before it returns.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, SaveMode.SYNC, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that writes the address book according to {@code saveMode}.
+     *
+     * @param saveIntervalMillis minimum delay between background writes in {@link SaveMode#INTERVAL} mode.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          SaveMode saveMode, long saveIntervalMillis) {
+        this(addressBookStorage, userPrefsStorage, null, saveMode, saveIntervalMillis);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that also keeps the audit log history in {@code auditLogStorage}.
+     * Audit entries are appended as they are made, independently of the save mode.
+     *
+     * @param auditLogStorage storage for the audit log history, or null to keep no history beyond the address book.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          AuditLogStorage auditLogStorage, SaveMode saveMode, long saveIntervalMillis) {
+        requireNonNull(saveMode);
+        if (saveIntervalMillis < 0) {
+            throw new IllegalArgumentException("Save interval must not be negative");
+        }
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.auditLogStorage = auditLogStorage;
+        this.saveMode = saveMode;
+        this.saveIntervalMillis = saveIntervalMillis;
+        this.writer = saveMode == SaveMode.INTERVAL ? createWriter() : null;
+    }
+
+    private static ScheduledExecutorService createWriter() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,8 +144,186 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (saveMode == SaveMode.SYNC || !filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            synchronized (writeLock) {
+                logger.fine("Attempting to write to data file: " + filePath);
+                addressBookStorage.saveAddressBook(addressBook, filePath);
+            }
+            return;
+        }
+
+        // Only a background writer needs its own copy; on-exit saves are flushed on the caller's thread.
+        ReadOnlyAddressBook toWrite = writer == null ? addressBook : new Snapshot(addressBook);
+        boolean shouldSchedule;
+        synchronized (this) {
+            pendingAddressBook = toWrite;
+            shouldSchedule = writer != null && !isWriteScheduled;
+            isWriteScheduled = isWriteScheduled || shouldSchedule;
+        }
+        if (shouldSchedule) {
+            writer.schedule(this::writePendingInBackground, saveIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writePending();
+    }
+
+    private void writePendingInBackground() {
+        synchronized (this) {
+            isWriteScheduled = false;
+        }
+        try {
+            writePending();
+        } catch (IOException ioe) {
+            logger.warning("Background write of data file failed, retrying with the next save: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Writes the newest pending snapshot, if any. If the write fails, the snapshot is put back as pending unless a
+     * newer one arrived meanwhile, which holds its changes as well.
+     */
+    private void writePending() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook toWrite;
+            synchronized (this) {
+                toWrite = pendingAddressBook;
+                pendingAddressBook = null;
+            }
+            if (toWrite == null) {
+                return;
+            }
+            logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+            try {
+                addressBookStorage.saveAddressBook(toWrite);
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    if (pendingAddressBook == null) {
+                        pendingAddressBook = toWrite;
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    // ================ AuditLog methods ==============================
+
+    @Override
+    public long getEntryCount() {
+        return auditLogStorage == null ? 0 : auditLogStorage.getEntryCount();
+    }
+
+    @Override
+    public List<AuditLogEntry> readEntries(long skip, int count) throws DataLoadingException {
+        if (auditLogStorage == null) {
+            return Collections.emptyList();
+        }
+        return auditLogStorage.readEntries(skip, count);
+    }
+
+    @Override
+    public void appendAuditEntry(AuditLogEntry entry) throws IOException {
+        if (auditLogStorage == null) {
+            return;
+        }
+        logger.fine("Attempting to append to audit log: " + entry);
+        auditLogStorage.appendAuditEntry(entry);
+    }
+
+    /**
+     * A point-in-time copy of an address book that later changes to the original cannot affect.
+     * <p>
+     * The persons and teams are the constant-time snapshots the address book keeps of them, which hold immutable
+     * persons and copies of the teams, so taking a copy does not walk either list on the caller's thread. They are
+     * turned into lists only when the background writer first reads them.
+     * The audit log is copied, but it holds just the newest entries once its history is attached.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        /** Lists of {@code personSnapshot} and {@code teamSnapshot}, or null until first read. */
+        private ObservableList<Person> persons;
+        private ObservableList<Team> teams;
+        private final AuditLog auditLog;
+        private final long personsVersion;
+        private final long teamsVersion;
+        private final String lastTeamId;
+        /** The address book this is a copy of, which knows the changes between its own snapshots. */
+        private final ReadOnlyAddressBook source;
+        private final PersistentList<Person> personSnapshot;
+        private final PersistentList<Team> teamSnapshot;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            auditLog = new AuditLog(source.getAuditLog());
+            personsVersion = source.getVersion(Section.PERSONS);
+            teamsVersion = source.getVersion(Section.TEAMS);
+            lastTeamId = source.getLastTeamId();
+            this.source = source;
+            personSnapshot = source.getPersonSnapshot();
+            teamSnapshot = source.getTeamSnapshot();
+        }
+
+        @Override
+        public synchronized ObservableList<Person> getPersonList() {
+            if (persons == null) {
+                persons = FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(personSnapshot.toList()));
+            }
+            return persons;
+        }
+
+        @Override
+        public AuditLog getAuditLog() {
+            return auditLog;
+        }
+
+        @Override
+        public synchronized ObservableList<Team> getTeamList() {
+            if (teams == null) {
+                teams = FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(teamSnapshot.toList()));
+            }
+            return teams;
+        }
+
+        @Override
+        public long getVersion(Section section) {
+            switch (section) {
+            case PERSONS:
+                return personsVersion;
+            case TEAMS:
+                return teamsVersion;
+            default:
+                return auditLog.getVersion();
+            }
+        }
+
+        @Override
+        public String getLastTeamId() {
+            return lastTeamId;
+        }
+
+        @Override
+        public PersistentList<Person> getPersonSnapshot() {
+            return personSnapshot;
+        }
+
+        @Override
+        public PersistentList<Team> getTeamSnapshot() {
+            return teamSnapshot;
+        }
+
+        @Override
+        public List<ListHistory.Edit<Person>> getPersonChanges(PersistentList<Person> from,
+                PersistentList<Person> to) {
+            return source.getPersonChanges(from, to);
+        }
+
+        @Override
+        public List<ListHistory.Edit<Team>> getTeamChanges(PersistentList<Team> from, PersistentList<Team> to) {
+            return source.getTeamChanges(from, to);
+        }
     }
 
 }
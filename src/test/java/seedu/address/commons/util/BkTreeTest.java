@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private static Map<String, Integer> search(BkTree tree, String query, int maxDistance) {
+        Map<String, Integer> found = new TreeMap<>();
+        tree.search(query, maxDistance, found::put);
+        return found;
+    }
+
+    @Test
+    public void add_duplicateWord_notAdded() {
+        BkTree tree = new BkTree();
+        assertTrue(tree.add("john"));
+        assertTrue(tree.add("jon"));
+        assertFalse(tree.add("john"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_emptyTree_findsNothing() {
+        assertEquals(Map.of(), search(new BkTree(), "john", 2));
+    }
+
+    @Test
+    public void search_misspelledWord_findsCloseWords() {
+        BkTree tree = new BkTree();
+        for (String word : List.of("john", "joan", "jon", "doe", "alex", "johnson")) {
+            tree.add(word);
+        }
+        assertEquals(Map.of("john", 2, "joan", 2, "jon", 1), search(tree, "jhon", 2));
+        assertEquals(Map.of("john", 0), search(tree, "john", 0));
+        assertEquals(Map.of("doe", 1), search(tree, "do", 1));
+    }
+
+    @Test
+    public void search_randomWords_matchesScan() {
+        Random random = new Random(11);
+        List<String> words = new ArrayList<>();
+        BkTree tree = new BkTree();
+        for (int i = 0; i < 500; i++) {
+            String word = randomWord(random);
+            words.add(word);
+            tree.add(word);
+        }
+        for (int i = 0; i < 100; i++) {
+            String query = randomWord(random);
+            int maxDistance = random.nextInt(3);
+            Map<String, Integer> expected = new TreeMap<>();
+            for (String word : words) {
+                int distance = StringUtil.editDistance(word, query);
+                if (distance <= maxDistance) {
+                    expected.put(word, distance);
+                }
+            }
+            assertEquals(expected, search(tree, query, maxDistance));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < 2 + random.nextInt(5); i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class CompressedBitmapTest {
+
+    private static List<Integer> toList(CompressedBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    private static CompressedBitmap bitmapOf(Iterable<Integer> values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    @Test
+    void addRemoveContains() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(5);
+        bitmap.add(70000);
+        bitmap.add(5);
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(6));
+        assertFalse(bitmap.contains(-1));
+        assertEquals(2, bitmap.cardinality());
+
+        bitmap.remove(5);
+        bitmap.remove(6);
+        assertEquals(List.of(70000), toList(bitmap));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    void denseChunk_convertsBetweenRepresentations() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 10000; i += 2) {
+            bitmap.add(i);
+        }
+        assertEquals(5000, bitmap.cardinality());
+        assertTrue(bitmap.contains(9998));
+        for (int i = 0; i < 10000; i += 4) {
+            bitmap.remove(i);
+        }
+        assertEquals(2500, bitmap.cardinality());
+        assertFalse(bitmap.contains(4));
+        assertTrue(bitmap.contains(6));
+    }
+
+    @Test
+    void setOperations_matchSortedSets() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            // alternate sparse and dense sets, spread over several chunks
+            int count = round % 2 == 0 ? 300 : 20000;
+            int range = 200000;
+            TreeSet<Integer> left = new TreeSet<>();
+            TreeSet<Integer> right = new TreeSet<>();
+            for (int i = 0; i < count; i++) {
+                left.add(random.nextInt(range));
+                right.add(random.nextInt(range / 2));
+            }
+            CompressedBitmap leftBitmap = bitmapOf(left);
+            CompressedBitmap rightBitmap = bitmapOf(right);
+
+            TreeSet<Integer> expected = new TreeSet<>(left);
+            expected.retainAll(right);
+            assertEquals(new ArrayList<>(expected), toList(leftBitmap.and(rightBitmap)));
+
+            expected = new TreeSet<>(left);
+            expected.addAll(right);
+            assertEquals(new ArrayList<>(expected), toList(leftBitmap.or(rightBitmap)));
+            assertEquals(expected.size(), leftBitmap.or(rightBitmap).cardinality());
+
+            expected = new TreeSet<>(left);
+            expected.removeAll(right);
+            assertEquals(new ArrayList<>(expected), toList(leftBitmap.andNot(rightBitmap)));
+
+            // operands are left unchanged
+            assertEquals(new ArrayList<>(left), toList(leftBitmap));
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +37,64 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "a much longer first version");
+        FileUtil.writeToFile(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_missingParentFolder_created() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write("contents".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("contents", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeAtomically_existingFile_permissionsKept() throws Exception {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeAtomically(file, out -> out.write("replaced".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+        FileUtil.writeToFile(file, "replaced again");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_originalKeptAndTempFileRemoved() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    public void appendDurably_existingFile_appended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first\n");
+        FileUtil.appendDurably(file, "second\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void appendDurably_missingFile_throwsIoException() {
+        Path file = testFolder.resolve("missing.txt");
+        assertThrows(IOException.class, () -> FileUtil.appendDurably(file, new byte[] {1}));
+        assertFalse(Files.exists(file));
+    }
+
 }
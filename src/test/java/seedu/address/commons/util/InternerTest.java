@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("friends");
+        String second = new String("friends");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+    }
+
+    @Test
+    public void intern_differentValues_returnsEachValue() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("T0001");
+        String second = new String("T0002");
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+    }
+
+    @Test
+    public void intern_separateInterners_doNotShareValues() {
+        String first = new String("colleagues");
+        String second = new String("colleagues");
+        new Interner<String>().intern(first);
+        assertSame(second, new Interner<String>().intern(second));
+    }
+
+    @Test
+    public void intern_manyValues_allCanonical() {
+        Interner<Integer> interner = new Interner<>();
+        Integer[] canonical = new Integer[1000];
+        for (int i = 0; i < canonical.length; i++) {
+            canonical[i] = interner.intern(Integer.valueOf(i * 1000));
+        }
+        for (int i = 0; i < canonical.length; i++) {
+            Integer value = interner.intern(Integer.valueOf(i * 1000));
+            assertSame(canonical[i], value);
+            assertEquals(Integer.valueOf(i * 1000), value);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ListHistoryTest {
+
+    /**
+     * A plain list that counts the changes applied to it.
+     */
+    private static class CountingTarget implements ListHistory.Target<Integer> {
+        private final List<Integer> elements = new ArrayList<>();
+        private int changeCount;
+
+        @Override
+        public void set(int index, Integer element) {
+            elements.set(index, element);
+            changeCount++;
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            elements.add(index, element);
+            changeCount++;
+        }
+
+        @Override
+        public void remove(int index) {
+            elements.remove(index);
+            changeCount++;
+        }
+
+        @Override
+        public void setAll(PersistentList<Integer> elements) {
+            this.elements.clear();
+            this.elements.addAll(elements.toList());
+            changeCount++;
+        }
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListHistory<Integer>(0));
+    }
+
+    @Test
+    public void moveTo_randomVersions_appliesOnlyChangesInBetween() {
+        Random random = new Random(2103);
+        ListHistory<Integer> history = new ListHistory<>();
+        CountingTarget target = new CountingTarget();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        versions.add(history.current());
+        for (int i = 0; i < 200; i++) {
+            int size = target.elements.size();
+            int operation = random.nextInt(3);
+            if (operation == 0 && size > 0) {
+                int index = random.nextInt(size);
+                target.elements.remove(index);
+                history.remove(index);
+            } else if (operation == 1 && size > 0) {
+                int index = random.nextInt(size);
+                target.elements.set(index, i);
+                history.set(index, i);
+            } else {
+                int index = random.nextInt(size + 1);
+                target.elements.add(index, i);
+                history.add(index, i);
+            }
+            versions.add(history.current());
+        }
+
+        int position = versions.size() - 1;
+        for (int i = 0; i < 50; i++) {
+            int destination = random.nextInt(versions.size());
+            target.changeCount = 0;
+            assertTrue(history.moveTo(versions.get(destination), target));
+            assertEquals(Math.abs(destination - position), target.changeCount);
+            assertEquals(versions.get(destination).toList(), target.elements);
+            assertSame(versions.get(destination), history.current());
+            position = destination;
+        }
+    }
+
+    @Test
+    public void moveTo_acrossSetAll_replacesAllElements() {
+        ListHistory<Integer> history = new ListHistory<>();
+        CountingTarget target = new CountingTarget();
+        history.add(0, 1);
+        target.elements.add(1);
+        PersistentList<Integer> beforeSetAll = history.current();
+        history.setAll(PersistentList.of(List.of(7, 8)));
+        target.elements.clear();
+        target.elements.addAll(List.of(7, 8));
+        PersistentList<Integer> afterSetAll = history.current();
+
+        assertTrue(history.moveTo(beforeSetAll, target));
+        assertEquals(List.of(1), target.elements);
+        assertTrue(history.moveTo(afterSetAll, target));
+        assertEquals(List.of(7, 8), target.elements);
+    }
+
+    @Test
+    public void changesBetween_eitherDirection_replaysOntoFromVersion() {
+        ListHistory<Integer> history = new ListHistory<>();
+        history.add(0, 1);
+        history.add(1, 2);
+        PersistentList<Integer> from = history.current();
+        history.set(0, 3);
+        history.remove(1);
+        history.add(0, 4);
+        PersistentList<Integer> to = history.current();
+
+        assertEquals(List.of(4, 3), apply(from.toList(), history.changesBetween(from, to)));
+        assertEquals(List.of(1, 2), apply(to.toList(), history.changesBetween(to, from)));
+        assertEquals(List.of(), history.changesBetween(to, to));
+        assertSame(to, history.current());
+    }
+
+    @Test
+    public void changesBetween_acrossSetAllOrUnknownVersion_returnsNull() {
+        ListHistory<Integer> history = new ListHistory<>();
+        PersistentList<Integer> empty = history.current();
+        history.setAll(PersistentList.of(List.of(7, 8)));
+
+        assertNull(history.changesBetween(empty, history.current()));
+        assertNull(history.changesBetween(PersistentList.of(List.of(7, 8)), history.current()));
+    }
+
+    @Test
+    public void moveTo_tooOldVersion_returnsFalse() {
+        ListHistory<Integer> history = new ListHistory<>(4);
+        CountingTarget target = new CountingTarget();
+        PersistentList<Integer> empty = history.current();
+        for (int i = 0; i < 5; i++) {
+            history.add(i, i);
+            target.elements.add(i);
+        }
+        assertFalse(history.moveTo(empty, target));
+        assertEquals(List.of(0, 1, 2, 3, 4), target.elements);
+    }
+
+    @Test
+    public void moveTo_versionAheadOfNewChange_returnsFalse() {
+        ListHistory<Integer> history = new ListHistory<>();
+        CountingTarget target = new CountingTarget();
+        history.add(0, 1);
+        target.elements.add(1);
+        PersistentList<Integer> withOne = history.current();
+        history.add(1, 2);
+        target.elements.add(2);
+        PersistentList<Integer> withTwo = history.current();
+
+        assertTrue(history.moveTo(withOne, target));
+        history.set(0, 9);
+        target.elements.set(0, 9);
+        assertFalse(history.moveTo(withTwo, target));
+        assertEquals(List.of(9), target.elements);
+        assertTrue(history.moveTo(withOne, target));
+        assertEquals(List.of(1), target.elements);
+    }
+
+    private static List<Integer> apply(List<Integer> elements, List<ListHistory.Edit<Integer>> edits) {
+        List<Integer> result = new ArrayList<>(elements);
+        for (ListHistory.Edit<Integer> edit : edits) {
+            if (edit.before() == null) {
+                result.add(edit.index(), edit.after());
+            } else if (edit.after() == null) {
+                assertEquals(edit.before(), result.remove(edit.index()));
+            } else {
+                assertEquals(edit.before(), result.set(edit.index(), edit.after()));
+            }
+        }
+        return result;
+    }
+}
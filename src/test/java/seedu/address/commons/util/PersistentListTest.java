@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Integer> elements = List.of(5, 3, 8, 1, 9, 2);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals(Integer.valueOf(8), list.get(2));
+    }
+
+    @Test
+    public void update_earlierVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> edited = original.set(1, "x").add("d").remove(0).add(0, "y");
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("y", "x", "c", "d"), edited.toList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.add(index, i);
+            }
+            if (i % 500 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                versions.add(list);
+            }
+        }
+        assertEquals(expected, list.toList());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+}
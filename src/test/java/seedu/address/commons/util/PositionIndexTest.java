@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final List<String> list = new ArrayList<>();
+    private final PositionIndex<String> positions = new PositionIndex<>(list, element -> element);
+
+    private void add(int index, String element) {
+        list.add(index, element);
+        positions.added(index, element);
+    }
+
+    private void remove(int index) {
+        positions.removed(index, list.remove(index));
+    }
+
+    @Test
+    public void constructor_nonEmptyList_indexed() {
+        List<String> elements = new ArrayList<>(List.of("a", "b"));
+        PositionIndex<String> index = new PositionIndex<>(elements, element -> element);
+        assertEquals(1, index.positionOf("b"));
+        assertEquals(Set.of("a", "b"), index.keys());
+    }
+
+    @Test
+    public void positionOf_missingKey_returnsMinusOne() {
+        add(0, "a");
+        assertEquals(-1, positions.positionOf("b"));
+        assertFalse(positions.contains("b"));
+    }
+
+    @Test
+    public void added_beforeLookedUpElements_shiftedElementsFound() {
+        add(0, "a");
+        add(1, "c");
+        assertEquals(1, positions.positionOf("c"));
+
+        add(1, "b");
+        assertEquals(2, positions.positionOf("c"));
+        assertEquals(1, positions.positionOf("b"));
+    }
+
+    @Test
+    public void removed_beforeLookedUpElements_shiftedElementsFound() {
+        add(0, "a");
+        add(1, "b");
+        add(2, "c");
+        assertEquals(2, positions.positionOf("c"));
+
+        remove(0);
+        assertEquals(1, positions.positionOf("c"));
+        assertTrue(positions.contains("b"));
+        assertFalse(positions.contains("a"));
+    }
+
+    @Test
+    public void replaced_elementWithNewKey_newKeyFound() {
+        add(0, "a");
+        add(1, "b");
+        list.set(0, "z");
+        positions.replaced(0, "a", "z");
+        assertEquals(0, positions.positionOf("z"));
+        assertFalse(positions.contains("a"));
+    }
+
+    @Test
+    public void reordered_elementsFoundAtNewPositions() {
+        add(0, "b");
+        add(1, "a");
+        assertEquals(0, positions.positionOf("b"));
+        Collections.sort(list);
+        positions.reordered();
+        assertEquals(1, positions.positionOf("b"));
+        assertEquals(0, positions.positionOf("a"));
+    }
+
+    @Test
+    public void positionOf_randomChanges_matchesList() {
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            if (list.isEmpty() || random.nextInt(3) > 0) {
+                add(random.nextInt(list.size() + 1), "e" + i);
+            } else {
+                remove(random.nextInt(list.size()));
+            }
+            String looked = list.isEmpty() ? "none" : list.get(random.nextInt(list.size()));
+            assertEquals(list.indexOf(looked), positions.positionOf(looked));
+        }
+        for (String element : list) {
+            assertEquals(list.indexOf(element), positions.positionOf(element));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,19 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(4, StringUtil.editDistance("", "john"));
+        assertEquals(0, StringUtil.editDistance("john", "john"));
+        assertEquals(1, StringUtil.editDistance("jon", "john")); // insertion
+        assertEquals(1, StringUtil.editDistance("johnn", "john")); // deletion
+        assertEquals(1, StringUtil.editDistance("jahn", "john")); // substitution
+        assertEquals(2, StringUtil.editDistance("jhon", "john")); // transposition
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "john"));
+    }
+
 }
@@ -12,8 +12,8 @@ import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -21,11 +21,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Config.SaveMode;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.CreateTeamCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
@@ -39,6 +41,7 @@ import seedu.address.model.team.Team;
 import seedu.address.model.team.TeamName;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAuditLogStorage;
 import seedu.address.storage.StorageManager;
 
 public class LogicManagerTest {
@@ -58,15 +61,6 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
-
-        // Reset team ID counter
-        try {
-            Field field = CreateTeamCommand.class.getDeclaredField("nextId");
-            field.setAccessible(true);
-            field.setLong(null, 1);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
     }
 
     @Test
@@ -185,6 +179,30 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage);
     }
 
+    @Test
+    public void execute_storageThrowsIoException_changeRolledBack() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_undoRedo_walksCommittedChanges() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUBUSERNAME_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, logic.execute(RedoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertCommandException(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_FAILURE);
+    }
+
     @Test
     public void execute_validCommand_addsAuditEntry() throws Exception {
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
@@ -302,30 +320,98 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_emptyAddressBook_teamNextIdRemainsUnchanged() throws Exception {
-        // Setup empty model
-        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+    public void execute_sortCommand_doesNotAddAuditEntry() throws Exception {
+        int initialSize = model.getAuditLog().getEntries().size();
 
-        // Get current nextId before initialization
-        Field field = CreateTeamCommand.class.getDeclaredField("nextId");
-        field.setAccessible(true);
-        long initialNextId = field.getLong(null);
+        logic.execute("sort -name");
 
-        // Create LogicManager with empty model (should not update nextId)
+        assertEquals(initialSize, model.getAuditLog().getEntries().size());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
         JsonAddressBookStorage addressBookStorage =
-                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        Logic logic = new LogicManager(emptyModel, storage);
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        for (String readOnlyCommand : List.of("list", "help", "audit", "sort -name", "view 1", "exit")) {
+            logic.execute(readOnlyCommand);
+        }
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_mutatingCommand_auditEntrySavedWithChange() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUBUSERNAME_DESC_AMY;
+        logic.execute(addCommand);
 
-        // Verify nextId hasn't changed
-        long afterNextId = field.getLong(null);
-        assertEquals(initialNextId, afterNextId);
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get();
+        assertEquals(1, saved.getPersonList().size());
+        assertEquals(1, saved.getAuditLog().getEntries().size());
+        assertEquals("ADD", saved.getAuditLog().getEntries().get(0).getAction());
     }
 
     @Test
-    public void execute_addressBookWithTeams_nextIdUpdatedCorrectly() throws Exception {
+    public void execute_mutatingCommand_auditEntryAppendedToHistory() throws Exception {
+        SegmentedAuditLogStorage auditLogStorage = new SegmentedAuditLogStorage(temporaryFolder.resolve("audit"));
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                auditLogStorage, SaveMode.SYNC, 0);
+        model.getAuditLog().setHistory(storage);
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUBUSERNAME_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        List<AuditLogEntry> history = new SegmentedAuditLogStorage(temporaryFolder.resolve("audit"))
+                .readEntries(0, 10);
+        assertEquals(1, history.size());
+        assertEquals("ADD", history.get(0).getAction());
+        assertEquals(1, model.getAuditLog().getPageCount());
+    }
+
+    @Test
+    public void execute_saveFails_auditEntryNotKept() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new SegmentedAuditLogStorage(temporaryFolder.resolve("audit")), SaveMode.SYNC, 0);
+        model.getAuditLog().setHistory(storage);
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUBUSERNAME_DESC_AMY;
+        assertThrows(CommandException.class, () -> logic.execute(addCommand));
+
+        assertTrue(model.getAuditLog().getEntries().isEmpty());
+        assertEquals(0, new SegmentedAuditLogStorage(temporaryFolder.resolve("audit")).getEntryCount());
+    }
+
+    @Test
+    public void execute_emptyAddressBook_firstTeamIdAllocated() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertEquals("T0001", emptyModel.nextTeamId());
+    }
+
+    @Test
+    public void execute_addressBookWithTeams_nextIdUpdatedCorrectly() {
         // Setup model with teams having different IDs
         AddressBook ab = new AddressBook();
         ab.addTeam(new Team("T0001", new TeamName("Alpha")));
@@ -333,16 +419,6 @@ public class LogicManagerTest {
         ab.addTeam(new Team("T0003", new TeamName("Gamma")));
         Model modelWithTeams = new ModelManager(ab, new UserPrefs());
 
-        JsonAddressBookStorage addressBookStorage =
-                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        Logic logic = new LogicManager(modelWithTeams, storage);
-
-        Field field = CreateTeamCommand.class.getDeclaredField("nextId");
-        field.setAccessible(true);
-        long nextId = field.getLong(null);
-        assertEquals(4L, nextId);
+        assertEquals("T0004", modelWithTeams.nextTeamId());
     }
 }
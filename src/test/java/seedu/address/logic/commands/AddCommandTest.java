@@ -10,6 +10,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,7 +26,11 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.audit.AuditLog;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Condition;
+import seedu.address.model.query.QueryResult;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -155,6 +162,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String nextPersonId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String nextTeamId() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person findById(String id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person findShownById(String id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -185,6 +212,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Team getTeamById(String teamId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Team getParentTeam(String teamId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasTeamName(TeamName teamName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addTeam(Team team) {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +255,71 @@ public class AddCommandTest {
         public String getOrganizationHierarchyString() {
             throw new AssertionError("This method should not be called.");
         };
+
+        @Override
+        public Set<String> findPersonIdsByTags(TagExpression expression) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> findPersonIdsByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> findPersonIdsByNameFuzzy(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryResult findPersons(List<Condition> conditions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getTeamMemberIds(String teamId, boolean includeSubteams) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Team> getTeamsLedBy(String personId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBook.Snapshot snapshotAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restoreAddressBook(AddressBook.Snapshot snapshot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook(AddressBook.Snapshot previous) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -251,6 +358,11 @@ public class AddCommandTest {
             personsAdded.add(person);
         }
 
+        @Override
+        public String nextPersonId() {
+            return String.format("E%04d", personsAdded.size() + 1);
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
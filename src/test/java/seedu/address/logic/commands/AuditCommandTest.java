@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +14,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.audit.AuditLog;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -27,7 +30,7 @@ public class AuditCommandTest {
     }
 
     @Test
-    public void execute_emptyAuditLog_success() {
+    public void execute_emptyAuditLog_success() throws Exception {
         AuditCommand auditCommand = new AuditCommand();
         CommandResult result = auditCommand.execute(model);
 
@@ -36,7 +39,7 @@ public class AuditCommandTest {
     }
 
     @Test
-    public void execute_withAuditEntries_success() {
+    public void execute_withAuditEntries_success() throws Exception {
         // Add some audit entries
         model.addAuditEntry("ADD", "Added person: John Doe (ID: E1001)");
         model.addAuditEntry("EDIT", "Edited person: Jane Smith (ID: E1002)");
@@ -56,7 +59,7 @@ public class AuditCommandTest {
     }
 
     @Test
-    public void execute_multipleEntriesSameAction_success() {
+    public void execute_multipleEntriesSameAction_success() throws Exception {
         model.addAuditEntry("ADD", "Added person: Person 1");
         model.addAuditEntry("ADD", "Added person: Person 2");
         model.addAuditEntry("ADD", "Added person: Person 3");
@@ -71,9 +74,9 @@ public class AuditCommandTest {
     }
 
     @Test
-    public void execute_auditLogPreservedAcrossOperations_success() {
+    public void execute_auditLogPreservedAcrossOperations_success() throws Exception {
         // Perform multiple operations
-        Person person = new PersonBuilder().withName("Test Person").build();
+        Person person = new PersonBuilder().withId(100).withName("Test Person").build();
         model.addPerson(person);
         model.addAuditEntry("ADD", "Added person: Test Person");
 
@@ -104,12 +107,47 @@ public class AuditCommandTest {
 
         // different types -> returns false
         assertFalse(auditCommand1.equals(new ClearCommand()));
+
+        // same page -> returns true
+        assertTrue(auditCommand1.equals(new AuditCommand(1)));
+
+        // different page -> returns false
+        assertFalse(auditCommand1.equals(new AuditCommand(2)));
+    }
+
+    @Test
+    public void constructor_nonPositivePage_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditCommand(0));
+    }
+
+    @Test
+    public void execute_secondPage_showsOlderEntries() throws Exception {
+        for (int i = 1; i <= AuditLog.PAGE_SIZE + 2; i++) {
+            model.addAuditEntry("ADD", "Added person: Person " + i + ".");
+        }
+
+        String firstPage = new AuditCommand().execute(model).getFeedbackToUser();
+        assertTrue(firstPage.contains("Person " + (AuditLog.PAGE_SIZE + 2) + "."));
+        assertFalse(firstPage.contains("Person 2."));
+        assertTrue(firstPage.contains(String.format(AuditCommand.MESSAGE_PAGE_FOOTER, 1, 2)));
+
+        String secondPage = new AuditCommand(2).execute(model).getFeedbackToUser();
+        assertTrue(secondPage.contains("Person 1."));
+        assertTrue(secondPage.contains("Person 2."));
+        assertFalse(secondPage.contains("Person 3."));
+        assertTrue(secondPage.contains(String.format(AuditCommand.MESSAGE_PAGE_FOOTER, 2, 2)));
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        model.addAuditEntry("ADD", "Added person: John Doe");
+        assertCommandFailure(new AuditCommand(2), model, String.format(AuditCommand.MESSAGE_PAGE_OUT_OF_RANGE, 2, 1));
     }
 
     @Test
     public void toString_returnsCorrectString() {
         AuditCommand auditCommand = new AuditCommand();
-        String expected = new ToStringBuilder(auditCommand).toString();
+        String expected = new ToStringBuilder(auditCommand).add("page", 1).toString();
         assertEquals(expected, auditCommand.toString());
     }
 }
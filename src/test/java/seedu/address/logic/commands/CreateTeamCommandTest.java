@@ -13,6 +13,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -59,6 +61,17 @@ public class CreateTeamCommandTest {
         assertEquals(CreateTeamCommand.MESSAGE_DUPLICATE_TEAM, ex.getMessage());
     }
 
+    @Test
+    public void execute_teamIdsUsedUp_throwsCommandException() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).build());
+        model.addTeam(new Team("T999999999", new TeamName("Core")));
+
+        CreateTeamCommand cmd = new CreateTeamCommand("Systems", "E0001");
+        CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
+        assertEquals(CreateTeamCommand.MESSAGE_NO_FREE_ID, ex.getMessage());
+    }
+
     @Test
     public void equals_sameValues_returnsTrue() {
         CreateTeamCommand a = new CreateTeamCommand("Systems", "E0001");
@@ -2,6 +2,8 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -108,6 +110,27 @@ public class DeleteTeamCommandTest {
                 .anyMatch(teamIdToDelete::equals));
     }
 
+    @Test
+    public void execute_deleteSubteam_onlyParentReplaced() throws Exception {
+        Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        for (Team t : TypicalTeams.getTypicalTeams()) {
+            model.addTeam(t);
+        }
+        assertTrue(model.setSubteam("T0004", "T0002"));
+        List<Team> teamsBefore = List.copyOf(model.getAddressBook().getTeamList());
+        assertEquals("T0004", model.getParentTeam("T0002").getId());
+
+        new DeleteTeamCommand("T0002").execute(model);
+
+        assertNull(model.getParentTeam("T0002"));
+        assertTrue(model.getTeamById("T0004").getSubteams().getUnmodifiableList().isEmpty());
+        for (Team team : teamsBefore) {
+            if (!team.getId().equals("T0002") && !team.getId().equals("T0004")) {
+                assertSame(team, model.getTeamById(team.getId()));
+            }
+        }
+    }
+
     @Test
     public void equals_sameAndDifferentValues() {
         DeleteTeamCommand a = new DeleteTeamCommand("T0001");
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+
+public class FilterCommandTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_expression_sameResultAsScanningTags() {
+        TagExpression expression = new TagExpression.And(new TagExpression.HasTag(FRIENDS),
+                new TagExpression.Not(new TagExpression.HasTag(OWES_MONEY)));
+        Predicate<Person> scan = person -> person.tags().contains(FRIENDS) && !person.tags().contains(OWES_MONEY);
+        expectedModel.updateFilteredPersonList(scan);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW,
+                expectedModel.getFilteredPersonList().size());
+        assertCommandSuccess(new FilterCommand(expression), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagChanged_indexUpdated() {
+        Person first = model.getFilteredPersonList().get(0);
+        Person untagged = first.duplicate().withTags(Set.of()).build();
+        model.setPerson(first, untagged);
+
+        new FilterCommand(new TagExpression.HasTag(FRIENDS)).execute(model);
+        assertFalse(model.getFilteredPersonList().contains(untagged));
+        assertTrue(model.getFilteredPersonList().stream().allMatch(person -> person.tags().contains(FRIENDS)));
+    }
+
+    @Test
+    public void equals() {
+        FilterCommand friends = new FilterCommand(new TagExpression.HasTag(FRIENDS));
+        assertTrue(friends.equals(friends));
+        assertTrue(friends.equals(new FilterCommand(new TagExpression.HasTag(new Tag("FRIENDS")))));
+        assertFalse(friends.equals(new FilterCommand(new TagExpression.HasTag(OWES_MONEY))));
+        assertFalse(friends.equals(null));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.Condition;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindCommand}.
+ */
+public class FindCommandTest {
+
+    private static final List<Condition> FRIENDS_ABOVE_1500 = List.of(new Condition.HasTag(new Tag("friends")),
+            new Condition.SalaryBetween(150001, Long.MAX_VALUE));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_conditions_listsPersonsMeetingAll() {
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON) || person.equals(DANIEL));
+        assertCommandSuccess(new FindCommand(FRIENDS_ABOVE_1500, false), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_reportsPlanAndTiming() {
+        String message = new FindCommand(FRIENDS_ABOVE_1500, true).execute(model).getFeedbackToUser();
+        String[] lines = message.split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), lines[0]);
+        assertEquals("Plan: tag bitmap [friends] (estimated 3); rejected salary index [salary >= 1500.01] "
+                + "(estimated 4), full scan (estimated 7)", lines[1]);
+        assertTrue(lines[2].matches("Checked 3 candidates in \\d+\\.\\d{3} ms"), lines[2]);
+    }
+
+    @Test
+    public void equals() {
+        FindCommand command = new FindCommand(FRIENDS_ABOVE_1500, false);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FindCommand(List.copyOf(FRIENDS_ABOVE_1500), false)));
+        assertFalse(command.equals(new FindCommand(FRIENDS_ABOVE_1500, true)));
+        assertFalse(command.equals(new FindCommand(FRIENDS_ABOVE_1500.subList(0, 1), false)));
+        assertFalse(command.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindCommand command = new FindCommand(FRIENDS_ABOVE_1500, true);
+        assertEquals(FindCommand.class.getCanonicalName() + "{conditions=" + FRIENDS_ABOVE_1500 + ", isExplain=true}",
+                command.toString());
+    }
+}
@@ -43,7 +43,7 @@ class SetSalaryCommandTest {
     @Test
     void toString_method() {
         SetSalaryCommand command = new SetSalaryCommand("E12345", 100);
-        assertEquals("seedu.address.logic.commands.SetSalaryCommand{toSet=E12345, salaryInDollars=100.0}",
+        assertEquals("seedu.address.logic.commands.SetSalaryCommand{toSet=E12345, salary=$100 / month}",
                      command.toString());
     }
 }
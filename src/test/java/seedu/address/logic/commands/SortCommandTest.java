@@ -125,4 +125,22 @@ class SortCommandTest {
         List<Person> after = new ArrayList<>(model.getFilteredPersonList());
         assertEquals(before, after, "Order should remain unchanged when already sorted by default comparator (name).");
     }
+
+    @Test
+    void execute_thenEditPerson_staysSorted() throws Exception {
+        Model model = new ModelManager();
+        for (Person p : randomPeople(15)) {
+            model.addPerson(p);
+        }
+        Comparator<Person> cmp = SortCommandParser.createComparator(new String[] { "-name" });
+        new SortCommand(cmp).execute(model);
+
+        for (int i = 0; i < 10; i++) {
+            Person target = model.getFilteredPersonList().get(RAND.nextInt(15));
+            Person edited = target.duplicate().withName(new Name("Renamed" + i)).build();
+            model.setPerson(target, edited);
+            List<Person> result = new ArrayList<>(model.getFilteredPersonList());
+            assertTrue(isSorted(result, cmp), "List should stay sorted by name after editing " + target.id());
+        }
+    }
 }
@@ -5,15 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.IDA_SECOND;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +27,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code ViewCommand}.
@@ -54,6 +61,12 @@ public class ViewCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different limit -> returns false
+        assertFalse(findFirstCommand.equals(new ViewCommand(firstPredicate, 5)));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new ViewCommand(firstPredicate, ViewCommand.NO_LIMIT, true)));
     }
 
     @Test
@@ -98,11 +111,66 @@ public class ViewCommandTest {
         assertEquals(Arrays.asList(IDA, IDA_SECOND), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_topCount_bestPersonsFound() {
+        String expectedMessage = String.format(ViewCommand.MESSAGE_TOP_PERSONS_LISTED, 2, 3);
+        ViewCommand command = new ViewCommand(preparePredicate("Kurz Elle Kunz"), 2);
+        CommandResult result = command.execute(model);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+
+        // equal matches -> ordered by name
+        command = new ViewCommand(preparePredicate("meier"), 1);
+        result = command.execute(model);
+        assertEquals(String.format(ViewCommand.MESSAGE_TOP_PERSONS_LISTED, 1, 2), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_topCountAboveMatches_allPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        ViewCommand command = new ViewCommand(preparePredicate("Kurz Elle Kunz"), 10);
+        CommandResult result = command.execute(model);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_closestPersonsFirst() {
+        // "Meyer" is one edit from "meier", "Meier" none
+        ViewCommand command = new ViewCommand(preparePredicate("meier"), ViewCommand.NO_LIMIT, true);
+        CommandResult result = command.execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+
+        // misspelled keywords, persons matching earlier keywords first
+        command = new ViewCommand(preparePredicate("kruz elel"), ViewCommand.NO_LIMIT, true);
+        result = command.execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(CARL, FIONA, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenList_matchesFirstThenOthers() {
+        new ViewCommand(preparePredicate("Daniel")).execute(model);
+        new ListCommand().execute(model);
+        List<Person> expected = new ArrayList<>(getTypicalPersons());
+        expected.remove(DANIEL);
+        expected.add(0, DANIEL);
+        assertEquals(expected, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ViewCommand(preparePredicate("Kurz"), 0));
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         ViewCommand viewCommand = new ViewCommand(predicate);
-        String expected = ViewCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = ViewCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", limit=" + ViewCommand.NO_LIMIT + ", isFuzzy=false}";
         assertEquals(expected, viewCommand.toString());
     }
 
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTeams.BACKEND;
+import static seedu.address.testutil.TypicalTeams.CORE;
+import static seedu.address.testutil.TypicalTeams.FRONTEND;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ViewTeamCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addTeam(CORE.copy());
+        model.addTeam(BACKEND.copy());
+        model.addTeam(FRONTEND.copy());
+        model.setSubteam(CORE.getId(), BACKEND.getId());
+    }
+
+    @Test
+    public void execute_team_listsDirectMembers() throws Exception {
+        CommandResult result = new ViewTeamCommand(CORE.getId(), false).execute(model);
+        assertEquals(String.format(ViewTeamCommand.MESSAGE_MEMBERS_LISTED, 2, CORE.getId()),
+                result.getFeedbackToUser());
+        assertEquals(List.of(BENSON, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_recursive_listsMembersOfSubteams() throws Exception {
+        CommandResult result = new ViewTeamCommand(CORE.getId(), true).execute(model);
+        assertEquals(String.format(ViewTeamCommand.MESSAGE_MEMBERS_LISTED_RECURSIVE, 4, CORE.getId()),
+                result.getFeedbackToUser());
+        assertEquals(List.of(BENSON, CARL, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownTeam_throwsCommandException() {
+        assertCommandFailure(new ViewTeamCommand("T0099", true), model,
+                String.format(ViewTeamCommand.MESSAGE_TEAM_NOT_FOUND, "T0099"));
+    }
+
+    @Test
+    public void execute_ledBy_listsTeamsLed() throws Exception {
+        CommandResult result = ViewTeamCommand.ledBy(ELLE.id()).execute(model);
+        assertEquals(String.format(ViewTeamCommand.MESSAGE_TEAMS_LED, ELLE.id(), "FRONTEND #T0003"),
+                result.getFeedbackToUser());
+
+        result = ViewTeamCommand.ledBy(CARL.id()).execute(model);
+        assertEquals(String.format(ViewTeamCommand.MESSAGE_NO_TEAMS_LED, CARL.id()), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ViewTeamCommand recursive = new ViewTeamCommand("T0001", true);
+        assertTrue(recursive.equals(recursive));
+        assertTrue(recursive.equals(new ViewTeamCommand("T0001", true)));
+        assertFalse(recursive.equals(new ViewTeamCommand("T0001", false)));
+        assertFalse(recursive.equals(new ViewTeamCommand("T0002", true)));
+        assertFalse(recursive.equals(ViewTeamCommand.ledBy("E0001")));
+        assertTrue(ViewTeamCommand.ledBy("E0001").equals(ViewTeamCommand.ledBy("E0001")));
+        assertFalse(recursive.equals(null));
+    }
+}
@@ -24,18 +24,25 @@ import seedu.address.logic.commands.DeleteTeamCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveFromTeamCommand;
 import seedu.address.logic.commands.SetSalaryCommand;
 import seedu.address.logic.commands.SetSubteamCommand;
 import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UntagCommand;
 import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.ViewTeamCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.Condition;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -88,6 +95,14 @@ public class AddressBookParserTest {
 
     @Test
     public void parseCommand_find() throws Exception {
+        FindCommand command = (FindCommand) parser.parseCommand(
+                FindCommand.COMMAND_WORD + " -tag friends -salary >5000 " + FindCommand.EXPLAIN_FLAG);
+        assertEquals(new FindCommand(List.of(new Condition.HasTag(new Tag("friends")),
+                new Condition.SalaryBetween(500001, Long.MAX_VALUE)), true), command);
+    }
+
+    @Test
+    public void parseCommand_view() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
         ViewCommand command = (ViewCommand) parser.parseCommand(
                 ViewCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
@@ -100,6 +115,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -143,6 +164,20 @@ public class AddressBookParserTest {
     }
 
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " friends");
+        assertEquals(new FilterCommand(new TagExpression.HasTag(new Tag("friends"))), command);
+    }
+
+    @Test
+    public void parseCommand_viewTeam() throws Exception {
+        assertEquals(new ViewTeamCommand("T0001", true),
+                parser.parseCommand(ViewTeamCommand.COMMAND_WORD + " T0001 --recursive"));
+        assertEquals(ViewTeamCommand.ledBy("E0001"),
+                parser.parseCommand(ViewTeamCommand.COMMAND_WORD + " --led-by E0001"));
+    }
+
     @Test
     public void parseCommand_addToTeam() throws Exception {
         AddToTeamCommand command = (AddToTeamCommand) parser.parseCommand(
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AuditCommand;
+
+/**
+ * Tests for {@link AuditCommandParser}.
+ */
+public class AuditCommandParserTest {
+
+    private final AuditCommandParser parser = new AuditCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsFirstPage() {
+        assertParseSuccess(parser, "", new AuditCommand());
+        assertParseSuccess(parser, "   ", new AuditCommand(1));
+    }
+
+    @Test
+    public void parse_validPage_returnsAuditCommand() {
+        assertParseSuccess(parser, " 3 ", new AuditCommand(3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AuditCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "page", expectedMessage);
+        assertParseFailure(parser, "1 2", expectedMessage);
+    }
+}
@@ -22,6 +22,7 @@ public class DeleteCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteCommand() {
         assertParseSuccess(parser, "E1234", new DeleteCommand("E1234"));
+        assertParseSuccess(parser, "E10000", new DeleteCommand("E10000"));
     }
 
     @Test
@@ -37,7 +38,7 @@ public class DeleteCommandParserTest {
         // wrong number of digits
         assertParseFailure(parser, "E123",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
-        assertParseFailure(parser, "E12345",
+        assertParseFailure(parser, "E01234",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
 
         // lowercase e
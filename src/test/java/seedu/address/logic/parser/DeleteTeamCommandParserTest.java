@@ -18,6 +18,7 @@ public class DeleteTeamCommandParserTest {
     @Test
     public void parse_validArgs_returnsDeleteTeamCommand() {
         assertParseSuccess(parser, "T0001", new DeleteTeamCommand("T0001"));
+        assertParseSuccess(parser, "T10000", new DeleteTeamCommand("T10000"));
     }
 
     @Test
@@ -33,7 +34,7 @@ public class DeleteTeamCommandParserTest {
         // wrong number of digits
         assertParseFailure(parser, "T123",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteTeamCommand.MESSAGE_USAGE));
-        assertParseFailure(parser, "T12345",
+        assertParseFailure(parser, "T01234",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteTeamCommand.MESSAGE_USAGE));
 
         // lowercase t
@@ -71,8 +71,11 @@ public class EditCommandParserTest {
         // invalid employee ID format - too short
         assertParseFailure(parser, "E123" + NAME_DESC_AMY, MESSAGE_INVALID_FORMAT);
 
+        // invalid employee ID format - zero-padded beyond 4 digits
+        assertParseFailure(parser, "E01234" + NAME_DESC_AMY, MESSAGE_INVALID_FORMAT);
+
         // invalid employee ID format - too long
-        assertParseFailure(parser, "E12345" + NAME_DESC_AMY, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "E1000000000" + NAME_DESC_AMY, MESSAGE_INVALID_FORMAT);
 
         // invalid employee ID format - no E prefix
         assertParseFailure(parser, "1234" + NAME_DESC_AMY, MESSAGE_INVALID_FORMAT);
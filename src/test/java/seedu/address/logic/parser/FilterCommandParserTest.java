@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private final FilterCommandParser parser = new FilterCommandParser();
+
+    private static TagExpression tag(String name) {
+        return new TagExpression.HasTag(new Tag(name));
+    }
+
+    @Test
+    public void parse_singleTag_success() {
+        assertParseSuccess(parser, " friends ", new FilterCommand(tag("friends")));
+    }
+
+    @Test
+    public void parse_precedence_notThenAndThenOr() {
+        // a OR b AND NOT c == a OR (b AND (NOT c))
+        TagExpression expected = new TagExpression.Or(tag("a"),
+                new TagExpression.And(tag("b"), new TagExpression.Not(tag("c"))));
+        assertParseSuccess(parser, "a OR b AND NOT c", new FilterCommand(expected));
+    }
+
+    @Test
+    public void parse_parentheses_overridePrecedence() {
+        TagExpression expected = new TagExpression.And(new TagExpression.Or(tag("a"), tag("b")), tag("c"));
+        assertParseSuccess(parser, "(a OR b) AND c", new FilterCommand(expected));
+        assertParseSuccess(parser, "( a OR b )AND c", new FilterCommand(expected));
+    }
+
+    @Test
+    public void parse_lowerCaseOperator_treatedAsTag() {
+        assertParseFailure(parser, "a and b", MESSAGE_INVALID_FORMAT);
+        assertParseSuccess(parser, "NOT and", new FilterCommand(new TagExpression.Not(tag("and"))));
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "AND a", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "(a OR b", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a OR b)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a b", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a AND b@c", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
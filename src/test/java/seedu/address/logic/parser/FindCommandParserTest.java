@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.query.Condition;
+import seedu.address.model.tag.Tag;
+
+public class FindCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    private final FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_allFields_conditionsInFixedOrder() {
+        List<Condition> expected = List.of(new Condition.IdIs("E0003"), new Condition.HasTag(new Tag("backend")),
+                new Condition.InTeam("T0003"), new Condition.SalaryBetween(500001, Long.MAX_VALUE),
+                new Condition.NameContains("alice"), new Condition.GitHubContains("ali"));
+        assertParseSuccess(parser, " -gh ali -name alice -salary >5000 -team T0003 -tag backend -id E0003",
+                new FindCommand(expected, false));
+    }
+
+    @Test
+    public void parse_explainFlagAnywhere_success() {
+        FindCommand expected = new FindCommand(List.of(new Condition.HasTag(new Tag("backend"))), true);
+        assertParseSuccess(parser, " --explain -tag backend", expected);
+        assertParseSuccess(parser, " -tag backend --explain", expected);
+    }
+
+    @Test
+    public void parse_repeatedPrefixes_allConditionsKept() {
+        List<Condition> expected = List.of(new Condition.HasTag(new Tag("a")), new Condition.HasTag(new Tag("b")),
+                new Condition.NameContains("alex yeoh"));
+        assertParseSuccess(parser, " -tag a -name alex yeoh -tag b", new FindCommand(expected, false));
+    }
+
+    @Test
+    public void parse_salaryOperators_success() {
+        assertParseSuccess(parser, " -salary 5000", salary(500000, 500000));
+        assertParseSuccess(parser, " -salary =5000.5", salary(500050, 500050));
+        assertParseSuccess(parser, " -salary >=5000", salary(500000, Long.MAX_VALUE));
+        assertParseSuccess(parser, " -salary < 5000", salary(0, 499999));
+        assertParseSuccess(parser, " -salary <=5000", salary(0, 500000));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " --explain", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " alice", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -name ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -id 3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -team backend", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -salary >>5000", Messages.MESSAGE_INVALID_SALARY);
+        assertParseFailure(parser, " -salary >-5", Messages.MESSAGE_INVALID_SALARY);
+        assertParseFailure(parser, " -tag a@b", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " -id E0001 -id E0002",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_ID));
+    }
+
+    private static FindCommand salary(long minCents, long maxCents) {
+        return new FindCommand(List.of(new Condition.SalaryBetween(minCents, maxCents)), false);
+    }
+}
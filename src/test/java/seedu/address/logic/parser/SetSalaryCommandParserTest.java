@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.SetSalaryCommand;
+import seedu.address.model.person.Salary;
 
 class SetSalaryCommandParserTest {
     private SetSalaryCommandParser parser = new SetSalaryCommandParser();
@@ -21,6 +22,17 @@ class SetSalaryCommandParserTest {
         assertParseSuccess(parser, "E12345 100.126", new SetSalaryCommand("E12345", 100.126));
     }
 
+    @Test
+    void parse_manySignificantDigits_exactCents() {
+        assertParseSuccess(parser, "E12345 90071992547409.93",
+                           new SetSalaryCommand("E12345", new Salary(9007199254740993L)));
+    }
+
+    @Test
+    void parse_tooManyCents_failure() {
+        assertParseFailure(parser, "E12345 1e300", Messages.MESSAGE_SALARY_TOO_HIGH);
+    }
+
     @Test
     void parse_negativeZero_parsedToNormalZero() {
         assertParseSuccess(parser, "E12345 -0", new SetSalaryCommand("E12345", 0));
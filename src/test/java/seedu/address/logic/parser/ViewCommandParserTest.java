@@ -31,4 +31,40 @@ public class ViewCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedViewCommand);
     }
 
+    @Test
+    public void parse_topCount_returnsViewCommand() {
+        ViewCommand expectedViewCommand =
+                new ViewCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), 10);
+        assertParseSuccess(parser, "--top 10 Alice Bob", expectedViewCommand);
+        assertParseSuccess(parser, " --top  10 \t Alice Bob ", expectedViewCommand);
+    }
+
+    @Test
+    public void parse_fuzzyKeywords_returnsFuzzyViewCommand() {
+        ViewCommand expectedViewCommand = new ViewCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("jhon", "doe")), ViewCommand.NO_LIMIT, true);
+        assertParseSuccess(parser, "~jhon ~doe", expectedViewCommand);
+
+        assertParseSuccess(parser, "--top 3 ~jhon ~doe", new ViewCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("jhon", "doe")), 3, true));
+    }
+
+    @Test
+    public void parse_mixedFuzzyKeywords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "~jhon doe", expectedMessage);
+        assertParseFailure(parser, "jhon ~doe", expectedMessage);
+        assertParseFailure(parser, "~", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTopCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "--top", expectedMessage);
+        assertParseFailure(parser, "--top 10", expectedMessage);
+        assertParseFailure(parser, "--top 0 Alice", expectedMessage);
+        assertParseFailure(parser, "--top -1 Alice", expectedMessage);
+        assertParseFailure(parser, "--top ten Alice", expectedMessage);
+    }
+
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ViewTeamCommand;
+
+/**
+ * Tests for {@link ViewTeamCommandParser}.
+ */
+public class ViewTeamCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewTeamCommand.MESSAGE_USAGE);
+
+    private final ViewTeamCommandParser parser = new ViewTeamCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsViewTeamCommand() {
+        assertParseSuccess(parser, "T0001", new ViewTeamCommand("T0001", false));
+        assertParseSuccess(parser, "  T0001   --recursive ", new ViewTeamCommand("T0001", true));
+        assertParseSuccess(parser, "--led-by E0001", ViewTeamCommand.ledBy("E0001"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "t0001", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "T0001 --all", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "T0001 --recursive T0002", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "--recursive T0001", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "--led-by", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "--led-by T0001", MESSAGE_INVALID_FORMAT);
+    }
+}
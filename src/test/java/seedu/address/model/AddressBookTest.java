@@ -2,13 +2,16 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,6 +21,8 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListHistory;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.audit.AuditLog;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -113,6 +118,42 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(ALICE));
     }
 
+    @Test
+    public void getVersion_personChanged_onlyPersonsVersionChanges() {
+        long teamsVersion = addressBook.getVersion(ReadOnlyAddressBook.Section.TEAMS);
+        long auditVersion = addressBook.getVersion(ReadOnlyAddressBook.Section.AUDIT_LOG);
+        long personsVersion = addressBook.getVersion(ReadOnlyAddressBook.Section.PERSONS);
+
+        addressBook.addPerson(ALICE);
+        assertNotEquals(personsVersion, addressBook.getVersion(ReadOnlyAddressBook.Section.PERSONS));
+        personsVersion = addressBook.getVersion(ReadOnlyAddressBook.Section.PERSONS);
+        addressBook.setPerson(ALICE, BOB);
+        assertNotEquals(personsVersion, addressBook.getVersion(ReadOnlyAddressBook.Section.PERSONS));
+
+        assertEquals(teamsVersion, addressBook.getVersion(ReadOnlyAddressBook.Section.TEAMS));
+        assertEquals(auditVersion, addressBook.getVersion(ReadOnlyAddressBook.Section.AUDIT_LOG));
+    }
+
+    @Test
+    public void getVersion_teamAndAuditChanged_versionsChange() {
+        long personsVersion = addressBook.getVersion(ReadOnlyAddressBook.Section.PERSONS);
+        long teamsVersion = addressBook.getVersion(ReadOnlyAddressBook.Section.TEAMS);
+        long auditVersion = addressBook.getVersion(ReadOnlyAddressBook.Section.AUDIT_LOG);
+
+        addressBook.addTeam(new Team("T0001", new TeamName("Core")));
+        addressBook.getAuditLog().addEntry("ADD", "Added team", LocalDateTime.now());
+
+        assertEquals(personsVersion, addressBook.getVersion(ReadOnlyAddressBook.Section.PERSONS));
+        assertNotEquals(teamsVersion, addressBook.getVersion(ReadOnlyAddressBook.Section.TEAMS));
+        assertNotEquals(auditVersion, addressBook.getVersion(ReadOnlyAddressBook.Section.AUDIT_LOG));
+    }
+
+    @Test
+    public void getVersion_differentAddressBooks_differentVersions() {
+        assertNotEquals(addressBook.getVersion(ReadOnlyAddressBook.Section.PERSONS),
+                new AddressBook().getVersion(ReadOnlyAddressBook.Section.PERSONS));
+    }
+
     @Test
     public void hasPerson_personWithSameIdentityFieldsInAddressBook_returnsTrue() {
         addressBook.addPerson(ALICE);
@@ -166,5 +207,36 @@ public class AddressBookTest {
         public AuditLog getAuditLog() {
             return new AuditLog();
         }
+
+        @Override
+        public long getVersion(Section section) {
+            throw new UnsupportedOperationException("Versions not supported in this stub");
+        }
+
+        @Override
+        public String getLastTeamId() {
+            return null;
+        }
+
+        @Override
+        public PersistentList<Person> getPersonSnapshot() {
+            return PersistentList.of(persons);
+        }
+
+        @Override
+        public PersistentList<Team> getTeamSnapshot() {
+            throw new UnsupportedOperationException("Teams not supported in this stub");
+        }
+
+        @Override
+        public List<ListHistory.Edit<Person>> getPersonChanges(PersistentList<Person> from,
+                PersistentList<Person> to) {
+            return null;
+        }
+
+        @Override
+        public List<ListHistory.Edit<Team>> getTeamChanges(PersistentList<Team> from, PersistentList<Team> to) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IdAllocatorTest {
+
+    @Test
+    public void next_empty_returnsFirstId() {
+        assertEquals("E0001", new IdAllocator("E", true).next());
+        assertEquals("T0001", new IdAllocator("T", false).next());
+    }
+
+    @Test
+    public void next_reusesFreedIds_returnsLowestFreeId() {
+        IdAllocator allocator = new IdAllocator("E", true);
+        allocator.reset(List.of("E0001", "E0002", "E0004"));
+        assertEquals("E0003", allocator.next());
+
+        allocator.take("E0003");
+        assertEquals("E0005", allocator.next());
+
+        allocator.release("E0002");
+        assertEquals("E0002", allocator.next());
+    }
+
+    @Test
+    public void next_doesNotReuseFreedIds_returnsAboveHighestEverTaken() {
+        IdAllocator allocator = new IdAllocator("T", false);
+        allocator.reset(List.of("T0001", "T0003"));
+        assertEquals("T0004", allocator.next());
+
+        allocator.release("T0003");
+        assertEquals("T0004", allocator.next());
+
+        allocator.reset(List.of("T0001"));
+        assertEquals("T0004", allocator.next());
+    }
+
+    @Test
+    public void reserveUpTo_aboveHighestTaken_notHandedOut() {
+        IdAllocator allocator = new IdAllocator("T", false);
+        assertNull(allocator.last());
+        allocator.take("T0002");
+        allocator.reserveUpTo("T0005");
+        assertEquals("T0005", allocator.last());
+        assertEquals("T0006", allocator.next());
+
+        allocator.reserveUpTo("T0003");
+        assertEquals("T0006", allocator.next());
+    }
+
+    @Test
+    public void take_malformedIds_ignored() {
+        IdAllocator allocator = new IdAllocator("E", true);
+        allocator.take("T0001");
+        allocator.take("E");
+        allocator.take("E00x1");
+        allocator.take("E0000");
+        allocator.take("E99999999999");
+        assertEquals("E0001", allocator.next());
+    }
+
+    @Test
+    public void take_hugeNumbers_keptSparsely() {
+        // kept as bits, the ids taken by these allocators would need over 12 GB
+        List<IdAllocator> allocators = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            IdAllocator allocator = new IdAllocator("E", true);
+            allocator.reset(List.of("E0001", "E999999999"));
+            allocators.add(allocator);
+        }
+        IdAllocator allocator = allocators.get(0);
+        assertEquals("E0002", allocator.next());
+        assertEquals("E999999999", allocator.last());
+
+        allocator.release("E999999999");
+        allocator.take("E999999998");
+        assertEquals("E0002", allocator.next());
+    }
+
+    @Test
+    public void next_numberBeyondFourDigits_notPadded() {
+        IdAllocator allocator = new IdAllocator("E", false);
+        allocator.take("E12345");
+        assertEquals("E12346", allocator.next());
+    }
+}
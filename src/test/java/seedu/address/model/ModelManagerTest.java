@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -95,6 +96,24 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findById_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(ALICE, modelManager.findById(ALICE.id()));
+        assertNull(modelManager.findById(BENSON.id()));
+    }
+
+    @Test
+    public void findShownById_personFilteredOut_returnsNull() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        assertEquals(ALICE, modelManager.findShownById(ALICE.id()));
+        assertNull(modelManager.findShownById(BENSON.id()));
+        assertEquals(BENSON, modelManager.findById(BENSON.id()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -243,4 +262,91 @@ public class ModelManagerTest {
         AuditLog auditLog = modelManager.getAuditLog();
         assertEquals(1, auditLog.getEntries().size());
     }
+
+    @Test
+    public void undoRedo_committedChanges_walksHistory() {
+        ModelManager model = new ModelManager();
+        assertFalse(model.canUndoAddressBook());
+
+        AddressBook.Snapshot empty = model.snapshotAddressBook();
+        model.addPerson(ALICE);
+        model.commitAddressBook(empty);
+        AddressBook.Snapshot withAlice = model.snapshotAddressBook();
+        model.addPerson(BENSON);
+        model.commitAddressBook(withAlice);
+
+        AddressBook.Snapshot beforeUndo = model.snapshotAddressBook();
+        model.undoAddressBook();
+        model.commitAddressBook(beforeUndo);
+        assertTrue(model.hasPerson(ALICE));
+        assertFalse(model.hasPerson(BENSON));
+        assertTrue(model.canRedoAddressBook());
+
+        AddressBook.Snapshot beforeRedo = model.snapshotAddressBook();
+        model.redoAddressBook();
+        model.commitAddressBook(beforeRedo);
+        assertTrue(model.hasPerson(BENSON));
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_newChange_discardsRedo() {
+        ModelManager model = new ModelManager();
+        AddressBook.Snapshot empty = model.snapshotAddressBook();
+        model.addPerson(ALICE);
+        model.commitAddressBook(empty);
+        AddressBook.Snapshot beforeUndo = model.snapshotAddressBook();
+        model.undoAddressBook();
+        model.commitAddressBook(beforeUndo);
+
+        AddressBook.Snapshot beforeAdd = model.snapshotAddressBook();
+        model.addPerson(BENSON);
+        model.commitAddressBook(beforeAdd);
+        assertFalse(model.canRedoAddressBook());
+        assertTrue(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_noChange_notUndoable() {
+        ModelManager model = new ModelManager();
+        model.commitAddressBook(model.snapshotAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void restoreAddressBook_afterUndo_historyUnchanged() {
+        ModelManager model = new ModelManager();
+        AddressBook.Snapshot empty = model.snapshotAddressBook();
+        model.addPerson(ALICE);
+        model.commitAddressBook(empty);
+
+        // An undo whose change could not be saved is rolled back without being committed.
+        AddressBook.Snapshot beforeUndo = model.snapshotAddressBook();
+        model.undoAddressBook();
+        model.restoreAddressBook(beforeUndo);
+        assertTrue(model.hasPerson(ALICE));
+        assertTrue(model.canUndoAddressBook());
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_teamChanges_restoresTeams() {
+        ModelManager model = new ModelManager();
+        Team core = new TeamBuilder().withId("T0001").withTeamName("Core").build();
+        Team backend = new TeamBuilder().withId("T0002").withTeamName("Backend").build();
+        model.addTeam(core);
+        model.addTeam(backend);
+
+        AddressBook.Snapshot beforeSubteam = model.snapshotAddressBook();
+        assertTrue(model.setSubteam("T0001", "T0002"));
+        model.commitAddressBook(beforeSubteam);
+
+        AddressBook.Snapshot beforeUndo = model.snapshotAddressBook();
+        model.undoAddressBook();
+        model.commitAddressBook(beforeUndo);
+        assertTrue(model.getAddressBook().getTeamList().get(0).getSubteams().getUnmodifiableList().isEmpty());
+        assertNull(model.getAddressBook().getTeamList().get(1).getParentTeamId());
+        // The team given to the model is never changed; the address book holds an edited copy of it instead.
+        assertTrue(core.getSubteams().getUnmodifiableList().isEmpty());
+    }
 }
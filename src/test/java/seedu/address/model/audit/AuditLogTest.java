@@ -0,0 +1,139 @@
+package seedu.address.model.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AuditLogTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    private static AuditLogEntry entry(int number) {
+        return new AuditLogEntry(TIME.plusSeconds(number), "ADD", "Entry " + number);
+    }
+
+    @Test
+    public void getEntries_newestFirst() {
+        AuditLog auditLog = new AuditLog();
+        auditLog.addEntry(entry(1));
+        auditLog.addEntry(entry(2));
+        auditLog.addEntry(entry(3));
+
+        assertEquals(List.of("Entry 3", "Entry 2", "Entry 1"),
+                auditLog.getEntries().stream().map(AuditLogEntry::getDetails).toList());
+        assertThrows(UnsupportedOperationException.class, () -> auditLog.getEntries().remove(0));
+    }
+
+    @Test
+    public void removeNewestEntry() {
+        AuditLog auditLog = new AuditLog();
+        AuditLogEntry first = entry(1);
+        AuditLogEntry second = entry(2);
+        auditLog.addEntry(first);
+        auditLog.addEntry(second);
+        long version = auditLog.getVersion();
+
+        assertThrows(IllegalArgumentException.class, () -> auditLog.removeNewestEntry(first));
+        auditLog.removeNewestEntry(second);
+        assertEquals(List.of(first), auditLog.getEntries());
+        assertNotEquals(version, auditLog.getVersion());
+    }
+
+    @Test
+    public void getPage_withoutHistory_pagesThroughEntriesInMemory() throws Exception {
+        AuditLog auditLog = new AuditLog();
+        assertEquals(0, auditLog.getPageCount());
+        for (int i = 1; i <= AuditLog.PAGE_SIZE + 5; i++) {
+            auditLog.addEntry(entry(i));
+        }
+
+        assertEquals(2, auditLog.getPageCount());
+        List<AuditLogEntry> firstPage = auditLog.getPage(1);
+        assertEquals(AuditLog.PAGE_SIZE, firstPage.size());
+        assertEquals("Entry " + (AuditLog.PAGE_SIZE + 5), firstPage.get(0).getDetails());
+        assertEquals(List.of("Entry 5", "Entry 4", "Entry 3", "Entry 2", "Entry 1"),
+                auditLog.getPage(2).stream().map(AuditLogEntry::getDetails).toList());
+        assertTrue(auditLog.getPage(3).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> auditLog.getPage(0));
+    }
+
+    @Test
+    public void setHistory_keepsOnlyNewestEntriesInMemory() throws Exception {
+        InMemoryHistory history = new InMemoryHistory();
+        for (int i = 1; i <= 50; i++) {
+            history.append(entry(i));
+        }
+        AuditLog auditLog = new AuditLog();
+        auditLog.addEntry(entry(0));
+        long version = auditLog.getVersion();
+
+        auditLog.setHistory(history);
+        assertNotEquals(version, auditLog.getVersion());
+        assertEquals(AuditLog.PAGE_SIZE, auditLog.getEntries().size());
+        assertEquals("Entry 50", auditLog.getEntries().get(0).getDetails());
+
+        for (int i = 51; i <= 100; i++) {
+            history.append(entry(i));
+            auditLog.addEntry(entry(i));
+        }
+        assertTrue(auditLog.getEntries().size() < 2 * AuditLog.PAGE_SIZE);
+        assertEquals("Entry 100", auditLog.getEntries().get(0).getDetails());
+        assertEquals(5, auditLog.getPageCount());
+
+        // older pages come from the history
+        history.reads = 0;
+        assertEquals("Entry 100", auditLog.getPage(1).get(0).getDetails());
+        assertEquals(0, history.reads);
+        assertEquals("Entry 20", auditLog.getPage(5).get(0).getDetails());
+        assertEquals(1, history.reads);
+    }
+
+    @Test
+    public void copyConstructor_sharesHistory() throws Exception {
+        InMemoryHistory history = new InMemoryHistory();
+        for (int i = 1; i <= 30; i++) {
+            history.append(entry(i));
+        }
+        AuditLog auditLog = new AuditLog();
+        auditLog.setHistory(history);
+
+        AuditLog copy = new AuditLog(auditLog);
+        assertEquals(auditLog.getVersion(), copy.getVersion());
+        assertEquals(2, copy.getPageCount());
+        assertEquals("Entry 10", copy.getPage(2).get(0).getDetails());
+    }
+
+    /**
+     * A history that keeps its entries in a list and counts the reads made.
+     */
+    private static class InMemoryHistory implements AuditHistory {
+        private final List<AuditLogEntry> entries = new ArrayList<>();
+        private int reads;
+
+        void append(AuditLogEntry entry) {
+            entries.add(entry);
+        }
+
+        @Override
+        public long getEntryCount() {
+            return entries.size();
+        }
+
+        @Override
+        public List<AuditLogEntry> readEntries(long skip, int count) {
+            reads++;
+            List<AuditLogEntry> result = new ArrayList<>();
+            for (int i = entries.size() - 1 - (int) skip; i >= 0 && result.size() < count; i--) {
+                result.add(entries.get(i));
+            }
+            return result;
+        }
+    }
+}
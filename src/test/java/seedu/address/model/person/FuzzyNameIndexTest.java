@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+class FuzzyNameIndexTest {
+
+    private static final Person JOHN = new PersonBuilder().withId(1).withName("John Doe").build();
+    private static final Person JOAN = new PersonBuilder().withId(2).withName("Joan Smith").build();
+    private static final Person JONATHAN = new PersonBuilder().withId(3).withName("Jonathan John").build();
+    private static final Person ALEX = new PersonBuilder().withId(4).withName("Alex Yeoh").build();
+
+    private static FuzzyNameIndex indexOf(Person... persons) {
+        FuzzyNameIndex index = new FuzzyNameIndex();
+        index.setPersons(List.of(persons));
+        return index;
+    }
+
+    @Test
+    void maxDistanceFor() {
+        assertEquals(1, FuzzyNameIndex.maxDistanceFor("jon"));
+        assertEquals(2, FuzzyNameIndex.maxDistanceFor("jhon"));
+    }
+
+    @Test
+    void findPersonIds_misspelledKeyword_closestDistancePerPerson() {
+        FuzzyNameIndex index = indexOf(JOHN, JOAN, JONATHAN, ALEX);
+        assertEquals(Map.of(JOHN.id(), 2, JOAN.id(), 2, JONATHAN.id(), 2), index.findPersonIds("JHON"));
+        assertEquals(Map.of(JOHN.id(), 0, JOAN.id(), 1, JONATHAN.id(), 0), index.findPersonIds("john"));
+        assertEquals(Map.of(ALEX.id(), 1), index.findPersonIds("yeo"));
+        assertEquals(Map.of(), index.findPersonIds("zzzzzz"));
+    }
+
+    @Test
+    void removeAndAdd_indexUpdated() {
+        FuzzyNameIndex index = indexOf(JOHN, JOAN, JONATHAN, ALEX);
+        Person renamedJoan = new PersonBuilder(JOAN).withId(2).withName("Joanne Smith").build();
+        index.remove(JOAN);
+        index.add(renamedJoan);
+        index.remove(JOHN);
+
+        assertEquals(Map.of(JONATHAN.id(), 0), index.findPersonIds("john"));
+        assertEquals(Map.of(JOAN.id(), 1), index.findPersonIds("joanna"));
+        assertEquals(Map.of(), index.findPersonIds("doe"));
+    }
+
+    @Test
+    void remove_manyPersons_remainingStillFound() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            persons.add(new PersonBuilder().withId(i).withName("Person" + i + " Tan").build());
+        }
+        FuzzyNameIndex index = new FuzzyNameIndex();
+        index.setPersons(persons);
+        for (int i = 0; i < 499; i++) {
+            index.remove(persons.get(i));
+        }
+
+        assertEquals(Map.of(persons.get(499).id(), 1), index.findPersonIds("person5000"));
+        assertEquals(Map.of(persons.get(499).id(), 0), index.findPersonIds("tan"));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+class NameTrigramIndexTest {
+
+    private static final Person ALICE = new PersonBuilder().withId(1).withName("Alice Pauline").build();
+    private static final Person BENSON = new PersonBuilder().withId(2).withName("Benson Meier").build();
+    private static final Person CARL = new PersonBuilder().withId(3).withName("Carl Kurz").build();
+    private static final Person DANIEL = new PersonBuilder().withId(4).withName("Daniel Meier").build();
+
+    private static NameTrigramIndex indexOf(Person... persons) {
+        NameTrigramIndex index = new NameTrigramIndex();
+        index.setPersons(List.of(persons));
+        return index;
+    }
+
+    @Test
+    void findPersonIds_substringsIgnoringCase() {
+        NameTrigramIndex index = indexOf(ALICE, BENSON, CARL, DANIEL);
+        assertEquals(Set.of(BENSON.id(), DANIEL.id()), index.findPersonIds(List.of("MEIER")));
+        assertEquals(Set.of(BENSON.id(), DANIEL.id()), index.findPersonIds(List.of("eie")));
+        assertEquals(Set.of(ALICE.id(), CARL.id()), index.findPersonIds(List.of("pauline", "kurz")));
+        assertEquals(Set.of(CARL.id()), index.findPersonIds(List.of("l kur")));
+        assertEquals(Set.of(), index.findPersonIds(List.of("meiers")));
+        assertEquals(Set.of(), index.findPersonIds(List.of("xyz")));
+        assertEquals(Set.of(), index.findPersonIds(List.of()));
+    }
+
+    @Test
+    void findPersonIds_keywordShorterThanTrigram_allNamesChecked() {
+        NameTrigramIndex index = indexOf(ALICE, BENSON, CARL, DANIEL);
+        assertEquals(Set.of(ALICE.id(), CARL.id(), DANIEL.id()), index.findPersonIds(List.of("l")));
+        assertEquals(Set.of(BENSON.id(), DANIEL.id()), index.findPersonIds(List.of("Ei")));
+    }
+
+    @Test
+    void removeAndAdd_indexUpdated() {
+        NameTrigramIndex index = indexOf(ALICE, BENSON, CARL, DANIEL);
+        Person renamedBenson = new PersonBuilder(BENSON).withId(2).withName("Benson Kurz").build();
+        index.remove(BENSON);
+        index.add(renamedBenson);
+        index.remove(CARL);
+        index.remove(CARL);
+
+        assertEquals(Set.of(DANIEL.id()), index.findPersonIds(List.of("meier")));
+        assertEquals(Set.of(BENSON.id()), index.findPersonIds(List.of("kurz")));
+        assertEquals(Set.of(ALICE.id(), BENSON.id(), DANIEL.id()), index.findPersonIds(List.of("e")));
+    }
+
+    @Test
+    void findPersonIds_randomNames_matchesScan() {
+        Random random = new Random(7);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            persons.add(new PersonBuilder().withId(i).withName(randomName(random)).build());
+        }
+        NameTrigramIndex index = new NameTrigramIndex();
+        index.setPersons(persons);
+
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomName(random).substring(0, 1 + random.nextInt(4));
+            Set<String> expected = new LinkedHashSet<>();
+            for (Person person : persons) {
+                if (person.name().fullName().toLowerCase().contains(keyword.toLowerCase())) {
+                    expected.add(person.id());
+                }
+            }
+            assertEquals(expected, index.findPersonIds(List.of(keyword)));
+        }
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 4 + random.nextInt(6); i++) {
+            name.append("abcDE".charAt(random.nextInt(5)));
+        }
+        return name.toString();
+    }
+}
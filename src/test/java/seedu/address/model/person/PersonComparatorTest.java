@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+class PersonComparatorTest {
+
+    private static final Person LOWER_ALICE = new PersonBuilder().withId(1).withName("alice").withSalary(3000).build();
+    private static final Person UPPER_ALICE = new PersonBuilder().withId(2).withName("Alice").withSalary(1000).build();
+    private static final Person BOB = new PersonBuilder().withId(3).withName("Bob").withSalary(2000).build();
+
+    @Test
+    void compare_text_ignoresCaseThenByCase() {
+        PersonComparator byName = new PersonComparator(List.of(PersonSortField.NAME));
+        assertTrue(byName.compare(UPPER_ALICE, LOWER_ALICE) < 0);
+        assertTrue(byName.compare(LOWER_ALICE, BOB) < 0);
+        assertEquals(0, byName.compare(BOB, BOB));
+    }
+
+    @Test
+    void compare_laterFieldsBreakTies() {
+        Person richBob = BOB.duplicate().withSalary(9000).build();
+        Person otherBob = new PersonBuilder(richBob).withId(4).build();
+        PersonComparator bySalaryThenId = new PersonComparator(List.of(PersonSortField.SALARY, PersonSortField.ID));
+        assertTrue(bySalaryThenId.compare(UPPER_ALICE, BOB) < 0);
+        assertTrue(bySalaryThenId.compare(richBob, otherBob) < 0);
+    }
+
+    @Test
+    void compare_team_bySortedTeamIds() {
+        Person ab = new PersonBuilder().withId(1).withTeamIds("T0002", "T0001").build();
+        Person b = new PersonBuilder().withId(2).withTeamIds("T0002").build();
+        Person none = new PersonBuilder().withId(3).build();
+        PersonComparator byTeam = new PersonComparator(List.of(PersonSortField.TEAM));
+        assertTrue(byTeam.compare(none, ab) < 0);
+        assertTrue(byTeam.compare(ab, b) < 0);
+    }
+
+    @Test
+    void compare_editedPerson_usesFreshKeys() {
+        PersonComparator byName = new PersonComparator(List.of(PersonSortField.NAME));
+        assertTrue(byName.compare(LOWER_ALICE, BOB) < 0);
+        Person renamed = LOWER_ALICE.duplicate().withName(new Name("Zed")).build();
+        assertTrue(byName.compare(renamed, BOB) > 0);
+        assertTrue(byName.compare(LOWER_ALICE, BOB) < 0);
+    }
+
+    @Test
+    void equals() {
+        PersonComparator byName = new PersonComparator(List.of(PersonSortField.NAME));
+        assertEquals(byName, new PersonComparator(List.of(PersonSortField.NAME)));
+        assertNotEquals(byName, new PersonComparator(List.of(PersonSortField.NAME, PersonSortField.ID)));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+class SalaryIndexTest {
+
+    private static final Person ALICE = new PersonBuilder().withId(1).withSalary(1000).build();
+    private static final Person BENSON = new PersonBuilder().withId(2).withSalary(2000).build();
+    private static final Person CARL = new PersonBuilder().withId(3).withSalary(2000).build();
+    private static final Person DANIEL = new PersonBuilder().withId(4).withSalary(3000).build();
+
+    private static SalaryIndex indexOf(Person... persons) {
+        SalaryIndex index = new SalaryIndex();
+        index.setPersons(List.of(persons));
+        return index;
+    }
+
+    @Test
+    void findPersonIds_inclusiveRangeInSalaryOrder() {
+        SalaryIndex index = indexOf(DANIEL, BENSON, ALICE, CARL);
+        assertEquals(List.of(ALICE.id(), BENSON.id(), CARL.id()), List.copyOf(index.findPersonIds(100000, 200000)));
+        assertEquals(Set.of(DANIEL.id()), index.findPersonIds(200001, Long.MAX_VALUE));
+        assertEquals(Set.of(), index.findPersonIds(100001, 199999));
+        assertEquals(Set.of(), index.findPersonIds(300000, 100000));
+    }
+
+    @Test
+    void countPersonIds_stopsAboveLimit() {
+        SalaryIndex index = indexOf(ALICE, BENSON, CARL, DANIEL);
+        assertEquals(4, index.countPersonIds(0, Long.MAX_VALUE, 10));
+        assertEquals(2, index.countPersonIds(200000, 200000, 10));
+        assertTrue(index.countPersonIds(0, Long.MAX_VALUE, 1) > 1);
+        assertTrue(index.countPersonIds(0, Long.MAX_VALUE, 1) < 4);
+    }
+
+    @Test
+    void addRemove_keepIndexCurrent() {
+        SalaryIndex index = indexOf(ALICE, BENSON);
+        index.remove(BENSON);
+        index.add(BENSON.duplicate().withSalary(5000).build());
+        assertEquals(Set.of(), index.findPersonIds(200000, 200000));
+        assertEquals(Set.of(BENSON.id()), index.findPersonIds(500000, 500000));
+        index.remove(CARL);
+        assertEquals(2, index.countPersonIds(0, Long.MAX_VALUE, 10));
+    }
+}
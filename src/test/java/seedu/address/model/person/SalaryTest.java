@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.text.DecimalFormat;
 import java.util.Random;
@@ -13,32 +14,61 @@ class SalaryTest {
     @Test
     void value() {
         double value = RAND.nextDouble(100000);
-        assertEquals(new Salary(value).value(), Double.parseDouble(String.format("%.2f", value)));
+        assertEquals(Salary.ofDollars(value).value(), Double.parseDouble(String.format("%.2f", value)));
     }
 
     @Test
     void inCents() {
         double value = RAND.nextDouble(100000);
-        assertEquals(new Salary(value).inCents(), (int) Math.round(value * 100));
+        assertEquals(Salary.ofDollars(value).inCents(), (int) Math.round(value * 100));
     }
 
     @Test
     void toStringMethod() {
-        double value = RAND.nextDouble(100000);
-        assertEquals(new Salary(value).toString(),
-                     String.format("$%s / month", new DecimalFormat("#,###.##").format(value)));
+        Salary salary = Salary.ofDollars(RAND.nextDouble(100000));
+        assertEquals(salary.toString(),
+                     String.format("$%s / month", new DecimalFormat("#,###.##").format(salary.value())));
+        assertEquals("$1,234.5 / month", new Salary(123450).toString());
     }
 
     @Test
     void value_withManyDecimalPlaces_roundedToTwoDecimalPlaces() {
-        assertEquals(100.13, new Salary(100.13234).value());
-        assertEquals(100.13, new Salary(100.12567).value());
+        assertEquals(100.13, Salary.ofDollars(100.13234).value());
+        assertEquals(100.13, Salary.ofDollars(100.12567).value());
+    }
+
+    @Test
+    void constructor_negativeCents_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Salary(-1));
+        assertThrows(IllegalArgumentException.class, () -> Salary.ofDollars(-0.5));
+    }
+
+    @Test
+    void parse_decimalText_exactCents() {
+        assertEquals(new Salary(10045), Salary.parse("100.45"));
+        assertEquals(new Salary(10013), Salary.parse("100.125"));
+        assertEquals(new Salary(0), Salary.parse("-0.00"));
+        // Beyond the precision of a double, but still exact in cents.
+        assertEquals(new Salary(9007199254740993L), Salary.parse("90071992547409.93"));
+        assertThrows(NumberFormatException.class, () -> Salary.parse("abc"));
+        assertThrows(ArithmeticException.class, () -> Salary.parse("1e30"));
+    }
+
+    @Test
+    void toPlainString_parse_roundTrips() {
+        long cents = RAND.nextLong(Long.MAX_VALUE);
+        Salary salary = new Salary(cents);
+        assertEquals(salary, Salary.parse(salary.toPlainString()));
+        assertEquals("1234.50", new Salary(123450).toPlainString());
     }
 
     @Test
     void compareTo() {
         double value1 = RAND.nextDouble(100000);
         double value2 = RAND.nextDouble(100000);
-        assertEquals(Math.signum(value1 - value2), Math.signum(new Salary(value1).compareTo(new Salary(value2))));
+        Salary salary1 = Salary.ofDollars(value1);
+        Salary salary2 = Salary.ofDollars(value2);
+        assertEquals(Long.signum(salary1.inCents() - salary2.inCents()), Integer.signum(salary1.compareTo(salary2)));
+        assertEquals(0, salary1.compareTo(new Salary(salary1.inCents())));
     }
 }
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+class SortOrderIndexTest {
+
+    private static final Comparator<Person> BY_SALARY_THEN_ID =
+            new PersonComparator(List.of(PersonSortField.SALARY, PersonSortField.ID));
+
+    private static Person person(int id, long salaryInCents) {
+        return new PersonBuilder().withId(id).withName("Person " + id).build().duplicate()
+                .withSalaryInCents(salaryInCents).build();
+    }
+
+    private static void assertOrderedLike(Comparator<Person> expected, SortOrderIndex index, List<Person> persons) {
+        List<Person> sortedByKeys = new ArrayList<>(persons);
+        sortedByKeys.sort(expected);
+        List<Person> sortedByLabels = new ArrayList<>(persons);
+        sortedByLabels.sort(index.comparator());
+        assertEquals(sortedByKeys, sortedByLabels);
+    }
+
+    @Test
+    void comparator_afterRandomEdits_matchesKeyOrder() {
+        Random random = new Random(7);
+        SortOrderIndex index = new SortOrderIndex(PersonSortField.SALARY);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(person(i, random.nextInt(50) * 100));
+        }
+        index.setPersons(persons);
+        for (int i = 0; i < 500; i++) {
+            int position = random.nextInt(persons.size());
+            Person target = persons.get(position);
+            Person edited = target.duplicate().withSalaryInCents(random.nextInt(50) * 100).build();
+            index.remove(target);
+            index.add(edited);
+            persons.set(position, edited);
+        }
+        assertOrderedLike(BY_SALARY_THEN_ID, index, persons);
+    }
+
+    @Test
+    void add_repeatedlyAtFront_relabels() {
+        SortOrderIndex index = new SortOrderIndex(PersonSortField.SALARY);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 100; i > 0; i--) {
+            Person person = person(i, i);
+            index.add(person);
+            persons.add(person);
+        }
+        assertOrderedLike(BY_SALARY_THEN_ID, index, persons);
+    }
+
+    @Test
+    void remove_equalPerson_removesIt() {
+        SortOrderIndex index = new SortOrderIndex(PersonSortField.NAME);
+        Person first = person(1, 0);
+        Person second = person(2, 0);
+        index.setPersons(List.of(first, second));
+        index.remove(new PersonBuilder(first, true).build());
+        Person renamed = first.duplicate().withName(new Name("Zed")).build();
+        index.add(renamed);
+        assertOrderedLike(new PersonComparator(List.of(PersonSortField.NAME)), index, List.of(renamed, second));
+    }
+}
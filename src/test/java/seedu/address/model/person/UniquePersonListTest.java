@@ -2,19 +2,29 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -58,6 +68,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_personWithTakenId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceId = new PersonBuilder(BOB).withId(0).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(bobWithAliceId));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -109,6 +127,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasTakenId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person aliceWithBensonId = new PersonBuilder(ALICE).withId(1).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, aliceWithBensonId));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -119,6 +145,79 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void findById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(BOB, uniquePersonList.findById(BOB.id()));
+        assertNull(uniquePersonList.findById("E9999"));
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findById(null));
+    }
+
+    @Test
+    public void findById_afterRemoveAndSort_returnsPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        uniquePersonList.remove(BENSON);
+        assertNull(uniquePersonList.findById(BENSON.id()));
+        assertEquals(DANIEL, uniquePersonList.findById(DANIEL.id()));
+
+        uniquePersonList.sort(Comparator.comparing(Person::id).reversed());
+        assertEquals(ALICE, uniquePersonList.findById(ALICE.id()));
+        uniquePersonList.remove(ALICE);
+        assertEquals(Arrays.asList(DANIEL, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIndexes() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(new PersonBuilder(BOB).withName("ALICIA").build()));
+        assertEquals(editedAlice, uniquePersonList.findById(ALICE.id()));
+    }
+
+    @Test
+    public void restore_recentSnapshots_updatesIndexes() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        PersistentList<Person> before = uniquePersonList.snapshot();
+        Person renamedBenson = new PersonBuilder(BENSON, true).withName("Zed").build();
+        uniquePersonList.setPerson(BENSON, renamedBenson);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(DANIEL);
+        PersistentList<Person> after = uniquePersonList.snapshot();
+
+        uniquePersonList.restore(before);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(ALICE, uniquePersonList.findById(ALICE.id()));
+        assertNull(uniquePersonList.findById(DANIEL.id()));
+        assertEquals(Set.of(BENSON.id()), uniquePersonList.findIdsByName(List.of("Benson")));
+        assertTrue(uniquePersonList.findIdsByName(List.of("Zed")).isEmpty());
+        assertEquals("E0003", uniquePersonList.nextId());
+
+        uniquePersonList.restore(after);
+        assertEquals(Arrays.asList(renamedBenson, CARL, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(renamedBenson, uniquePersonList.findById(BENSON.id()));
+        assertEquals(Set.of(BENSON.id()), uniquePersonList.findIdsByName(List.of("Zed")));
+        assertEquals("E0004", uniquePersonList.nextId());
+    }
+
+    @Test
+    public void restore_removalOfEarlierPersonUndone_laterPersonFoundAndRemoved() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        PersistentList<Person> before = uniquePersonList.snapshot();
+        uniquePersonList.remove(BENSON);
+        assertEquals(CARL, uniquePersonList.findById(CARL.id()));
+
+        uniquePersonList.restore(before);
+        assertEquals(CARL, uniquePersonList.findById(CARL.id()));
+        assertEquals(BENSON, uniquePersonList.findById(BENSON.id()));
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -162,6 +261,44 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameInDifferentCase_throwsDuplicatePersonException() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.name().fullName().toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, upperCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicateIds_throwsDuplicatePersonException() {
+        Person bobWithAliceId = new PersonBuilder(BOB).withId(0).build();
+        List<Person> listWithDuplicateIds = Arrays.asList(ALICE, bobWithAliceId);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateIds));
+    }
+
+    @Test
+    public void maintainedComparatorFor_maintainableFields_followsEdits() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        PersonComparator byName = new PersonComparator(List.of(PersonSortField.NAME));
+        Comparator<Person> maintained = uniquePersonList.maintainedComparatorFor(byName);
+        assertNotSame(byName, maintained);
+
+        Person renamedAlice = new PersonBuilder(ALICE, true).withName("Zoe").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        List<Person> sorted = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        sorted.sort(maintained);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, renamedAlice), sorted);
+    }
+
+    @Test
+    public void maintainedComparatorFor_otherComparators_returnsSameComparator() {
+        PersonComparator byPhone = new PersonComparator(List.of(PersonSortField.PHONE));
+        PersonComparator bySalaryThenName = new PersonComparator(List.of(PersonSortField.SALARY, PersonSortField.NAME));
+        Comparator<Person> byIdReversed = Comparator.comparing(Person::id).reversed();
+        assertSame(byPhone, uniquePersonList.maintainedComparatorFor(byPhone));
+        assertSame(bySalaryThenName, uniquePersonList.maintainedComparatorFor(bySalaryThenName));
+        assertSame(byIdReversed, uniquePersonList.maintainedComparatorFor(byIdReversed));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
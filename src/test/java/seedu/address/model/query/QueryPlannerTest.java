@@ -0,0 +1,121 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTeams.CORE;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+class QueryPlannerTest {
+
+    private static final long MAX = Long.MAX_VALUE;
+
+    private AddressBook addressBook;
+    private QueryPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        addressBook = getTypicalAddressBook();
+        addressBook.addTeam(CORE.copy());
+        planner = new QueryPlanner(addressBook);
+    }
+
+    @Test
+    void execute_id_usesIdLookup() {
+        QueryResult result = planner.execute(List.of(new Condition.NameContains("meier"),
+                new Condition.IdIs(BENSON.id())));
+        assertEquals("id lookup [" + BENSON.id() + "]", result.plan().accessPath());
+        assertEquals(1, result.candidatesChecked());
+        assertEquals(Set.of(BENSON.id()), result.personIds());
+    }
+
+    @Test
+    void execute_rareTag_usesTagBitmap() {
+        QueryResult result = planner.execute(List.of(new Condition.SalaryBetween(0, MAX),
+                new Condition.HasTag(new Tag("owesMoney"))));
+        assertEquals("tag bitmap [owesMoney]", result.plan().accessPath());
+        assertEquals(Set.of(BENSON.id()), result.personIds());
+    }
+
+    @Test
+    void execute_narrowSalaryRange_usesSalaryIndex() {
+        QueryResult result = planner.execute(List.of(new Condition.HasTag(new Tag("friends")),
+                new Condition.SalaryBetween(350000, 450000)));
+        assertEquals("salary index [salary 3500.00 to 4500.00]", result.plan().accessPath());
+        assertEquals(1, result.plan().estimatedCandidates());
+        assertEquals(List.of("tag bitmap [friends] (estimated 3)", "full scan (estimated 7)"),
+                result.plan().rejectedPaths());
+        assertEquals(Set.of(DANIEL.id()), result.personIds());
+    }
+
+    @Test
+    void execute_team_usesTeamMembers() {
+        QueryResult result = planner.execute(List.of(new Condition.GitHubContains("CARL"),
+                new Condition.InTeam(CORE.getId())));
+        assertEquals("team members [" + CORE.getId() + "]", result.plan().accessPath());
+        assertEquals(2, result.candidatesChecked());
+        assertEquals(Set.of(CARL.id()), result.personIds());
+    }
+
+    @Test
+    void execute_unknownTeam_matchesNothing() {
+        QueryResult result = planner.execute(List.of(new Condition.InTeam("T0099")));
+        assertEquals(0, result.candidatesChecked());
+        assertEquals(Set.of(), result.personIds());
+    }
+
+    @Test
+    void execute_nameKeyword_usesNameTrigrams() {
+        QueryResult result = planner.execute(List.of(new Condition.NameContains("KURZ")));
+        assertEquals("name trigrams [KURZ]", result.plan().accessPath());
+        assertEquals(Set.of(CARL.id()), result.personIds());
+    }
+
+    @Test
+    void execute_noIndexedCondition_scansEveryPerson() {
+        QueryResult result = planner.execute(List.of(new Condition.GitHubContains("ll")));
+        assertEquals("full scan", result.plan().accessPath());
+        assertEquals(addressBook.getPersonList().size(), result.candidatesChecked());
+        assertEquals(Set.of(ELLE.id()), result.personIds());
+    }
+
+    @Test
+    void execute_sameResultWhicheverPathIsChosen() {
+        List<Condition> conditions = List.of(new Condition.HasTag(new Tag("friends")),
+                new Condition.SalaryBetween(150000, MAX), new Condition.NameContains("e"));
+        Set<String> expected = Set.of(BENSON.id(), DANIEL.id());
+        assertEquals(expected, planner.execute(conditions).personIds());
+        assertEquals(expected, planner.execute(List.of(conditions.get(2), conditions.get(1), conditions.get(0)))
+                .personIds());
+    }
+
+    @Test
+    void execute_salaryChanged_indexUpdated() {
+        Person raised = ALICE.duplicate().withSalaryInCents(777700).build();
+        addressBook.setPerson(ALICE, raised);
+        assertEquals(Set.of(ALICE.id()),
+                planner.execute(List.of(new Condition.SalaryBetween(777700, 777700))).personIds());
+        assertEquals(Set.of(), planner.execute(List.of(new Condition.SalaryBetween(100000, 100000))).personIds());
+    }
+
+    @Test
+    void plan_describesChosenAndRejectedPaths() {
+        QueryPlan plan = planner.plan(List.of(new Condition.HasTag(new Tag("friends"))));
+        assertEquals("tag bitmap [friends] (estimated 3); rejected full scan (estimated 7)", plan.toString());
+        assertTrue(planner.plan(List.of()).rejectedPaths().isEmpty());
+    }
+}
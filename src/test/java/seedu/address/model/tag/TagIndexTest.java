@@ -0,0 +1,54 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+class TagIndexTest {
+
+    private static final Person AMY = new PersonBuilder().withId(1).withName("Amy").withTags("friends").build();
+    private static final Person BOB = new PersonBuilder().withId(2).withName("Bob")
+            .withTags("friends", "colleagues").build();
+    private static final Person CAT = new PersonBuilder().withId(3).withName("Cat").withTags("colleagues").build();
+    private static final Person DAN = new PersonBuilder().withId(4).withName("Dan").withoutTags().build();
+
+    private static TagExpression tag(String name) {
+        return new TagExpression.HasTag(new Tag(name));
+    }
+
+    private static TagIndex indexOf(Person... persons) {
+        TagIndex index = new TagIndex();
+        index.setPersons(List.of(persons));
+        return index;
+    }
+
+    @Test
+    void findPersonIds_booleanExpressions() {
+        TagIndex index = indexOf(AMY, BOB, CAT, DAN);
+        assertEquals(Set.of(AMY.id(), BOB.id()), index.findPersonIds(tag("FRIENDS")));
+        assertEquals(Set.of(BOB.id()), index.findPersonIds(new TagExpression.And(tag("friends"), tag("colleagues"))));
+        assertEquals(Set.of(AMY.id(), BOB.id(), CAT.id()),
+                index.findPersonIds(new TagExpression.Or(tag("friends"), tag("colleagues"))));
+        assertEquals(Set.of(CAT.id(), DAN.id()), index.findPersonIds(new TagExpression.Not(tag("friends"))));
+        assertEquals(Set.of(), index.findPersonIds(tag("unknown")));
+    }
+
+    @Test
+    void removeAndAdd_indexUpdated() {
+        TagIndex index = indexOf(AMY, BOB, CAT, DAN);
+        Person editedBob = new PersonBuilder(BOB).withId(2).withTags("colleagues").build();
+        index.remove(BOB);
+        index.add(editedBob);
+        index.remove(CAT);
+
+        assertEquals(Set.of(AMY.id()), index.findPersonIds(tag("friends")));
+        assertEquals(Set.of(BOB.id()), index.findPersonIds(tag("colleagues")));
+        assertEquals(Set.of(BOB.id(), DAN.id()), index.findPersonIds(new TagExpression.Not(tag("friends"))));
+    }
+}
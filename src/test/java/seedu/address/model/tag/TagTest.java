@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -20,6 +21,13 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void constructor_sameName_sharesNameString() {
+        Tag first = new Tag(new String("friends"));
+        Tag second = new Tag(new String("friends"));
+        assertSame(first.tagName, second.tagName);
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
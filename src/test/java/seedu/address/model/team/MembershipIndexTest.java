@@ -0,0 +1,57 @@
+package seedu.address.model.team;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class MembershipIndexTest {
+
+    private static Team team(String id, String leaderId, String... memberIds) {
+        Team team = new Team(id, new TeamName(id)).withMembers(Arrays.asList(memberIds));
+        if (leaderId != null) {
+            team.changeLeader(leaderId);
+        }
+        return team;
+    }
+
+    @Test
+    void setTeams_bothDirectionsIndexed() {
+        MembershipIndex index = new MembershipIndex();
+        index.setTeams(List.of(team("T0001", "E0001", "E0001", "E0002"), team("T0002", "E0001", "E0002")));
+
+        assertEquals(List.of("E0001", "E0002"), index.getMemberIds("T0001"));
+        assertEquals(List.of("T0001", "T0002"), index.getTeamIds("E0002"));
+        assertEquals(List.of("T0001", "T0002"), index.getTeamIdsLedBy("E0001"));
+        assertEquals(Set.of("E0001", "E0002"), index.getMemberIds(List.of("T0001", "T0002")));
+        assertEquals(List.of(), index.getMemberIds("T0099"));
+        assertEquals(List.of(), index.getTeamIds("E0099"));
+    }
+
+    @Test
+    void setTeam_changedMembersAndLeader_bothDirectionsUpdated() {
+        MembershipIndex index = new MembershipIndex();
+        index.setTeam(team("T0001", "E0001", "E0001", "E0002"));
+        index.setTeam(team("T0001", "E0003", "E0002", "E0003"));
+
+        assertEquals(List.of("E0002", "E0003"), index.getMemberIds("T0001"));
+        assertEquals(List.of(), index.getTeamIds("E0001"));
+        assertEquals(List.of(), index.getTeamIdsLedBy("E0001"));
+        assertEquals(List.of("T0001"), index.getTeamIdsLedBy("E0003"));
+    }
+
+    @Test
+    void removeTeam_forgetsMembersAndLeader() {
+        MembershipIndex index = new MembershipIndex();
+        index.setTeam(team("T0001", "E0001", "E0001"));
+        index.setTeam(team("T0002", null, "E0001"));
+        index.removeTeam("T0001");
+
+        assertEquals(List.of(), index.getMemberIds("T0001"));
+        assertEquals(List.of("T0002"), index.getTeamIds("E0001"));
+        assertEquals(List.of(), index.getTeamIdsLedBy("E0001"));
+    }
+}
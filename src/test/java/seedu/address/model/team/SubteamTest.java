@@ -2,6 +2,7 @@ package seedu.address.model.team;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -11,7 +12,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.AddressBook;
-import seedu.address.model.team.exceptions.InvalidSubteamNesting;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
 
 
@@ -19,14 +19,14 @@ class SubteamTest {
     private static final String INDEX_FIRST = "T0001";
     private static final String INDEX_SECOND = "T0002";
     private static final String INDEX_THIRD = "T0003";
+    private static AddressBook ab = null;
     private static Team teamA = null;
     private static Team teamB = null;
     private static Team teamC = null;
 
     @BeforeEach
     void setup() {
-        AddressBook ab = new AddressBook();
-        Subteams.setAddressBook(ab);
+        ab = new AddressBook();
         teamA = new Team("T0001", new TeamName("TeamA"));
         teamB = new Team("T0002", new TeamName("TeamB"));
         teamC = new Team("T0003", new TeamName("TeamC"));
@@ -35,77 +35,112 @@ class SubteamTest {
         ab.addTeam(teamC);
     }
 
+    /**
+     * Returns the team with the given {@code id} as it currently is in {@code ab}, since setting a subteam replaces
+     * both teams with edited copies.
+     */
+    private static Team team(String id) {
+        return ab.getTeamById(id);
+    }
+
     @Test
     void teamInTopLevelList_returnsTrue() {
-        teamA.addToSubteam(teamB.getId());
-        assertTrue(Subteams.teamContainsOtherTeam(teamA.getId(), teamB.getId()));
+        ab.setSubteam(teamA, teamB);
+        assertTrue(ab.containsTeamInSubteams(teamA.getId(), teamB.getId()));
+        assertEquals(teamA.getId(), team(INDEX_SECOND).getParentTeamId());
     }
 
     @Test
-    void teamNotInList_returnsFalse() {
-        teamA.addToSubteam(teamB.getId());
-        assertFalse(teamA.containsTeamInSubteams(INDEX_THIRD));
+    void setSubteam_givenTeamsUnchanged() {
+        ab.setSubteam(teamA, teamB);
+        assertTrue(teamA.getSubteams().getUnmodifiableList().isEmpty());
+        assertNull(teamB.getParentTeamId());
     }
 
     @Test
-    void subteamContainsNonExistentTeamId_throwsTeamNotFoundException() {
-        Subteams subteams = new Subteams(Collections.singletonList("T0004"));
-        teamA.withSubteams(subteams);
-        assertThrows(TeamNotFoundException.class, () -> teamA.containsTeamInSubteams("T0001"));
+    void teamNotInList_returnsFalse() {
+        ab.setSubteam(teamA, teamB);
+        assertFalse(ab.containsTeamInSubteams(INDEX_FIRST, INDEX_THIRD));
     }
 
     @Test
-    void teamInNestedSubteams_returnsTrue() {
-        teamA.addToSubteam(INDEX_SECOND);
-        assertTrue(teamA.containsTeamInSubteams(INDEX_SECOND));
+    void nonExistentParentTeam_throwsTeamNotFoundException() {
+        assertThrows(TeamNotFoundException.class, () -> ab.containsTeamInSubteams("T0004", INDEX_FIRST));
     }
 
     @Test
     void teamInDeeplyNestedSubteams_returnsTrue() {
-        teamB.addToSubteam(teamC.getId());
-        teamA.addToSubteam(teamB.getId());
-        assertTrue(teamA.containsTeamInSubteams(teamC));
+        ab.setSubteam(teamB, teamC);
+        ab.setSubteam(teamA, team(INDEX_SECOND));
+        assertTrue(ab.containsTeamInSubteams(INDEX_FIRST, INDEX_THIRD));
+        assertFalse(ab.containsTeamInSubteams(INDEX_THIRD, INDEX_FIRST));
     }
 
     @Test
     void teamNotNested_returnsFalse() {
-        assertFalse(Subteams.teamContainsOtherTeam(INDEX_FIRST, INDEX_SECOND));
+        assertFalse(ab.containsTeamInSubteams(INDEX_FIRST, INDEX_SECOND));
+    }
+
+    @Test
+    void cyclicSubteamsGraph_rejected() {
+        assertTrue(ab.setSubteam(teamA, teamB));
+        assertFalse(ab.setSubteam(team(INDEX_SECOND), team(INDEX_FIRST)));
+        assertFalse(ab.containsTeamInSubteams(INDEX_SECOND, INDEX_FIRST));
+    }
+
+    @Test
+    void tripleNested_addRootAsSubteamOfLeaf_rejected() {
+        assertTrue(ab.setSubteam(teamA, teamB));
+        assertTrue(ab.setSubteam(team(INDEX_SECOND), teamC));
+        assertFalse(ab.setSubteam(team(INDEX_THIRD), team(INDEX_FIRST)));
+        assertTrue(team(INDEX_THIRD).getSubteams().getUnmodifiableList().isEmpty());
+    }
+
+    @Test
+    void removeSubteamLink_descendantsNoLongerNested() {
+        ab.setSubteam(teamA, teamB);
+        ab.setSubteam(team(INDEX_SECOND), teamC);
+        Team editedA = team(INDEX_FIRST).copy().withSubteams(new Subteams());
+        ab.setTeam(team(INDEX_FIRST), editedA);
+        assertFalse(ab.containsTeamInSubteams(INDEX_FIRST, INDEX_SECOND));
+        assertFalse(ab.containsTeamInSubteams(INDEX_FIRST, INDEX_THIRD));
+        assertTrue(ab.containsTeamInSubteams(INDEX_SECOND, INDEX_THIRD));
     }
 
     @Test
-    void cyclicSubteamsGraph_throwsInvalidSubteamNesting() {
-        assertThrows(InvalidSubteamNesting.class, () -> {
-            teamA.addToSubteam(teamB.getId());
-            teamB.addToSubteam(teamA.getId());
-        });
+    void removeTeam_subteamsNoLongerNested() {
+        ab.setSubteam(teamB, teamC);
+        ab.removeTeam(team(INDEX_SECOND));
+        ab.addTeam(new Team(INDEX_SECOND, new TeamName("TeamB")));
+        assertFalse(ab.containsTeamInSubteams(INDEX_SECOND, INDEX_THIRD));
     }
 
     @Test
-    void tripleNested_addRootAsSubteamOfLeaf_throwsInvalidSubteamNesting() {
-        assertThrows(InvalidSubteamNesting.class, () -> {
-            teamA.addToSubteam(teamB.getId());
-            teamB.addToSubteam(teamC.getId());
-            teamC.addToSubteam(teamA.getId());
-        });
+    void copiedAddressBook_keepsHierarchy() {
+        ab.setSubteam(teamA, teamB);
+        ab.setSubteam(team(INDEX_SECOND), teamC);
+        AddressBook copy = new AddressBook(ab);
+        assertTrue(copy.containsTeamInSubteams(INDEX_FIRST, INDEX_THIRD));
+        assertFalse(copy.containsTeamInSubteams(INDEX_THIRD, INDEX_FIRST));
     }
 
     @Test
     void size_returnsCorrectSize() {
         Subteams subteams = new Subteams();
-        subteams.add(INDEX_FIRST, "A");
-        subteams.add(INDEX_SECOND, "B");
+        subteams.add(INDEX_FIRST);
+        subteams.add(INDEX_SECOND);
         assertEquals(2, subteams.size());
     }
 
     @Test
     void nullTeam_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> Subteams.teamContainsOtherTeam(null, null));
+        assertThrows(NullPointerException.class, () -> ab.containsTeamInSubteams(null, null));
     }
 
     @Test
     void removeTeam_successfulRemoval() {
         Subteams subteams = new Subteams();
-        subteams.add(INDEX_FIRST, "A");
+        subteams.add(INDEX_FIRST);
         boolean removed = subteams.remove(INDEX_FIRST);
         assertTrue(removed);
     }
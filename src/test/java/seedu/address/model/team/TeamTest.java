@@ -33,7 +33,6 @@ public class TeamTest {
     @BeforeEach
     public void setUp() {
         ab = new AddressBook();
-        Subteams.setAddressBook(ab);
     }
 
     @Test
@@ -98,19 +97,24 @@ public class TeamTest {
     }
 
     @Test
-    public void addToSubteam_cyclicTeams_throwsInvalidSubteamNestingException() {
+    public void addToSubteam_parentTeam_throwsInvalidSubteamNestingException() {
+        Team teamB = new Team("T0003", new TeamName("B")).withParentTeamId("T0001");
+        assertThrows(InvalidSubteamNesting.class, () -> teamB.addToSubteam("T0001"));
+    }
+
+    @Test
+    public void setSubteam_cyclicTeams_rejected() {
         Team teamA = new Team("T0001", new TeamName("A"));
         Team teamB = new Team("T0003", new TeamName("B"));
         ab.addTeam(teamA);
         ab.addTeam(teamB);
-        assertThrows(InvalidSubteamNesting.class, () -> {
-            Team at = teamA.addToSubteam(teamB.getId());
-            at.addToSubteam(teamB.getId());
-        });
-        assertThrows(InvalidSubteamNesting.class, () -> {
-            teamB.addToSubteam(teamA.getId());
-            teamA.addToSubteam(teamB.getId());
-        });
+        assertTrue(ab.setSubteam(teamA, teamB));
+        teamA = ab.getTeamById("T0001");
+        teamB = ab.getTeamById("T0003");
+        assertFalse(ab.setSubteam(teamA, teamB));
+        assertFalse(ab.setSubteam(teamB, teamA));
+        assertEquals(1, ab.getTeamById("T0001").getSubteams().size());
+        assertEquals(0, ab.getTeamById("T0003").getSubteams().size());
     }
 
     @Test
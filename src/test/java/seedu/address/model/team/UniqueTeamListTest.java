@@ -1,15 +1,19 @@
 package seedu.address.model.team;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalTeams.CORE;
 
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.AddressBook;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
 import seedu.address.testutil.TeamBuilder;
@@ -48,6 +52,33 @@ public class UniqueTeamListTest {
         assertThrows(DuplicateTeamException.class, () -> list.setTeams(Arrays.asList(CORE, CORE)));
     }
 
+    @Test
+    public void getTeamById_afterSetTeamAndRemove_returnsCurrentTeam() {
+        UniqueTeamList list = new UniqueTeamList();
+        list.add(CORE);
+        Team edited = new TeamBuilder(CORE).withTeamName("Renamed").build();
+        list.setTeam(CORE, edited);
+        assertSame(edited, list.getTeamById(CORE.getId()));
+
+        list.remove(edited);
+        assertThrows(TeamNotFoundException.class, () -> list.getTeamById(CORE.getId()));
+    }
+
+    @Test
+    public void containsName_tracksAddedAndRemovedTeams() {
+        UniqueTeamList list = new UniqueTeamList();
+        Team first = new Team("T1", new TeamName("Core"));
+        Team second = new Team("T2", new TeamName("Core"));
+        list.setTeams(Arrays.asList(first, second));
+        assertTrue(list.containsName(new TeamName("Core")));
+        assertFalse(list.containsName(new TeamName("Other")));
+
+        list.remove(first);
+        assertTrue(list.containsName(new TeamName("Core")));
+        list.remove(second);
+        assertFalse(list.containsName(new TeamName("Core")));
+    }
+
     @Test
     void getHierarchyString_singleRoot_noSubteams() {
         UniqueTeamList list = new UniqueTeamList();
@@ -60,16 +91,11 @@ public class UniqueTeamListTest {
 
     @Test
     void getHierarchyString_deeplyNested_subteamsPrintedWithBranches() {
-        AddressBook ab = new AddressBook();
-        Subteams.setAddressBook(ab);
         UniqueTeamList list = new UniqueTeamList();
 
         Team a = new Team("T1", new TeamName("A"));
         Team b = new Team("T2", new TeamName("B"));
         Team c = new Team("T3", new TeamName("C"));
-        ab.addTeam(a);
-        ab.addTeam(b);
-        ab.addTeam(c);
 
         // establish subteam relations
         a.addToSubteam(b.getId());
@@ -97,15 +123,10 @@ public class UniqueTeamListTest {
     @Test
     void getHierarchyString_multipleRoots_andTheirSubteams() {
         UniqueTeamList list = new UniqueTeamList();
-        AddressBook ab = new AddressBook();
-        Subteams.setAddressBook(ab);
 
         Team root1 = new Team("T1", new TeamName("Root1"));
         Team child1 = new Team("T2", new TeamName("Child1"));
         Team root2 = new Team("T3", new TeamName("Root2"));
-        ab.addTeam(root1);
-        ab.addTeam(child1);
-        ab.addTeam(root2);
 
         // set relationships: Root1 -> Child1
         root1.addToSubteam(child1.getId());
@@ -124,4 +145,143 @@ public class UniqueTeamListTest {
 
         assertEquals(expected, list.getHierarchyString());
     }
+
+    @Test
+    void containsTeamInSubteams_followsSubteamLists() {
+        Team a = new Team("T1", new TeamName("A"));
+        Team b = new Team("T2", new TeamName("B"));
+        Team c = new Team("T3", new TeamName("C"));
+        a.addToSubteam(b.getId());
+        b.addToSubteam(c.getId());
+
+        UniqueTeamList list = new UniqueTeamList();
+        list.setTeams(Arrays.asList(c, b, a));
+        assertTrue(list.containsTeamInSubteams("T1", "T3"));
+        assertFalse(list.containsTeamInSubteams("T3", "T1"));
+        assertThrows(TeamNotFoundException.class, () -> list.containsTeamInSubteams("T4", "T1"));
+
+        // a cycle through the hierarchy is rejected, a new branch is accepted
+        assertFalse(list.setSubteam(c, a));
+        Team d = new Team("T4", new TeamName("D"));
+        list.add(d);
+        assertTrue(list.setSubteam(c, d));
+        assertTrue(list.containsTeamInSubteams("T1", "T4"));
+
+        list.remove(b);
+        assertFalse(list.containsTeamInSubteams("T1", "T4"));
+        assertTrue(list.containsTeamInSubteams("T1", "T2"));
+    }
+
+    @Test
+    void getParentTeam_linkedAndUnlinkedTeams_returnsDirectParent() {
+        Team a = new Team("T0001", new TeamName("A"));
+        Team b = new Team("T0002", new TeamName("B"));
+        Team c = new Team("T0003", new TeamName("C"));
+        UniqueTeamList list = new UniqueTeamList();
+        list.setTeams(Arrays.asList(a, b, c));
+        list.setSubteam(a, b);
+        list.setSubteam(list.getTeamById("T0002"), c);
+
+        assertNull(list.getParentTeam("T0001"));
+        assertSame(list.getTeamById("T0001"), list.getParentTeam("T0002"));
+        assertSame(list.getTeamById("T0002"), list.getParentTeam("T0003"));
+
+        list.setTeam(list.getTeamById("T0002"), list.getTeamById("T0002").copy().withSubteams(new Subteams()));
+        assertNull(list.getParentTeam("T0003"));
+        assertNull(list.getParentTeam("T9999"));
+    }
+
+    @Test
+    void restore_removalOfEarlierTeamUndone_laterTeamChangedAndRemoved() {
+        Team a = new TeamBuilder().withId("T0001").withTeamName("A").build();
+        Team b = new TeamBuilder().withId("T0002").withTeamName("B").build();
+        Team c = new TeamBuilder().withId("T0003").withTeamName("C").build();
+        UniqueTeamList list = new UniqueTeamList();
+        list.setTeams(Arrays.asList(a, b, c));
+        PersistentList<Team> before = list.snapshot();
+        list.remove(b);
+        list.setTeam(c, new TeamBuilder(c).withMembers("E0001").build());
+
+        list.restore(before);
+        Team editedC = new TeamBuilder(c).withMembers("E0002").build();
+        list.setTeam(list.getTeamById("T0003"), editedC);
+        list.remove(editedC);
+        assertEquals(Arrays.asList("T0001", "T0002"),
+                list.asUnmodifiableObservableList().stream().map(Team::getId).toList());
+    }
+
+    @Test
+    void restore_recentSnapshots_updatesHierarchyAndMembers() {
+        Team a = new TeamBuilder().withId("T0001").withTeamName("A").build();
+        Team b = new TeamBuilder().withId("T0002").withTeamName("B").build();
+        UniqueTeamList list = new UniqueTeamList();
+        list.setTeams(Arrays.asList(a, b));
+        PersistentList<Team> before = list.snapshot();
+
+        assertTrue(list.setSubteam(a, b));
+        Team subteamB = list.getTeamById("T0002");
+        list.setTeam(subteamB, new TeamBuilder(subteamB).withMembers("E0001").build());
+        list.add(new TeamBuilder().withId("T0003").withTeamName("C").build());
+        PersistentList<Team> after = list.snapshot();
+
+        list.restore(before);
+        assertFalse(list.containsTeamInSubteams("T0001", "T0002"));
+        assertTrue(list.getMemberIds("T0001", true).isEmpty());
+        assertFalse(list.containsName(new TeamName("C")));
+        assertEquals("T0004", list.nextId());
+
+        list.restore(after);
+        assertTrue(list.containsTeamInSubteams("T0001", "T0002"));
+        assertEquals(Set.of("E0001"), list.getMemberIds("T0001", true));
+        assertTrue(list.containsName(new TeamName("C")));
+        // setting a subteam replaces the teams with edited copies, so it leaves the snapshots alone
+        assertTrue(list.setSubteam(list.getTeamById("T0002"), list.getTeamById("T0003")));
+        list.restore(after);
+        assertFalse(list.containsTeamInSubteams("T0002", "T0003"));
+    }
+
+    @Test
+    void getHierarchyString_teamChanged_onlyChangedTeamReRendered() {
+        Team a = new Team("T1", new TeamName("A"));
+        Team b = new Team("T2", new TeamName("B"));
+        Team c = new Team("T3", new TeamName("C"));
+        Team d = new Team("T4", new TeamName("D"));
+        UniqueTeamList list = new UniqueTeamList();
+        list.setTeams(Arrays.asList(a, b, c, d));
+        list.setSubteam(a, b);
+        list.setSubteam(list.getTeamById("T2"), c);
+        list.setSubteam(list.getTeamById("T1"), d);
+        a = list.getTeamById("T1");
+        c = list.getTeamById("T3");
+        d = list.getTeamById("T4");
+
+        String rendered = list.getHierarchyString();
+        assertEquals("""
+                A #T1 Members: []
+                ├── B #T2 Members: []
+                │   └── C #T3 Members: []
+                └── D #T4 Members: []
+                """, rendered);
+        assertSame(rendered, list.getHierarchyString());
+
+        Team editedC = c.copy().withMembers(Arrays.asList("E0001"));
+        list.setTeam(c, editedC);
+        assertEquals("""
+                A #T1 Members: []
+                ├── B #T2 Members: []
+                │   └── C #T3 Members: [E0001]
+                └── D #T4 Members: []
+                """, list.getHierarchyString());
+
+        Team editedA = a.copy().withSubteams(new Subteams(Arrays.asList("T2")));
+        list.setTeam(a, editedA);
+        Team editedD = d.copy().withParentTeamId(null);
+        list.setTeam(d, editedD);
+        assertEquals("""
+                A #T1 Members: []
+                └── B #T2 Members: []
+                    └── C #T3 Members: [E0001]
+                D #T4 Members: []
+                """, list.getHierarchyString());
+    }
 }
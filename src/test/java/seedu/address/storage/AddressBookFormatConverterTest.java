@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class AddressBookFormatConverterTest {
+    private static final Path TYPICAL_PERSONS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryAndBack_typicalPersons_unchanged() throws Exception {
+        Path binaryFile = testFolder.resolve("ab.bin");
+        Path jsonFile = testFolder.resolve("ab.json");
+
+        AddressBookFormatConverter.toBinary(TYPICAL_PERSONS_FILE, binaryFile);
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryFile).readAddressBook().get()));
+
+        AddressBookFormatConverter.toJson(binaryFile, jsonFile);
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void toBinary_missingFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                AddressBookFormatConverter.toBinary(testFolder.resolve("missing.json"), testFolder.resolve("ab.bin")));
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_teamsAndAuditLog_preserved() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addTeam(new Team("T0001", new TeamName("Core")).withLeader("E0000").withMembers(
+                Arrays.asList("E0000", "E0001")));
+        original.addTeam(new Team("T0002", new TeamName("QA")));
+        original.getAuditLog().addEntry("ADD", "Added person: Alice", LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        original.getAuditLog().addEntry("DELETE", "Deleted person: Bob", LocalDateTime.of(2024, 1, 2, 3, 4, 6));
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original.getTeamList().stream().map(JsonAdaptedTeam::new).toList(),
+                readBack.getTeamList().stream().map(JsonAdaptedTeam::new).toList());
+        assertEquals(original.getAuditLog().getEntries().toString(), readBack.getAuditLog().getEntries().toString());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_lastTeamRemoved_idNotReused() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        AddressBook original = getTypicalAddressBook();
+        Team team = new Team("T0003", new TeamName("Core"));
+        original.addTeam(team);
+        original.removeTeam(team);
+
+        storage.saveAddressBook(original);
+        assertEquals("T0004", new AddressBook(storage.readAddressBook().get()).nextTeamId());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_idsBeyondFourDigits_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withId(10000).build());
+        Team team = new Team("T10000", new TeamName("Core"));
+        original.addTeam(team);
+        original.removeTeam(team);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals("E10000", readBack.getPersonList().get(readBack.getPersonList().size() - 1).id());
+        assertEquals("T10001", readBack.nextTeamId());
+    }
+
+    @Test
+    public void saveAddressBook_repeatedValues_storedOnce() throws Exception {
+        Path binaryPath = testFolder.resolve("ab.bin");
+        Path jsonPath = testFolder.resolve("ab.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonPath, true).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath) / 2);
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("future.bin");
+        Files.write(filePath, new byte[] {'H', 'N', 'R', 'B', 99});
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).saveAddressBook(null));
+    }
+}
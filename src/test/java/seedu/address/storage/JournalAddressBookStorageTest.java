@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.audit.AuditHistory;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Salary;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotAndEmptyJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(filePath));
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addTeam(new Team("T0001", new TeamName("CORE")));
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        Person richerBenson = new Person(BENSON.id(), BENSON.name(), BENSON.phone(), BENSON.email(),
+                BENSON.address(), BENSON.gitHubUsername(), BENSON.teamIds(), BENSON.tags(), Salary.ofDollars(1234.5));
+        original.setPerson(BENSON, richerBenson);
+        original.addAuditEntry("SET-SALARY", "Benson");
+        storage.saveAddressBook(original);
+
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        original.addTeam(new Team("T0002", new TeamName("QA")));
+        original.addAuditEntry("DELETE", "Alice");
+        original.addAuditEntry("ADD", "Hoon");
+        storage.saveAddressBook(original);
+
+        // snapshot untouched, one line per save plus the header; audit entries are left to the audit history
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1 + 2, journalLines(filePath).size());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(List.of("T0001", "T0002"), readBack.getTeamList().stream().map(Team::getId).toList());
+        assertTrue(readBack.getAuditLog().getEntries().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_auditEntriesBeyondPageInMemory_noCompaction() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.getAuditLog().setHistory(new AuditHistory() {
+            @Override
+            public long getEntryCount() {
+                return 0;
+            }
+
+            @Override
+            public List<AuditLogEntry> readEntries(long skip, int count) {
+                return List.of();
+            }
+        });
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // the audit log drops all but its newest page from memory as entries accumulate
+        for (int i = 0; i < 3 * AuditLog.PAGE_SIZE; i++) {
+            original.addAuditEntry("ADD", "Entry " + i);
+            storage.saveAddressBook(original);
+        }
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, journalLines(filePath).size());
+    }
+
+    @Test
+    public void readAddressBook_auditEntriesInOlderJournal_replayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addAuditEntry("ADD", "Alice");
+        storage.saveAddressBook(original);
+
+        original.addAuditEntry("DELETE", "Alice");
+        original.addAuditEntry("ADD", "Hoon");
+        List<String> lines = new ArrayList<>(journalLines(filePath));
+        for (int i = 1; i >= 0; i--) {
+            JsonAdaptedJournalRecord record = JsonAdaptedJournalRecord.addAuditEntry(
+                    new JsonAdaptedAuditLogEntry(original.getAuditLog().getEntries().get(i)));
+            lines.add(JsonUtil.toCompactJsonString(record));
+        }
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath), lines);
+
+        assertEquals(readAuditActionsThroughSnapshot(original), storage.readAddressBook().get().getAuditLog()
+                .getEntries().stream().map(entry -> entry.getAction()).toList());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUntouched() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(original);
+        assertEquals(1, journalLines(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_restoredToEarlierSnapshot_undoneChangesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook.Snapshot beforeHoon = original.snapshot();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        original.restore(beforeHoon);
+        storage.saveAddressBook(original);
+
+        assertEquals(3, journalLines(filePath).size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsReplaced_compacts() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, journalLines(filePath).size());
+
+        original.setPersons(List.of(HOON, ALICE));
+        storage.saveAddressBook(original);
+
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_reordered_compacts() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, journalLines(filePath).size());
+
+        original.sortPersons(Comparator.comparing((Person p) -> p.name().fullName()).reversed());
+        storage.saveAddressBook(original);
+
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compacts() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2, false);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(3, journalLines(filePath).size());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, journalLines(filePath).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        List<String> oldJournal = journalLines(filePath);
+
+        // a snapshot written by someone else leaves the old journal behind
+        AddressBook other = new AddressBook();
+        other.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(other);
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath), oldJournal);
+
+        assertEquals(other, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"op\":\"PUT_PER",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornLastSave_wholeSaveDropped() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook beforeSave = new AddressBook(original);
+
+        // replacing the last person with another journals a remove followed by a put
+        Person last = original.getPersonList().get(original.getPersonList().size() - 1);
+        original.setPerson(last, HOON);
+        storage.saveAddressBook(original);
+        List<String> lines = journalLines(filePath);
+        assertEquals(2, lines.size());
+
+        // a crash after the remove was written but before the put
+        String lastLine = lines.get(1);
+        String torn = lastLine.substring(0, lastLine.indexOf("PUT_PERSON"));
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath),
+                lines.get(0) + System.lineSeparator() + torn, StandardCharsets.UTF_8);
+
+        assertEquals(beforeSave, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unbatchedRecordsInOlderJournal_replayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<String> lines = new ArrayList<>(journalLines(filePath));
+        lines.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.removePerson(ALICE.id())));
+        lines.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.putPerson(new JsonAdaptedPerson(HOON))));
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath), lines);
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedMiddleRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        List<String> lines = new ArrayList<>(journalLines(filePath));
+        lines.add(1, "not json");
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath), lines);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesFullSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path otherPath = testFolder.resolve("other.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherPath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherPath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("ab.json"), 0, false));
+    }
+
+    private static List<String> journalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns the audit actions {@code addressBook} has after a plain snapshot round trip, which replay must match.
+     */
+    private List<String> readAuditActionsThroughSnapshot(AddressBook addressBook) throws Exception {
+        Path plainPath = testFolder.resolve("plain.json");
+        JsonAddressBookStorage plain = new JsonAddressBookStorage(plainPath);
+        plain.saveAddressBook(addressBook);
+        return plain.readAddressBook().get().getAuditLog().getEntries().stream()
+                .map(entry -> entry.getAction()).toList();
+    }
+}
@@ -49,6 +49,15 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson("E1000000000", VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                        VALID_ADDRESS, VALID_GITHUBUSERNAME, VALID_SALARY, VALID_TEAMIDS, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Person.ID_MESSAGE_CONSTRAINTS, person::toModelType);
+        assertThrows(IllegalValueException.class, Person.ID_MESSAGE_CONSTRAINTS, () -> person.toModelType(true));
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
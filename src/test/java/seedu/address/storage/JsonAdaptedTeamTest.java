@@ -45,6 +45,12 @@ public class JsonAdaptedTeamTest {
         assertThrows(IllegalValueException.class, expectedMessage, team::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedTeam team = new JsonAdaptedTeam("T1000000000", VALID_NAME, VALID_LEADER_ID, VALID_MEMBERS);
+        assertThrows(IllegalValueException.class, Team.ID_MESSAGE_CONSTRAINTS, team::toModelType);
+    }
+
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedTeam team = new JsonAdaptedTeam(VALID_ID, null, VALID_LEADER_ID, VALID_MEMBERS);
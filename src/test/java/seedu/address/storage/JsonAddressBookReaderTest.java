@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path TYPICAL_TEAMS_FILE = TEST_DATA_FOLDER.resolve("typicalTeamsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook fromFile = JsonAddressBookReader.read(TYPICAL_PERSONS_FILE).toModelType();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), fromFile);
+    }
+
+    @Test
+    public void read_typicalTeamsFile_matchesBoundRead() throws Exception {
+        AddressBook streamed = JsonAddressBookReader.read(TYPICAL_TEAMS_FILE).toModelType();
+        AddressBook bound = JsonUtil.readJsonFile(TYPICAL_TEAMS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        assertEquals(bound.getPersonList(), streamed.getPersonList());
+        assertEquals(bound.getTeamList().toString(), streamed.getTeamList().toString());
+    }
+
+    @Test
+    public void read_auditLog_sameOrderAsBoundRead() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addAuditEntry("FIRST", "First entry");
+        original.addAuditEntry("SECOND", "Second entry");
+        Path filePath = testFolder.resolve("audit.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        AddressBook streamed = JsonAddressBookReader.read(filePath).toModelType();
+        AddressBook bound = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(bound.getAuditLog().getEntries().toString(), streamed.getAuditLog().getEntries().toString());
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("extra.json");
+        Files.writeString(filePath, "{ \"version\" : { \"major\" : 1 }, \"persons\" : [ ], \"notes\" : [ 1, 2 ] }");
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath).toModelType());
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicateIds_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(DUPLICATE_ID_FILE));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        Files.writeString(filePath, "[ ]");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_noFooter_checksumCoversWholeFileAndNotTrusted() throws Exception {
+        CRC32C crc = new CRC32C();
+        crc.update(Files.readAllBytes(TYPICAL_PERSONS_FILE));
+        JsonAddressBookReader reader = JsonAddressBookReader.read(TYPICAL_PERSONS_FILE);
+        assertEquals(crc.getValue(), reader.getChecksum());
+        assertFalse(reader.isTrusted());
+    }
+
+    @Test
+    public void read_writtenFile_trusted() throws Exception {
+        Path filePath = testFolder.resolve("written.json");
+        long checksum = JsonAddressBookWriter.write(TypicalPersons.getTypicalAddressBook(), filePath, false);
+
+        JsonAddressBookReader reader = JsonAddressBookReader.read(filePath);
+        assertTrue(reader.isTrusted());
+        assertEquals(checksum, reader.getChecksum());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), reader.toModelType());
+    }
+
+    @Test
+    public void read_editedFile_notTrusted() throws Exception {
+        Path filePath = testFolder.resolve("edited.json");
+        JsonAddressBookWriter.write(TypicalPersons.getTypicalAddressBook(), filePath, false);
+        Files.writeString(filePath, Files.readString(filePath).replace("Alice Pauline", "Alice Paulina"));
+
+        JsonAddressBookReader reader = JsonAddressBookReader.read(filePath);
+        assertFalse(reader.isTrusted());
+        assertEquals("Alice Paulina", reader.toModelType().getPersonList().get(0).name().fullName());
+    }
+
+    @Test
+    public void read_trustedFileWithInvalidPerson_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("trustedInvalid.json");
+        String document = Files.readString(INVALID_PERSON_FILE) + "\n";
+        CRC32C crc = new CRC32C();
+        crc.update(document.getBytes(StandardCharsets.UTF_8));
+        Files.writeString(filePath, document + String.format(JsonAddressBookWriter.FOOTER_FORMAT, crc.getValue()));
+
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+}
@@ -18,6 +18,9 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +89,48 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_lastTeamRemoved_idNotReused() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        AddressBook original = getTypicalAddressBook();
+        Team team = new Team("T0003", new TeamName("Core"));
+        original.addTeam(team);
+        original.removeTeam(team);
+
+        storage.saveAddressBook(original);
+        assertEquals("T0004", new AddressBook(storage.readAddressBook().get()).nextTeamId());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_idsBeyondFourDigits_success() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withId(10000).build());
+        Team team = new Team("T10000", new TeamName("Core"));
+        original.addTeam(team);
+        original.removeTeam(team);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals("E10000", readBack.getPersonList().get(readBack.getPersonList().size() - 1).id());
+        assertEquals("T10001", readBack.nextTeamId());
+    }
+
+    @Test
+    public void readAddressBook_hugeIds_loaded() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withId(999999999).build());
+        original.addTeam(new Team("T999999999", new TeamName("Core")));
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals("T999999999", readBack.getTeamList().get(0).getId());
+        assertEquals(getTypicalAddressBook().nextPersonId(), readBack.nextPersonId());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
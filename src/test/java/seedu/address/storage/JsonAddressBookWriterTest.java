@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook getAddressBookWithEverything() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addTeam(new Team("T0001", new TeamName("CORE")).withLeader("E0000"));
+        addressBook.addAuditEntry("ADD", "Added person: Alice");
+        return addressBook;
+    }
+
+    @Test
+    public void write_pretty_sameBytesAsSerializedString() throws Exception {
+        AddressBook addressBook = getAddressBookWithEverything();
+        Path filePath = testFolder.resolve("pretty.json");
+
+        JsonAddressBookWriter.write(addressBook, filePath, false);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)) + "\n";
+        assertTrue(Files.readString(filePath, StandardCharsets.UTF_8).startsWith(expected));
+    }
+
+    @Test
+    public void write_compact_singleLineAndReadable() throws Exception {
+        AddressBook addressBook = getAddressBookWithEverything();
+        Path filePath = testFolder.resolve("compact.json");
+
+        JsonAddressBookWriter.write(addressBook, filePath, true);
+
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("{\"crc32c\""));
+        AddressBook readBack = JsonAddressBookReader.read(filePath).toModelType();
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+        assertEquals(new JsonAdaptedTeam(addressBook.getTeamList().get(0)),
+                new JsonAdaptedTeam(readBack.getTeamList().get(0)));
+        assertEquals(1, readBack.getAuditLog().getEntries().size());
+    }
+
+    @Test
+    public void write_checksum_matchesDocumentAndFooter() throws Exception {
+        Path filePath = testFolder.resolve("checksum.json");
+
+        long checksum = JsonAddressBookWriter.write(getAddressBookWithEverything(), filePath, true);
+
+        String contents = Files.readString(filePath, StandardCharsets.UTF_8);
+        String footer = String.format(JsonAddressBookWriter.FOOTER_FORMAT, checksum);
+        assertTrue(contents.endsWith(footer));
+        CRC32C crc = new CRC32C();
+        crc.update(contents.substring(0, contents.length() - footer.length()).getBytes(StandardCharsets.UTF_8));
+        assertEquals(crc.getValue(), checksum);
+    }
+
+    @Test
+    public void write_existingFile_replacedWithoutLeftovers() throws Exception {
+        Path filePath = testFolder.resolve("replaced.json");
+        Files.writeString(filePath, "old contents that are longer than an empty address book would be".repeat(10));
+
+        JsonAddressBookWriter.write(new AddressBook(), filePath, true);
+
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath).toModelType());
+        try (var files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.toList());
+        }
+    }
+
+    @Test
+    public void write_missingParentFolder_created() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("ab.json");
+        JsonAddressBookWriter.write(new AddressBook(), filePath, false);
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath).toModelType());
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class ParallelPersonConverterTest {
+    private static final int PERSON_COUNT = 5000;
+
+    private static JsonAdaptedPerson adaptedPerson(int index, String name, String phone) {
+        return new JsonAdaptedPerson(String.format("E%04d", index), name, phone, "person" + index + "@example.com",
+                "Block " + index, "@person" + index, "1000.0", List.of(), List.of());
+    }
+
+    private static List<JsonAdaptedPerson> getAdaptedPersons() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            adaptedPersons.add(adaptedPerson(i, "Person " + i, "9" + (1000000 + i)));
+        }
+        return adaptedPersons;
+    }
+
+    @Test
+    public void convert_manyPersons_sameOrderAsInput() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = getAdaptedPersons();
+
+        List<Person> persons = ParallelPersonConverter.convert(adaptedPersons, false);
+
+        assertEquals(PERSON_COUNT, persons.size());
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            assertEquals(adaptedPersons.get(i).toModelType(), persons.get(i));
+        }
+    }
+
+    @Test
+    public void convert_emptyList_emptyResult() throws Exception {
+        assertEquals(List.of(), ParallelPersonConverter.convert(List.of(), false));
+    }
+
+    @Test
+    public void convert_severalInvalidPersons_firstInvalidPersonReported() {
+        List<JsonAdaptedPerson> adaptedPersons = getAdaptedPersons();
+        adaptedPersons.set(4900, adaptedPerson(4900, "R@chel", "91234567"));
+        adaptedPersons.set(2500, adaptedPerson(2500, "Rachel", "+651234"));
+        adaptedPersons.set(3000, adaptedPerson(3000, "R@chel", "91234567"));
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                    ParallelPersonConverter.convert(adaptedPersons, false));
+        }
+    }
+
+    @Test
+    public void convert_malformedSalary_runtimeExceptionPropagated() {
+        List<JsonAdaptedPerson> adaptedPersons = getAdaptedPersons();
+        adaptedPersons.set(10, new JsonAdaptedPerson("E0010", "Person Ten", "91234567", "ten@example.com",
+                "Block 10", "@ten", "fifty", List.of(), List.of()));
+        assertThrows(NumberFormatException.class, () -> ParallelPersonConverter.convert(adaptedPersons, false));
+    }
+}
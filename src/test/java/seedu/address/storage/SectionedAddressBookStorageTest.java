@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyAddressBook.Section;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+
+public class SectionedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AddressBook getAddressBookWithEverything() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addTeam(new Team("T0001", new TeamName("Core")).withLeader("E0000"));
+        addressBook.getAuditLog().addEntry("ADD", "Added person: Alice", LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        addressBook.getAuditLog().addEntry("DELETE", "Deleted person: Bob", LocalDateTime.of(2024, 1, 3, 3, 4, 5));
+        return addressBook;
+    }
+
+    @Test
+    public void getSectionFilePath() {
+        assertEquals(Path.of("data", "addressbook.persons.json"),
+                SectionedAddressBookStorage.getSectionFilePath(Path.of("data", "addressbook.json"), Section.PERSONS));
+        assertEquals(Path.of("addressbook.audit"),
+                SectionedAddressBookStorage.getSectionFilePath(Path.of("addressbook"), Section.AUDIT_LOG));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        SectionedAddressBookStorage storage = new SectionedAddressBookStorage(testFolder.resolve("ab.json"), false);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_singleFileOnly_readsSingleFile() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, false);
+
+        SectionedAddressBookStorage storage = new SectionedAddressBookStorage(filePath, false);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        SectionedAddressBookStorage storage = new SectionedAddressBookStorage(filePath, false);
+        AddressBook original = getAddressBookWithEverything();
+
+        storage.saveAddressBook(original);
+        for (Section section : Section.values()) {
+            assertTrue(Files.exists(SectionedAddressBookStorage.getSectionFilePath(filePath, section)));
+        }
+        assertFalse(Files.exists(filePath));
+        assertSameContents(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertSameContents(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_onlyPersonsChanged_otherSectionsNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        SectionedAddressBookStorage storage = new SectionedAddressBookStorage(filePath, false);
+        AddressBook original = getAddressBookWithEverything();
+        storage.saveAddressBook(original);
+
+        Path teamsPath = SectionedAddressBookStorage.getSectionFilePath(filePath, Section.TEAMS);
+        Path auditPath = SectionedAddressBookStorage.getSectionFilePath(filePath, Section.AUDIT_LOG);
+        Files.delete(teamsPath);
+        Files.delete(auditPath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(teamsPath));
+        assertFalse(Files.exists(auditPath));
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+
+        original.getAuditLog().addEntry("ADD", "Added person: Hoon", LocalDateTime.of(2024, 1, 4, 3, 4, 5));
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(teamsPath));
+        assertTrue(Files.exists(auditPath));
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesAllSections() throws Exception {
+        SectionedAddressBookStorage storage = new SectionedAddressBookStorage(testFolder.resolve("ab.json"), false);
+        AddressBook original = getAddressBookWithEverything();
+        storage.saveAddressBook(original);
+
+        Path otherPath = testFolder.resolve("other.json");
+        storage.saveAddressBook(original, otherPath);
+        assertSameContents(original, storage.readAddressBook(otherPath).get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_lastTeamRemoved_idNotReused() throws Exception {
+        SectionedAddressBookStorage storage = new SectionedAddressBookStorage(testFolder.resolve("ab.json"), false);
+        AddressBook original = getAddressBookWithEverything();
+        Team team = new Team("T0002", new TeamName("QA"));
+        original.addTeam(team);
+        original.removeTeam(team);
+
+        storage.saveAddressBook(original);
+        assertEquals("T0003", new AddressBook(storage.readAddressBook().get()).nextTeamId());
+    }
+
+    @Test
+    public void readAddressBook_invalidLastTeamId_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Files.writeString(SectionedAddressBookStorage.getSectionFilePath(filePath, Section.TEAMS),
+                "{ \"teams\" : [ ], \"lastTeamId\" : \"T1000000000\" }");
+        assertThrows(DataLoadingException.class, () ->
+                new SectionedAddressBookStorage(filePath, false).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonsFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Files.writeString(SectionedAddressBookStorage.getSectionFilePath(filePath, Section.PERSONS),
+                "{ \"persons\" : [ { \"name\" : \"R@chel\" } ] }");
+        assertThrows(DataLoadingException.class, () ->
+                new SectionedAddressBookStorage(filePath, false).readAddressBook());
+    }
+
+    private static void assertSameContents(AddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getTeamList().toString(), actual.getTeamList().toString());
+        // audit entries are read back in file order, as with a single json file
+        List<String> expectedEntries = new ArrayList<>(expected.getAuditLog().getEntries().stream()
+                .map(Object::toString).toList());
+        Collections.reverse(expectedEntries);
+        assertEquals(expectedEntries, actual.getAuditLog().getEntries().stream().map(Object::toString).toList());
+    }
+}
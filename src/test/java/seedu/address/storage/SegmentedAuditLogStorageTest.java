@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.audit.AuditLogEntry;
+
+public class SegmentedAuditLogStorageTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    @TempDir
+    public Path testFolder;
+
+    private static AuditLogEntry entry(int number) {
+        return new AuditLogEntry(TIME.plusMinutes(number), "ADD", "Entry " + number);
+    }
+
+    private static List<String> details(List<AuditLogEntry> entries) {
+        return entries.stream().map(AuditLogEntry::getDetails).toList();
+    }
+
+    private SegmentedAuditLogStorage createSmallSegmentStorage() {
+        // room for three entries per segment
+        return new SegmentedAuditLogStorage(testFolder.resolve("audit"), 250, Duration.ofDays(1));
+    }
+
+    @Test
+    public void getAuditLogDirectoryPath() {
+        assertEquals(Path.of("data", "addressbook.json.auditlog"),
+                SegmentedAuditLogStorage.getAuditLogDirectoryPath(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new SegmentedAuditLogStorage(testFolder, 0, Duration.ofDays(1)));
+        assertThrows(IllegalArgumentException.class, () ->
+                new SegmentedAuditLogStorage(testFolder, 100, Duration.ZERO));
+    }
+
+    @Test
+    public void readEntries_missingDirectory_empty() throws Exception {
+        SegmentedAuditLogStorage storage = new SegmentedAuditLogStorage(testFolder.resolve("missing"));
+        assertEquals(0, storage.getEntryCount());
+        assertTrue(storage.readEntries(0, 10).isEmpty());
+        assertFalse(Files.exists(testFolder.resolve("missing")));
+    }
+
+    @Test
+    public void appendAuditEntry_sizeLimit_rollsOverAndIndexes() throws Exception {
+        SegmentedAuditLogStorage storage = createSmallSegmentStorage();
+        for (int i = 1; i <= 10; i++) {
+            storage.appendAuditEntry(entry(i));
+        }
+
+        assertEquals(10, storage.getEntryCount());
+        assertTrue(Files.exists(storage.getSegmentFilePath(4)));
+        assertFalse(Files.exists(storage.getSegmentFilePath(5)));
+        assertEquals(3, Files.readAllLines(testFolder.resolve("audit")
+                .resolve(SegmentedAuditLogStorage.INDEX_FILE_NAME)).size());
+
+        assertEquals(List.of("Entry 10", "Entry 9", "Entry 8", "Entry 7"), details(storage.readEntries(0, 4)));
+        assertEquals(List.of("Entry 6", "Entry 5", "Entry 4", "Entry 3"), details(storage.readEntries(4, 4)));
+        assertEquals(List.of("Entry 2", "Entry 1"), details(storage.readEntries(8, 4)));
+        assertTrue(storage.readEntries(10, 4).isEmpty());
+    }
+
+    @Test
+    public void appendAuditEntry_ageLimit_rollsOver() throws Exception {
+        SegmentedAuditLogStorage storage =
+                new SegmentedAuditLogStorage(testFolder.resolve("audit"), 1 << 20, Duration.ofMinutes(2));
+        for (int i = 1; i <= 5; i++) {
+            storage.appendAuditEntry(entry(i));
+        }
+
+        // entries are a minute apart, so each segment spans less than two minutes
+        assertTrue(Files.exists(storage.getSegmentFilePath(3)));
+        assertEquals(List.of("Entry 5", "Entry 4", "Entry 3", "Entry 2", "Entry 1"),
+                details(storage.readEntries(0, 10)));
+    }
+
+    @Test
+    public void reopen_continuesFromStoredState() throws Exception {
+        SegmentedAuditLogStorage storage = createSmallSegmentStorage();
+        for (int i = 1; i <= 7; i++) {
+            storage.appendAuditEntry(entry(i));
+        }
+
+        SegmentedAuditLogStorage reopened = createSmallSegmentStorage();
+        assertEquals(7, reopened.getEntryCount());
+        reopened.appendAuditEntry(entry(8));
+        assertEquals(List.of("Entry 8", "Entry 7", "Entry 6"), details(reopened.readEntries(0, 3)));
+        assertEquals(8, createSmallSegmentStorage().getEntryCount());
+    }
+
+    @Test
+    public void reopen_incompleteLastEntry_dropped() throws Exception {
+        SegmentedAuditLogStorage storage = createSmallSegmentStorage();
+        for (int i = 1; i <= 4; i++) {
+            storage.appendAuditEntry(entry(i));
+        }
+        Files.writeString(storage.getSegmentFilePath(2), "{\"timestamp\":\"2024-01",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        SegmentedAuditLogStorage reopened = createSmallSegmentStorage();
+        assertEquals(4, reopened.getEntryCount());
+        reopened.appendAuditEntry(entry(5));
+        assertEquals(List.of("Entry 5", "Entry 4", "Entry 3"), details(reopened.readEntries(0, 3)));
+    }
+
+    @Test
+    public void reopen_missingIndex_rebuilt() throws Exception {
+        SegmentedAuditLogStorage storage = createSmallSegmentStorage();
+        for (int i = 1; i <= 10; i++) {
+            storage.appendAuditEntry(entry(i));
+        }
+        Files.delete(testFolder.resolve("audit").resolve(SegmentedAuditLogStorage.INDEX_FILE_NAME));
+
+        SegmentedAuditLogStorage reopened = createSmallSegmentStorage();
+        assertEquals(10, reopened.getEntryCount());
+        assertEquals(List.of("Entry 5", "Entry 4"), details(reopened.readEntries(5, 2)));
+        assertEquals(3, Files.readAllLines(testFolder.resolve("audit")
+                .resolve(SegmentedAuditLogStorage.INDEX_FILE_NAME)).size());
+    }
+
+    @Test
+    public void readEntries_corruptedSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAuditLogStorage storage = createSmallSegmentStorage();
+        for (int i = 1; i <= 10; i++) {
+            storage.appendAuditEntry(entry(i));
+        }
+        Files.writeString(storage.getSegmentFilePath(1), "not json\n");
+
+        assertEquals(List.of("Entry 10"), details(storage.readEntries(0, 1)));
+        assertThrows(DataLoadingException.class, () -> storage.readEntries(9, 1));
+    }
+}
@@ -1,15 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Config.SaveMode;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -65,4 +73,127 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_onExitMode_writtenOnlyOnFlush() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager onExit = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), SaveMode.ON_EXIT, 0);
+        AddressBook original = getTypicalAddressBook();
+
+        onExit.saveAddressBook(original);
+        original.addPerson(HOON);
+        onExit.saveAddressBook(original);
+        assertFalse(Files.exists(getTempFilePath("ab")));
+
+        onExit.flush();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(original, new AddressBook(onExit.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_intervalMode_burstCoalescedIntoLatestSnapshot() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager interval = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), SaveMode.INTERVAL, 60_000);
+        AddressBook original = getTypicalAddressBook();
+
+        interval.saveAddressBook(original);
+        original.addPerson(HOON);
+        interval.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.removePerson(ALICE); // after the last save, so must not be written
+
+        interval.flush();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(expected, new AddressBook(interval.readAddressBook().get()));
+
+        interval.flush();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void flush_writeFails_throwsIoException() {
+        JsonAddressBookStorage failing = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                    throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        StorageManager onExit = new StorageManager(failing,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), SaveMode.ON_EXIT, 0);
+
+        assertThrows(IOException.class, () -> {
+            onExit.saveAddressBook(getTypicalAddressBook());
+            onExit.flush();
+        });
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFailed_nextSaveSucceedsAndRetriesIt() throws Exception {
+        FailingOnceAddressBookStorage addressBookStorage = new FailingOnceAddressBookStorage(getTempFilePath("ab"));
+        StorageManager interval = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), SaveMode.INTERVAL, 0);
+        AddressBook original = getTypicalAddressBook();
+
+        interval.saveAddressBook(original);
+        addressBookStorage.failed.await();
+        original.addPerson(HOON);
+        interval.saveAddressBook(original);
+
+        interval.flush();
+        assertEquals(original, new AddressBook(interval.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_failedSnapshotWritten() throws Exception {
+        FailingOnceAddressBookStorage addressBookStorage = new FailingOnceAddressBookStorage(getTempFilePath("ab"));
+        StorageManager interval = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), SaveMode.INTERVAL, 0);
+        AddressBook original = getTypicalAddressBook();
+
+        interval.saveAddressBook(original);
+        addressBookStorage.failed.await();
+
+        interval.flush();
+        assertEquals(original, new AddressBook(interval.readAddressBook().get()));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that fails its first write of the address book.
+     */
+    private static class FailingOnceAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch failed = new CountDownLatch(1);
+
+        FailingOnceAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (failed.getCount() > 0) {
+                failed.countDown();
+                throw new IOException("disk full");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts how often it writes the address book.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
 }
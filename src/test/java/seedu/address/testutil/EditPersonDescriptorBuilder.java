@@ -88,7 +88,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Salary} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withSalary(double salary) {
-        descriptor.setSalary(new Salary(salary));
+        descriptor.setSalary(Salary.ofDollars(salary));
         return this;
     }
 
@@ -1,10 +1,8 @@
 package seedu.address.testutil;
 
-import java.lang.reflect.Field;
 import java.util.HashSet;
 import java.util.Set;
 
-import seedu.address.logic.parser.AddCommandParser;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.GitHubUsername;
@@ -21,6 +19,7 @@ import seedu.address.model.util.SampleDataUtil;
  * A utility class to help with building Person objects.
  */
 public class PersonBuilder {
+    public static final String DEFAULT_ID = "E0000";
     public static final String DEFAULT_NAME = "Amy Bee";
     public static final String DEFAULT_PHONE = "85355255";
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
@@ -44,26 +43,13 @@ public class PersonBuilder {
      * Creates a {@code PersonBuilder} with the default details.
      */
     public PersonBuilder() {
-        Field field;
-        try {
-            field = AddCommandParser.class.getDeclaredField("nextId");
-        } catch (NoSuchFieldException e) {
-            throw new RuntimeException(e);
-        }
-
-        field.setAccessible(true);
-        try {
-            id = String.format("E%04d", field.getLong(null));
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-
+        id = DEFAULT_ID;
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         gitHubUsername = new GitHubUsername(DEFAULT_GITHUBUSERNAME);
-        salary = new Salary(DEFAULT_SALARY);
+        salary = Salary.ofDollars(DEFAULT_SALARY);
         teamIds = new HashSet<>();
         tags = new HashSet<>();
     }
@@ -72,20 +58,7 @@ public class PersonBuilder {
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(Person personToCopy) {
-        Field field;
-        try {
-            field = AddCommandParser.class.getDeclaredField("nextId");
-        } catch (NoSuchFieldException e) {
-            throw new RuntimeException(e);
-        }
-
-        field.setAccessible(true);
-        try {
-            id = String.format("E%04d", field.getLong(null));
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-
+        id = DEFAULT_ID;
         name = personToCopy.name();
         phone = personToCopy.phone();
         email = personToCopy.email();
@@ -100,20 +73,7 @@ public class PersonBuilder {
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(Person personToCopy, boolean retainsId) {
-        Field field;
-        try {
-            field = AddCommandParser.class.getDeclaredField("nextId");
-        } catch (NoSuchFieldException e) {
-            throw new RuntimeException(e);
-        }
-
-        field.setAccessible(true);
-        try {
-            id = String.format("E%04d", field.getLong(null));
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-
+        id = DEFAULT_ID;
         if (retainsId) {
             id = personToCopy.id();
         }
@@ -206,7 +166,7 @@ public class PersonBuilder {
      * Sets the {@code Salary} of the {@code Person} that we are building.
      */
     public PersonBuilder withSalary(double salary) {
-        this.salary = new Salary(salary);
+        this.salary = Salary.ofDollars(salary);
         return this;
     }
 
@@ -151,7 +151,7 @@ public class TeamBuilder {
     public TeamBuilder withSubteams(Team... subteams) {
         Subteams list = new Subteams();
         for (Team t : subteams) {
-            list.add(t.getId(), this.id);
+            list.add(t.getId());
         }
         this.subteams = list;
         return this;